@@ -0,0 +1,169 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 固定の同時ユーザー数で画面を巡回し、スループットとレスポンス時間の分布を出力する負荷試験.
+ *
+ * <p>各ユーザーは待ち時間なしで {@code paths} を順に取得し続ける（クローズドモデル）。ウォームアップ中の
+ * 結果は捨て、計測期間のリクエストだけを集計する。依存ライブラリなしで {@code java LoadTest.java} で実行できる。
+ *
+ * <pre>
+ * java LoadTest.java http://localhost:8080 100 15 60 /dashboard /work-records /payrolls
+ *                    (URL)                 (同時ユーザー数) (ウォームアップ秒) (計測秒) (パス...)
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("usage: java LoadTest.java <baseUrl> <users> <warmupSeconds> "
+                    + "<durationSeconds> <path>...");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        int users = Integer.parseInt(args[1]);
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[3])).toNanos();
+        List<URI> uris = new ArrayList<>();
+        for (int i = 4; i < args.length; i++) {
+            uris.add(URI.create(baseUrl + args[i]));
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmupNanos;
+        long measureToNanos = measureFromNanos + durationNanos;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(users);
+        User[] workers = new User[users];
+        for (int i = 0; i < users; i++) {
+            workers[i] = new User(client, uris, i, measureFromNanos, measureToNanos, running,
+                    finished);
+            Thread thread = new Thread(workers[i], "load-user-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        Thread.sleep(Duration.ofNanos(measureToNanos - System.nanoTime()).toMillis() + 1);
+        running.set(false);
+        finished.await();
+
+        int count = 0;
+        int errors = 0;
+        for (User worker : workers) {
+            count += worker.count;
+            errors += worker.errors;
+        }
+        long[] latencies = new long[count];
+        int offset = 0;
+        for (User worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        double seconds = durationNanos / 1e9;
+        double sum = 0;
+        for (long latency : latencies) {
+            sum += latency;
+        }
+        System.out.printf(Locale.ROOT,
+                "users=%d requests=%d errors=%d (%.2f%%) throughput=%.1f req/s "
+                        + "avg=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                users, count, errors, count > 0 ? 100.0 * errors / count : 0.0,
+                count / seconds, count > 0 ? sum / count / 1e6 : 0.0,
+                percentile(latencies, 50), percentile(latencies, 95),
+                percentile(latencies, 99),
+                count > 0 ? latencies[count - 1] / 1e6 : 0.0);
+    }
+
+    private static double percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    /**
+     * 1ユーザー分の巡回と計測期間内の結果.
+     */
+    private static final class User implements Runnable {
+
+        private final HttpClient client;
+        private final List<URI> uris;
+        private final long measureFromNanos;
+        private final long measureToNanos;
+        private final AtomicBoolean running;
+        private final CountDownLatch finished;
+        private int next;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        User(HttpClient client, List<URI> uris, int offset, long measureFromNanos,
+                long measureToNanos, AtomicBoolean running, CountDownLatch finished) {
+            this.client = client;
+            this.uris = uris;
+            this.next = offset % uris.size();
+            this.measureFromNanos = measureFromNanos;
+            this.measureToNanos = measureToNanos;
+            this.running = running;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running.get()) {
+                    URI uri = uris.get(next);
+                    next = (next + 1) % uris.size();
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .timeout(REQUEST_TIMEOUT)
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    boolean failed;
+                    try {
+                        HttpResponse<Void> response = client.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                        failed = response.statusCode() >= 400;
+                    } catch (java.io.IOException e) {
+                        failed = true;
+                    }
+                    long end = System.nanoTime();
+                    // 計測期間内に開始・完了したリクエストだけを数える
+                    if (start >= measureFromNanos && end <= measureToNanos) {
+                        record(end - start, failed);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        private void record(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (failed) {
+                errors++;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# プラットフォームスレッドと仮想スレッドで同じ負荷をかけ、スループットとレスポンス時間を比較する.
+#
+# 各モードでアプリを起動し、DB・外部API呼び出し相当の待ち時間（LATENCY_MILLIS）を挟んだ状態で
+# LoadTest.java を実行する。仮想スレッドのモードは Java 21 以上でのみ実行する。
+#
+# 使い方: scripts/load-test/compare-threading.sh
+# 主な環境変数:
+#   USERS=100 WARMUP_SECONDS=15 DURATION_SECONDS=60 LATENCY_MILLIS=50
+#   TOMCAT_THREADS=200  プラットフォームスレッドのモードの Tomcat 最大スレッド数
+#   HEAP=512m           小さいインスタンスを想定したヒープ上限
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+USERS=${USERS:-100}
+WARMUP_SECONDS=${WARMUP_SECONDS:-15}
+DURATION_SECONDS=${DURATION_SECONDS:-60}
+LATENCY_MILLIS=${LATENCY_MILLIS:-50}
+TOMCAT_THREADS=${TOMCAT_THREADS:-200}
+HEAP=${HEAP:-512m}
+PORT=${PORT:-18080}
+PATHS=${PATHS:-"/dashboard /work-records /payrolls /employees"}
+RESULT_DIR=target/load-test
+
+java_feature=$(java -XshowSettings:properties -version 2>&1 \
+    | awk -F'= ' '/java.specification.version/ {print $2}')
+build_profile=""
+if [ "${java_feature}" -ge 21 ]; then
+    build_profile="-Pjdk21"
+fi
+
+mvn -B -q ${build_profile} -DskipTests package
+jar=$(ls target/kintai-system-*.jar | grep -v original | head -n 1)
+mkdir -p "${RESULT_DIR}"
+
+run() {
+    local mode=$1
+    shift
+    local log="${RESULT_DIR}/${mode}-app.log"
+    java -Xmx"${HEAP}" -jar "${jar}" --server.port="${PORT}" \
+        --app.load-test.backend-latency-millis="${LATENCY_MILLIS}" \
+        --app.scheduling.enabled=false \
+        "$@" > "${log}" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} 2>/dev/null || true' EXIT
+    for _ in $(seq 1 60); do
+        if curl -s -o /dev/null "http://localhost:${PORT}/login"; then
+            break
+        fi
+        sleep 1
+    done
+
+    echo "== ${mode}"
+    # shellcheck disable=SC2086
+    java scripts/load-test/LoadTest.java "http://localhost:${PORT}" "${USERS}" \
+        "${WARMUP_SECONDS}" "${DURATION_SECONDS}" ${PATHS} \
+        | tee "${RESULT_DIR}/${mode}.txt"
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform --spring.profiles.active=prod --server.tomcat.threads.max="${TOMCAT_THREADS}"
+if [ "${java_feature}" -ge 21 ]; then
+    run virtual --spring.profiles.active=prod,virtual-threads
+else
+    echo "== virtual: skipped (Java ${java_feature}; Java 21 or later is required)"
+fi
+
+echo "Results: ${RESULT_DIR}/"
@@ -0,0 +1,93 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.HourlyWage;
+import com.example.attendance.domain.HourlyWageIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 適用単価の検索（勤務形態×学校種別×勤務日）のベンチマーク.
+ *
+ * <p>{@link #linearScan} は時給マスタ全件から条件に合う行を探す比較用の実装。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HourlyWageIndexBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+    private static final LocalDate FIRST_FROM = LocalDate.of(2020, 4, 1);
+
+    @Param({"4", "50"})
+    private int workTypeCount;
+
+    @Param({"1", "6"})
+    private int revisions;
+
+    private List<HourlyWage> wages;
+    private HourlyWageIndex index;
+    private int[] workTypeIds;
+    private int[] studentLevelIds;
+    private LocalDate[] workDates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        wages = generator.hourlyWages(workTypeCount, revisions, FIRST_FROM);
+        index = HourlyWageIndex.build(wages);
+
+        workTypeIds = new int[QUERY_COUNT];
+        studentLevelIds = new int[QUERY_COUNT];
+        workDates = new LocalDate[QUERY_COUNT];
+        int days = revisions * 365;
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            workTypeIds[i] = 1 + generator.nextInt(workTypeCount);
+            studentLevelIds[i] = 1 + generator.nextInt(SyntheticDataGenerator.STUDENT_LEVEL_COUNT);
+            workDates[i] = FIRST_FROM.plusDays(generator.nextInt(days));
+        }
+    }
+
+    @Benchmark
+    public int index() {
+        int i = nextQuery();
+        return index.findWage(workTypeIds[i], studentLevelIds[i], workDates[i]);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int i = nextQuery();
+        LocalDate workDate = workDates[i];
+        return wages.stream()
+                .filter(w -> w.getWorkTypeId() == workTypeIds[i]
+                        && Objects.equals(w.getStudentLevelId(), studentLevelIds[i])
+                        && !w.getEffectiveFrom().isAfter(workDate)
+                        && (w.getEffectiveTo() == null || !w.getEffectiveTo().isBefore(workDate)))
+                .mapToInt(HourlyWage::getWage)
+                .findFirst()
+                .orElse(HourlyWageIndex.NOT_FOUND);
+    }
+
+    private int nextQuery() {
+        int i = cursor;
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return i;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.HourlyWage;
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.service.LocalMasterDataChangeBus;
+import com.example.attendance.service.MasterDataService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * マスタ参照のベンチマーク（4スレッド同時）.
+ *
+ * <p>1リクエスト分のマスタ参照（勤務形態の一覧・ID引き、時給のID引き）を、{@link #snapshot} は
+ * スナップショットからロックなしで、{@link #synchronizedScan} は従来方式（サービスのロックを
+ * 取ってリストを走査・並べ替え）で行う。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MasterDataSnapshotBenchmark {
+
+    private MasterDataService masterDataService;
+    private List<WorkType> workTypes;
+    private List<HourlyWage> hourlyWages;
+    private final Object lock = new Object();
+
+    @Setup
+    public void setUp() {
+        masterDataService = new MasterDataService(new LocalMasterDataChangeBus(),
+                new MetricsRegistry());
+        MasterDataSnapshot snapshot = masterDataService.current();
+        workTypes = new ArrayList<>(snapshot.getWorkTypes());
+        hourlyWages = new ArrayList<>(snapshot.getHourlyWages());
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        MasterDataSnapshot snapshot = masterDataService.current();
+        blackhole.consume(snapshot.getWorkTypes());
+        blackhole.consume(snapshot.findWorkType(3));
+        blackhole.consume(snapshot.findHourlyWage(5));
+    }
+
+    @Benchmark
+    public void synchronizedScan(Blackhole blackhole) {
+        synchronized (lock) {
+            blackhole.consume(workTypes.stream()
+                    .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                    .toList());
+        }
+        synchronized (lock) {
+            blackhole.consume(workTypes.stream().filter(w -> w.getId() == 3).findFirst());
+        }
+        synchronized (lock) {
+            blackhole.consume(hourlyWages.stream().filter(w -> w.getId() == 5).findFirst());
+        }
+    }
+}
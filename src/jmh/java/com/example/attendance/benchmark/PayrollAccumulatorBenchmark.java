@@ -0,0 +1,97 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.PayrollAccumulator;
+import com.example.attendance.domain.WorkMinuteBuckets;
+import com.example.attendance.dto.WorkRecordDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1従業員・1か月分の給与集計ループのベンチマーク.
+ *
+ * <p>{@code -prof gc} を付けて実行し、{@code gc.alloc.rate.norm} が 0 B/op（誤差範囲）であることで
+ * 集計ループがオブジェクトを生成していないことを確認する。
+ *
+ * <p>勤務記録は保存時と同じく時間帯別の分（{@link WorkMinuteBuckets}）を算出済みにしておく。
+ * {@link #aggregateMonthUnbucketed} は未算出の勤務記録を集計時に分割する場合の比較用。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollAccumulatorBenchmark {
+
+    private static final int HOURLY_WAGE = 1500;
+
+    @Param({"1", "3"})
+    private int recordsPerDay;
+
+    private List<WorkRecordDto> records;
+    private List<WorkRecordDto> unbucketedRecords;
+    private PayrollAccumulator accumulator;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>();
+        unbucketedRecords = new ArrayList<>();
+        LocalDate month = LocalDate.of(2024, 1, 1);
+        for (int day = 0; day < 22; day++) {
+            LocalDate workDate = month.plusDays(day);
+            for (int i = 0; i < recordsPerDay; i++) {
+                int startHour = 9 + i * 4;
+                WorkRecordDto record = WorkRecordDto.builder()
+                        .id("wr-" + day + "-" + i)
+                        .employeeId("emp-001")
+                        .workDate(workDate)
+                        .startTime(workDate.atTime(startHour, 0))
+                        .endTime(workDate.atTime(startHour + 3 + (day % 3), 30))
+                        .build();
+                unbucketedRecords.add(record);
+                WorkRecordDto bucketed = WorkRecordDto.builder()
+                        .id(record.getId())
+                        .employeeId(record.getEmployeeId())
+                        .workDate(record.getWorkDate())
+                        .startTime(record.getStartTime())
+                        .endTime(record.getEndTime())
+                        .build();
+                WorkMinuteBuckets.apply(bucketed);
+                records.add(bucketed);
+            }
+        }
+        accumulator = new PayrollAccumulator(480, 125, 25, 135);
+    }
+
+    @Benchmark
+    public long aggregateMonth() {
+        accumulator.reset();
+        for (int i = 0; i < records.size(); i++) {
+            accumulator.addRecord(records.get(i), HOURLY_WAGE);
+        }
+        return accumulator.getTotalPaymentYen();
+    }
+
+    @Benchmark
+    public long aggregateMonthUnbucketed() {
+        accumulator.reset();
+        for (int i = 0; i < unbucketedRecords.size(); i++) {
+            accumulator.addRecord(unbucketedRecords.get(i), HOURLY_WAGE);
+        }
+        return accumulator.getTotalPaymentYen();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.archive.PayrollArchive;
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.domain.HourlyWageIndex;
+import com.example.attendance.domain.PayrollAccumulator;
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.repository.WorkRecordRepository;
+import com.example.attendance.service.HourlyWageService;
+import com.example.attendance.service.LocalMasterDataChangeBus;
+import com.example.attendance.service.MasterDataService;
+import com.example.attendance.service.PayrollCalculationResult;
+import com.example.attendance.service.PayrollCalculationService;
+import com.example.attendance.service.WorkRecordService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 勤務記録（{@link WorkRecordDto} のリスト）からの給与計算のベンチマーク.
+ *
+ * <p>{@link #calculateEmployee} は1従業員分の計算（単価解決・集計・DTO生成）、
+ * {@link #calculateMonth} は対象月の全従業員分の計算（従業員ごとの振り分けと ForkJoin 並列計算を含む）。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollCalculationBenchmark {
+
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2025, 6);
+
+    @Param({"100", "2000"})
+    private int employeeCount;
+
+    @Param({"20", "60"})
+    private int recordsPerEmployee;
+
+    private AuditLog auditLog;
+    private PayrollCalculationService payrollCalculationService;
+    private HourlyWageIndex wageIndex;
+    private List<WorkRecordDto> employeeRecords;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        List<WorkRecordDto> records = generator.workRecords(employeeCount, TARGET_MONTH,
+                recordsPerEmployee, 4);
+        Path dataDirectory = Files.createTempDirectory("payroll-benchmark");
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        auditLog = new AuditLog(dataDirectory.resolve("audit"), 10000, 500, 200, 50, false,
+                ZoneId.of("Asia/Tokyo"), metricsRegistry);
+        WorkRecordService workRecordService = new WorkRecordService(
+                new WorkRecordRepository(dataDirectory.resolve("work-records.jsonl.gz")), auditLog);
+        workRecordService.saveAllSynced(records);
+        HourlyWageService hourlyWageService = new HourlyWageService(auditLog,
+                new MasterDataService(new LocalMasterDataChangeBus(), metricsRegistry));
+
+        payrollCalculationService = new PayrollCalculationService(workRecordService,
+                hourlyWageService, new PayrollArchive(dataDirectory.resolve("archive"), 64),
+                metricsRegistry, 0, 1500, 480, 125, 25, 135);
+        wageIndex = hourlyWageService.currentIndex();
+        employeeRecords = workRecordService.findByEmployeeAndMonth("emp-00001", TARGET_MONTH);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        auditLog.shutdown();
+    }
+
+    /**
+     * スレッドごとにアキュムレータを使い回す（計算サービスの ForkJoin 葉タスクと同じ使い方）.
+     */
+    @State(Scope.Thread)
+    public static class ThreadAccumulator {
+        PayrollAccumulator accumulator;
+
+        @Setup
+        public void setUp(PayrollCalculationBenchmark benchmark) {
+            accumulator = benchmark.payrollCalculationService.newAccumulator();
+        }
+    }
+
+    @Benchmark
+    public PayrollDto calculateEmployee(ThreadAccumulator state) {
+        return payrollCalculationService.calculateEmployee("emp-00001", employeeRecords,
+                TARGET_MONTH, wageIndex, state.accumulator);
+    }
+
+    @Benchmark
+    public PayrollCalculationResult calculateMonth() {
+        return payrollCalculationService.calculate(TARGET_MONTH);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.view.FragmentRenderCache;
+import com.example.attendance.view.FragmentRenderCache.PayrollDetailKey;
+import com.example.attendance.view.FragmentRenderCache.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 給与明細の本体（{@code payrolls/detail-card}）の描画のベンチマーク.
+ *
+ * <p>{@link #render} は毎回テンプレートを描画し（テンプレートキャッシュ有効）、{@link #cached} は
+ * {@link FragmentRenderCache} に保持した描画結果を返す（締め済み月の明細の2回目以降の表示）。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollDetailRenderBenchmark {
+
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2025, 6);
+
+    /** 1か月の勤務記録数（明細の勤務履歴の行数）. */
+    @Param({"20", "60"})
+    private int recordCount;
+
+    private SpringTemplateEngine templateEngine;
+    private FragmentRenderCache fragmentRenderCache;
+    private PayrollDto payroll;
+    private PayrollDetailKey key;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        List<WorkRecordDto> records = generator.workRecords(1, TARGET_MONTH, recordCount, 5);
+        records.forEach(record -> record.setWorkHours(
+                Duration.between(record.getStartTime(), record.getEndTime())
+                        .toMinutes() / 60.0));
+        payroll = generator.payrolls(1, TARGET_MONTH).get(0);
+        payroll.setWorkRecords(records);
+        key = new PayrollDetailKey(TARGET_MONTH, payroll.getEmployeeId(), "archived-1");
+        fragmentRenderCache = new FragmentRenderCache(16384, new MetricsRegistry());
+        fragmentRenderCache.get(Region.PAYROLL_DETAIL, key, this::renderCard);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderCard();
+    }
+
+    @Benchmark
+    public String cached() {
+        return fragmentRenderCache.get(Region.PAYROLL_DETAIL, key, this::renderCard);
+    }
+
+    private String renderCard() {
+        Context context = new Context();
+        context.setVariable("payroll", payroll);
+        return templateEngine.process("payrolls/detail-card", context);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.dto.PayrollDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.Writer;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 給与一覧（DTO → 画面）の描画のベンチマーク.
+ *
+ * <p>本番と同じ SpringEL 評価・テンプレートキャッシュ有効の条件で {@code payrolls/list} を描画する。
+ * サーブレットコンテキストがないため、リンクのコンテキストパスのみ空文字に置き換えている。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollListRenderBenchmark {
+
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2025, 6);
+
+    @Param({"20", "500"})
+    private int payrollCount;
+
+    private SpringTemplateEngine templateEngine;
+    private List<PayrollDto> payrolls;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        templateEngine.setLinkBuilder(new StandardLinkBuilder() {
+            @Override
+            protected String computeContextPath(IExpressionContext context, String base,
+                    Map<String, Object> parameters) {
+                return "";
+            }
+        });
+        payrolls = new SyntheticDataGenerator(42).payrolls(payrollCount, TARGET_MONTH);
+    }
+
+    @Benchmark
+    public void render() {
+        Context context = new Context();
+        context.setVariable("payrolls", payrolls);
+        context.setVariable("targetMonth", TARGET_MONTH);
+        context.setVariable("userRole", "ADMIN");
+        context.setVariable("isAdmin", true);
+        context.setVariable("userName", "管理者");
+        templateEngine.process("payrolls/list", context, Writer.nullWriter());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.security.CurrentUser;
+import com.example.attendance.security.SessionTokenCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 署名付き Cookie セッションのベンチマーク.
+ *
+ * <p>{@link #verifyValid} はリクエストごとに行う署名の検証、{@link #verifyTampered} は改ざんされた
+ * Cookie の拒否、{@link #encode} は期限延長時の再発行。{@link #serverSessionLookup} は
+ * サーバー側セッション（セッションIDでのマップ参照）の比較用。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionTokenBenchmark {
+
+    private static final int SESSION_COUNT = 10_000;
+
+    private SessionTokenCodec codec;
+    private CurrentUser user;
+    private long now;
+    private String token;
+    private String tamperedToken;
+    private Map<String, CurrentUser> sessions;
+    private String sessionId;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        byte[] key = new byte[SessionTokenCodec.MIN_KEY_LENGTH];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) generator.nextInt(256);
+        }
+        codec = new SessionTokenCodec(key);
+        user = new CurrentUser(CurrentUser.ROLE_USER, "emp-001");
+        now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        token = codec.encode(user, now + TimeUnit.HOURS.toSeconds(8));
+        char last = token.charAt(token.length() - 1);
+        tamperedToken = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        sessions = new ConcurrentHashMap<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            sessionId = UUID.randomUUID().toString();
+            sessions.put(sessionId, user);
+        }
+    }
+
+    @Benchmark
+    public Object verifyValid() {
+        return codec.decode(token, now);
+    }
+
+    @Benchmark
+    public Object verifyTampered() {
+        return codec.decode(tamperedToken, now);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(user, now);
+    }
+
+    @Benchmark
+    public CurrentUser serverSessionLookup() {
+        return sessions.get(sessionId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.Student;
+import com.example.attendance.domain.StudentNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * イベントタイトルから抽出した生徒名の解決のベンチマーク.
+ *
+ * <p>{@link #exact} は名簿と表記（空白）だけが異なる名前、{@link #fuzzy} は敬称付きで完全一致しない名前を
+ * 解決する。{@link #linearScan} は名簿全件の名前と完全一致で比較する従来方式の比較用。
+ * {@code -prof gc} を付けると完全一致の検索でオブジェクトを生成していないことを確認できる。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentNameIndexBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+    private static final double MIN_SCORE = 0.6;
+
+    @Param({"1000", "20000"})
+    private int studentCount;
+
+    private List<Student> students;
+    private StudentNameIndex index;
+    private String[] exactNames;
+    private String[] fuzzyNames;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        students = generator.students(studentCount);
+        index = StudentNameIndex.build(students);
+
+        exactNames = new String[QUERY_COUNT];
+        fuzzyNames = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String name = students.get(generator.nextInt(studentCount)).getName();
+            exactNames[i] = name.replace(" ", "");
+            fuzzyNames[i] = name.replace(" ", "") + "さん";
+        }
+    }
+
+    @Benchmark
+    public Student exact() {
+        return index.resolve(exactNames[nextQuery()], MIN_SCORE);
+    }
+
+    @Benchmark
+    public Student fuzzy() {
+        return index.resolve(fuzzyNames[nextQuery()], MIN_SCORE);
+    }
+
+    @Benchmark
+    public Student linearScan() {
+        String name = exactNames[nextQuery()];
+        for (Student student : students) {
+            if (student.getName().replace(" ", "").equals(name)) {
+                return student;
+            }
+        }
+        return null;
+    }
+
+    private int nextQuery() {
+        int i = cursor;
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return i;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.HourlyWage;
+import com.example.attendance.domain.RateType;
+import com.example.attendance.domain.Student;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.dto.WorkRecordDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ベンチマーク用の合成データ生成.
+ *
+ * <p>同じシードからは常に同じデータを生成するため、実行間・ブランチ間で結果を比較できる。
+ */
+public final class SyntheticDataGenerator {
+
+    /** 実運用の勤務形態キーワード. */
+    static final String[] BASE_KEYWORDS = {"個別", "集団", "自習", "事務"};
+
+    /** 学校種別ID（小学生・中学生・高校生）. */
+    static final int STUDENT_LEVEL_COUNT = 3;
+
+    private static final String[] FAMILY_NAMES = {"山田", "佐藤", "鈴木", "高橋", "田中", "伊藤"};
+    private static final String[] GIVEN_NAMES = {"太郎", "花子", "一郎", "美咲", "翔", "結衣"};
+    private static final String KANA = "あいうえおかきくけこさしすせそたちつてとなにぬねの";
+
+    private final SplittableRandom random;
+
+    public SyntheticDataGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 勤務形態マスタ。先頭4件は実運用のキーワードで、以降は既存キーワードを接頭辞に持つ派生キーワード.
+     */
+    public List<WorkType> workTypes(int count) {
+        List<WorkType> workTypes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String keyword = i < BASE_KEYWORDS.length
+                    ? BASE_KEYWORDS[i]
+                    : BASE_KEYWORDS[i % BASE_KEYWORDS.length] + "特別" + i;
+            workTypes.add(WorkType.builder()
+                    .id(i + 1)
+                    .name("勤務形態" + (i + 1))
+                    .calendarKeyword(keyword)
+                    .payrollTarget(true)
+                    .rateType(RateType.STUDENT_LEVEL_BASED)
+                    .active(true)
+                    .build());
+        }
+        return workTypes;
+    }
+
+    /**
+     * カレンダーイベントタイトル。約1割はどの勤務形態にも一致しない.
+     */
+    public String[] eventTitles(List<WorkType> workTypes, int count) {
+        String[] titles = new String[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(10) == 0) {
+                titles[i] = "面談（" + studentName() + "）";
+                continue;
+            }
+            String keyword = workTypes.get(random.nextInt(workTypes.size())).getCalendarKeyword();
+            switch (random.nextInt(3)) {
+                case 0 -> titles[i] = keyword + "（" + studentName() + "）";
+                case 1 -> titles[i] = keyword + " (" + studentName() + ")";
+                default -> titles[i] = keyword;
+            }
+        }
+        return titles;
+    }
+
+    /**
+     * 時給マスタ。勤務形態×学校種別ごとに、年度単位の改定履歴を {@code revisions} 世代持つ.
+     */
+    public List<HourlyWage> hourlyWages(int workTypeCount, int revisions, LocalDate firstFrom) {
+        List<HourlyWage> wages = new ArrayList<>();
+        int id = 1;
+        for (int workTypeId = 1; workTypeId <= workTypeCount; workTypeId++) {
+            for (int level = 1; level <= STUDENT_LEVEL_COUNT; level++) {
+                for (int revision = 0; revision < revisions; revision++) {
+                    LocalDate from = firstFrom.plusYears(revision);
+                    LocalDate to = revision == revisions - 1
+                            ? null
+                            : from.plusYears(1).minusDays(1);
+                    wages.add(HourlyWage.builder()
+                            .id(id++)
+                            .workTypeId(workTypeId)
+                            .studentLevelId(level)
+                            .wage(1200 + workTypeId * 100 + level * 300 + revision * 50)
+                            .effectiveFrom(from)
+                            .effectiveTo(to)
+                            .build());
+                }
+            }
+        }
+        return wages;
+    }
+
+    /**
+     * 対象月の勤務記録。従業員ごとに平日へ {@code recordsPerEmployee} 件を割り振る
+     * （1日に複数コマ、残業になる日を含む）.
+     */
+    public List<WorkRecordDto> workRecords(int employeeCount, YearMonth month,
+            int recordsPerEmployee, int workTypeCount) {
+        List<LocalDate> weekdays = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                weekdays.add(date);
+            }
+        }
+
+        List<WorkRecordDto> records = new ArrayList<>(employeeCount * recordsPerEmployee);
+        for (int e = 1; e <= employeeCount; e++) {
+            String employeeId = String.format("emp-%05d", e);
+            String employeeName = FAMILY_NAMES[e % FAMILY_NAMES.length] + " "
+                    + GIVEN_NAMES[(e / FAMILY_NAMES.length) % GIVEN_NAMES.length];
+            for (int i = 0; i < recordsPerEmployee; i++) {
+                LocalDate workDate = weekdays.get(i % weekdays.size());
+                int slot = i / weekdays.size();
+                LocalDateTime start = workDate.atTime(9 + slot * 5, 0);
+                int minutes = 90 + random.nextInt(8) * 60;
+                records.add(WorkRecordDto.builder()
+                        .id(employeeId + "-" + month + "-wr-" + i)
+                        .employeeId(employeeId)
+                        .employeeName(employeeName)
+                        .workDate(workDate)
+                        .startTime(start)
+                        .endTime(start.plusMinutes(minutes))
+                        .workTypeId(1 + random.nextInt(workTypeCount))
+                        .studentLevelId(1 + random.nextInt(STUDENT_LEVEL_COUNT))
+                        .googleEventId(employeeId + "-" + month + "-ev-" + i)
+                        .createdAt(start.plusMinutes(minutes + 5))
+                        .build());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 在籍中の生徒名簿。名前は「姓 名」で、姓名の組み合わせが尽きたら名にかなを付けて一意にする.
+     */
+    public List<Student> students(int count) {
+        int combinations = FAMILY_NAMES.length * GIVEN_NAMES.length;
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder()
+                    .append(FAMILY_NAMES[i % FAMILY_NAMES.length])
+                    .append(' ')
+                    .append(GIVEN_NAMES[(i / FAMILY_NAMES.length) % GIVEN_NAMES.length]);
+            for (int n = i / combinations; n > 0; n /= KANA.length()) {
+                name.append(KANA.charAt(n % KANA.length()));
+            }
+            students.add(Student.builder()
+                    .id(String.format("stu-%05d", i + 1))
+                    .name(name.toString())
+                    .studentLevelId(1 + random.nextInt(STUDENT_LEVEL_COUNT))
+                    .active(true)
+                    .build());
+        }
+        return students;
+    }
+
+    /**
+     * 給与一覧画面に渡す給与計算結果.
+     */
+    public List<PayrollDto> payrolls(int count, YearMonth month) {
+        List<PayrollDto> payrolls = new ArrayList<>(count);
+        for (int e = 1; e <= count; e++) {
+            double regularHours = 80 + random.nextInt(80);
+            double overtimeHours = random.nextInt(20);
+            double regularPayment = regularHours * 1500;
+            double overtimePayment = overtimeHours * 1875;
+            payrolls.add(PayrollDto.builder()
+                    .employeeId(String.format("emp-%05d", e))
+                    .employeeName(FAMILY_NAMES[e % FAMILY_NAMES.length] + " "
+                            + GIVEN_NAMES[(e / FAMILY_NAMES.length) % GIVEN_NAMES.length])
+                    .startDate(month.atDay(1))
+                    .endDate(month.atEndOfMonth())
+                    .totalWorkHours(regularHours + overtimeHours)
+                    .totalPayment(regularPayment + overtimePayment)
+                    .summary(PayrollDto.PayrollSummary.builder()
+                            .totalWorkDays(10 + random.nextInt(12))
+                            .regularHours(regularHours)
+                            .overtimeHours(overtimeHours)
+                            .regularPayment(regularPayment)
+                            .overtimePayment(overtimePayment)
+                            .totalPayment(regularPayment + overtimePayment)
+                            .build())
+                    .build());
+        }
+        return payrolls;
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private String studentName() {
+        return FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+                + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+    }
+}
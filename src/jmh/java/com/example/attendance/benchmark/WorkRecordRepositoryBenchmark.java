@@ -0,0 +1,123 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.repository.WorkRecordRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 勤務記録リポジトリの検索のベンチマーク.
+ *
+ * <p>12か月分の勤務記録を保存した状態で、{@link #employeeMonth} は従業員1人・1か月分、
+ * {@link #monthGrouped} は1か月分を従業員ごとに取得する。{@link #linearScan} は全件を走査して
+ * 従業員と月で絞り込む従来方式の比較用。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkRecordRepositoryBenchmark {
+
+    private static final int MONTH_COUNT = 12;
+    private static final int QUERY_COUNT = 1024;
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2024, 1);
+
+    @Param({"100", "1000"})
+    private int employeeCount;
+
+    @Param({"20"})
+    private int recordsPerEmployee;
+
+    private Path snapshotDirectory;
+    private WorkRecordRepository repository;
+    private List<WorkRecordDto> allRecords;
+    private String[] employeeIds;
+    private YearMonth[] months;
+    private String[] recordIds;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        snapshotDirectory = Files.createTempDirectory("work-record-bench");
+        repository = new WorkRecordRepository(snapshotDirectory.resolve("snapshot.jsonl.gz"));
+        allRecords = new ArrayList<>();
+        for (int i = 0; i < MONTH_COUNT; i++) {
+            allRecords.addAll(generator.workRecords(employeeCount, FIRST_MONTH.plusMonths(i),
+                    recordsPerEmployee, 8));
+        }
+        repository.saveAll(allRecords);
+
+        employeeIds = new String[QUERY_COUNT];
+        months = new YearMonth[QUERY_COUNT];
+        recordIds = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            WorkRecordDto record = allRecords.get(generator.nextInt(allRecords.size()));
+            employeeIds[i] = record.getEmployeeId();
+            months[i] = YearMonth.from(record.getStartTime());
+            recordIds[i] = record.getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(snapshotDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<WorkRecordDto> employeeMonth() {
+        int query = nextQuery();
+        return repository.findByEmployeeAndMonth(employeeIds[query], months[query]);
+    }
+
+    @Benchmark
+    public Object findById() {
+        return repository.findById(recordIds[nextQuery()]);
+    }
+
+    @Benchmark
+    public Map<String, List<WorkRecordDto>> monthGrouped() {
+        return repository.findByMonthGroupedByEmployee(months[nextQuery()]);
+    }
+
+    @Benchmark
+    public List<WorkRecordDto> linearScan() {
+        int query = nextQuery();
+        String employeeId = employeeIds[query];
+        YearMonth month = months[query];
+        return allRecords.stream()
+                .filter(r -> employeeId.equals(r.getEmployeeId()))
+                .filter(r -> month.equals(YearMonth.from(r.getStartTime())))
+                .collect(Collectors.toList());
+    }
+
+    private int nextQuery() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.attendance.benchmark;
+
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.domain.WorkTypeMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * カレンダーイベントタイトルの勤務形態判定のベンチマーク.
+ *
+ * <p>スループット（ops/s）がそのまま1秒あたりの判定イベント数になる。{@code workTypeCount} を
+ * 増やしても {@link #matcher} のスループットが変わらないことを確認する。{@link #linearScan} は
+ * 勤務形態を全件走査し、イベントごとに {@code Pattern.compile} していた従来方式の比較用。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkTypeMatcherBenchmark {
+
+    private static final int TITLE_COUNT = 1024;
+
+    @Param({"4", "50"})
+    private int workTypeCount;
+
+    private List<WorkType> workTypes;
+    private WorkTypeMatcher workTypeMatcher;
+    private String[] titles;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        workTypes = generator.workTypes(workTypeCount);
+        workTypeMatcher = WorkTypeMatcher.build(workTypes);
+        titles = generator.eventTitles(workTypes, TITLE_COUNT);
+    }
+
+    @Benchmark
+    public void matcher(Blackhole blackhole) {
+        blackhole.consume(workTypeMatcher.match(nextTitle()));
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        String title = nextTitle();
+        WorkType matched = workTypes.stream()
+                .filter(w -> w.getCalendarKeyword() != null
+                        && title.startsWith(w.getCalendarKeyword()))
+                .findFirst()
+                .orElse(null);
+        blackhole.consume(matched);
+        if (matched != null) {
+            Matcher m = Pattern.compile("[（(](.+?)[）)]").matcher(title);
+            blackhole.consume(m.find() ? m.group(1) : null);
+        }
+    }
+
+    private String nextTitle() {
+        String title = titles[cursor];
+        cursor = (cursor + 1) & (TITLE_COUNT - 1);
+        return title;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.attendance.archive;
+
+import com.example.attendance.dto.PayrollDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 締め済み月の給与計算結果のローカルアーカイブ.
+ *
+ * <p>1か月分を1つの圧縮セグメントファイル（{@code payroll-yyyy-MM.世代.seg}）として書き出す。
+ * セグメントは書き出した後は変更せず、同じ月を再度アーカイブした場合は世代を上げた新しい
+ * ファイルを追加して、検索には最新世代だけを使う。検索時はセグメントをメモリマップし、
+ * 索引から該当従業員を含むブロックだけを展開するため、ファイル全体を展開しない。
+ *
+ * <p>アプリケーションの設定変更の影響を受けないよう、JSON の変換には専用の設定を使う
+ * （日付は ISO 形式、未知の項目は無視）。
+ */
+@Slf4j
+@Component
+public class PayrollArchive {
+
+    private static final Pattern SEGMENT_NAME =
+            Pattern.compile("payroll-(\\d{4}-\\d{2})\\.(\\d+)\\.seg");
+
+    private final Path directory;
+    private final PayrollSegmentWriter writer;
+    private final ObjectReader objectReader;
+    /** 月ごとの最新世代のファイル. */
+    private final Map<YearMonth, SegmentFile> latest = new ConcurrentSkipListMap<>();
+    private final Map<Path, PayrollSegment> opened = new ConcurrentHashMap<>();
+
+    public PayrollArchive(
+            @Value("${app.payroll-archive.directory:data/payroll-archive}") Path directory,
+            @Value("${app.payroll-archive.block-kilobytes:64}") int blockKilobytes)
+            throws IOException {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.directory = directory;
+        this.writer = new PayrollSegmentWriter(mapper.writerFor(PayrollDto.class),
+                Math.max(blockKilobytes, 1) * 1024);
+        this.objectReader = mapper.readerFor(PayrollDto.class);
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                SegmentFile segment = SegmentFile.parse(file);
+                if (segment != null) {
+                    latest.merge(segment.month(), segment,
+                            (a, b) -> a.generation() >= b.generation() ? a : b);
+                }
+            });
+        }
+        log.info("Payroll archive initialized: directory={}, months={}",
+                directory.toAbsolutePath(), latest.size());
+    }
+
+    /**
+     * 1か月分の給与計算結果をアーカイブする.
+     *
+     * <p>一時ファイルに書き出して読み戻しで件数を検証してから、ファイル名を確定する。
+     *
+     * @return アーカイブした件数
+     */
+    public synchronized int archive(YearMonth month, List<PayrollDto> payrolls)
+            throws IOException {
+        SegmentFile previous = latest.get(month);
+        SegmentFile target = new SegmentFile(month,
+                previous != null ? previous.generation() + 1 : 1, null);
+        Path file = directory.resolve(target.fileName());
+        Path temporary = directory.resolve(target.fileName() + ".tmp");
+        Files.deleteIfExists(temporary);
+        try {
+            int written = writer.write(temporary, month, payrolls);
+            PayrollSegment verified = PayrollSegment.open(temporary, objectReader);
+            if (verified.size() != written || !verified.getMonth().equals(month)) {
+                throw new IOException("Payroll segment verification failed: " + temporary);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            latest.put(month, new SegmentFile(month, target.generation(), file));
+            if (previous != null) {
+                opened.remove(previous.path());
+            }
+            log.info("Payroll month archived: month={}, payrolls={}, bytes={}, file={}",
+                    month, written, Files.size(file), file.getFileName());
+            return written;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public boolean isArchived(YearMonth month) {
+        return latest.containsKey(month);
+    }
+
+    /**
+     * 月の最新の世代（アーカイブしていない月は 0）.
+     */
+    public int generationOf(YearMonth month) {
+        SegmentFile segment = latest.get(month);
+        return segment != null ? segment.generation() : 0;
+    }
+
+    /**
+     * アーカイブ済みの月（昇順）.
+     */
+    public NavigableSet<YearMonth> archivedMonths() {
+        return new TreeSet<>(latest.keySet());
+    }
+
+    /**
+     * アーカイブから従業員1人・1か月分の給与を取得する.
+     */
+    public Optional<PayrollDto> find(String employeeId, YearMonth month) {
+        try {
+            PayrollSegment segment = segment(month);
+            return segment != null ? segment.find(employeeId) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * アーカイブから1か月分の給与を従業員ID順に渡す.
+     *
+     * @return アーカイブされていない月の場合は false
+     */
+    public boolean forEach(YearMonth month, Consumer<PayrollDto> consumer) {
+        try {
+            PayrollSegment segment = segment(month);
+            if (segment == null) {
+                return false;
+            }
+            segment.forEach(consumer);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PayrollSegment segment(YearMonth month) throws IOException {
+        SegmentFile file = latest.get(month);
+        if (file == null) {
+            return null;
+        }
+        PayrollSegment segment = opened.get(file.path());
+        if (segment == null) {
+            segment = PayrollSegment.open(file.path(), objectReader);
+            PayrollSegment raced = opened.putIfAbsent(file.path(), segment);
+            segment = raced != null ? raced : segment;
+        }
+        return segment;
+    }
+
+    /**
+     * セグメントファイル名（月と世代）.
+     */
+    private record SegmentFile(YearMonth month, int generation, Path path) {
+
+        String fileName() {
+            return String.format("payroll-%s.%d.seg", month, generation);
+        }
+
+        static SegmentFile parse(Path file) {
+            Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+            if (!matcher.matches()) {
+                return null;
+            }
+            return new SegmentFile(YearMonth.parse(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)), file);
+        }
+    }
+}
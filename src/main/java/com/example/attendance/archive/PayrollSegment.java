@@ -0,0 +1,197 @@
+package com.example.attendance.archive;
+
+import com.example.attendance.dto.PayrollDto;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 読み取り専用でメモリマップしたセグメントファイル（形式は {@link PayrollSegmentWriter}）.
+ *
+ * <p>開く際に読み込むのはヘッダー・ブロック表・索引だけで、給与データは検索時に該当ブロックだけを
+ * マップ上から直接展開する。不変のため複数スレッドから同時に検索してよい。
+ */
+final class PayrollSegment {
+
+    private final Path file;
+    private final YearMonth month;
+    private final MappedByteBuffer mapped;
+    private final ObjectReader objectReader;
+
+    private final long[] blockOffsets;
+    private final int[] compressedLengths;
+    private final int[] rawLengths;
+    private final int[] checksums;
+
+    /** 従業員ID順. */
+    private final String[] employeeIds;
+    private final int[] entryBlocks;
+    private final int[] entryOffsets;
+    private final int[] entryLengths;
+
+    private PayrollSegment(Path file, MappedByteBuffer mapped, ObjectReader objectReader)
+            throws IOException {
+        this.file = file;
+        this.mapped = mapped;
+        this.objectReader = objectReader;
+
+        ByteBuffer header = mapped.duplicate();
+        byte[] magic = new byte[PayrollSegmentWriter.MAGIC.length];
+        if (header.remaining() < PayrollSegmentWriter.HEADER_SIZE) {
+            throw new IOException("Truncated payroll segment: " + file);
+        }
+        header.get(magic);
+        if (!Arrays.equals(magic, PayrollSegmentWriter.MAGIC)) {
+            throw new IOException("Not a payroll segment: " + file);
+        }
+        int version = header.getInt();
+        if (version != PayrollSegmentWriter.VERSION) {
+            throw new IOException("Unsupported payroll segment version " + version + ": " + file);
+        }
+        int yearMonth = header.getInt();
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        int blockCount = header.getInt();
+        int entryCount = header.getInt();
+        long indexOffset = header.getLong();
+        if (blockCount < 0 || entryCount < 0 || indexOffset < PayrollSegmentWriter.HEADER_SIZE
+                || indexOffset > mapped.limit()) {
+            throw new IOException("Corrupted payroll segment header: " + file);
+        }
+
+        // 索引が途中で切れている・ブロックがファイル外を指す場合は開く時点で拒否する
+        ByteBuffer index = mapped.duplicate().position((int) indexOffset);
+        this.blockOffsets = new long[blockCount];
+        this.compressedLengths = new int[blockCount];
+        this.rawLengths = new int[blockCount];
+        this.checksums = new int[blockCount];
+        this.employeeIds = new String[entryCount];
+        this.entryBlocks = new int[entryCount];
+        this.entryOffsets = new int[entryCount];
+        this.entryLengths = new int[entryCount];
+        try {
+            for (int i = 0; i < blockCount; i++) {
+                blockOffsets[i] = index.getLong();
+                compressedLengths[i] = index.getInt();
+                rawLengths[i] = index.getInt();
+                checksums[i] = index.getInt();
+                if (blockOffsets[i] < PayrollSegmentWriter.HEADER_SIZE || compressedLengths[i] < 0
+                        || rawLengths[i] < 0
+                        || blockOffsets[i] + compressedLengths[i] > indexOffset) {
+                    throw new IOException("Corrupted payroll segment block table: " + file);
+                }
+            }
+            byte[] idBuffer = new byte[256];
+            for (int i = 0; i < entryCount; i++) {
+                int idLength = index.getShort() & 0xFFFF;
+                if (idBuffer.length < idLength) {
+                    idBuffer = new byte[idLength];
+                }
+                index.get(idBuffer, 0, idLength);
+                employeeIds[i] = new String(idBuffer, 0, idLength, StandardCharsets.UTF_8);
+                entryBlocks[i] = index.getInt();
+                entryOffsets[i] = index.getInt();
+                entryLengths[i] = index.getInt();
+                if (entryBlocks[i] < 0 || entryBlocks[i] >= blockCount) {
+                    throw new IOException("Corrupted payroll segment index: " + file);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated payroll segment: " + file, e);
+        }
+    }
+
+    static PayrollSegment open(Path file, ObjectReader objectReader) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+            return new PayrollSegment(file, mapped, objectReader);
+        }
+    }
+
+    YearMonth getMonth() {
+        return month;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    int size() {
+        return employeeIds.length;
+    }
+
+    /**
+     * 従業員の給与を取得する（索引を二分探索し、該当ブロックだけを展開する）.
+     */
+    Optional<PayrollDto> find(String employeeId) throws IOException {
+        int entry = Arrays.binarySearch(employeeIds, employeeId);
+        if (entry < 0) {
+            return Optional.empty();
+        }
+        byte[] block = inflate(entryBlocks[entry]);
+        return Optional.of(objectReader.readValue(block, entryOffsets[entry],
+                entryLengths[entry]));
+    }
+
+    /**
+     * 全従業員の給与を従業員ID順に渡す（1ブロックずつ展開する）.
+     */
+    void forEach(Consumer<PayrollDto> consumer) throws IOException {
+        int loadedBlock = -1;
+        byte[] block = null;
+        for (int entry = 0; entry < employeeIds.length; entry++) {
+            if (entryBlocks[entry] != loadedBlock) {
+                loadedBlock = entryBlocks[entry];
+                block = inflate(loadedBlock);
+            }
+            consumer.accept(objectReader.readValue(block, entryOffsets[entry],
+                    entryLengths[entry]));
+        }
+    }
+
+    private byte[] inflate(int blockNo) throws IOException {
+        ByteBuffer compressed = mapped.slice(Math.toIntExact(blockOffsets[blockNo]),
+                compressedLengths[blockNo]);
+        byte[] raw = new byte[rawLengths[blockNo]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < raw.length && !inflater.finished()) {
+                int length = inflater.inflate(raw, inflated, raw.length - inflated);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += length;
+            }
+            if (inflated != raw.length) {
+                throw new IOException("Corrupted payroll segment block " + blockNo + ": " + file);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted payroll segment block " + blockNo + ": " + file, e);
+        } finally {
+            inflater.end();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        if ((int) crc.getValue() != checksums[blockNo]) {
+            throw new IOException("Checksum mismatch in payroll segment block " + blockNo + ": "
+                    + file);
+        }
+        return raw;
+    }
+}
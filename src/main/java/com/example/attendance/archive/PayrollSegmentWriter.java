@@ -0,0 +1,145 @@
+package com.example.attendance.archive;
+
+import com.example.attendance.dto.PayrollDto;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 1か月分の給与計算結果をセグメントファイルに書き出す.
+ *
+ * <p>ファイル構成（数値はビッグエンディアン）:
+ * <pre>
+ * ヘッダー     magic(8) version(4) month(4: yyyyMM) blockCount(4) entryCount(4) indexOffset(8)
+ * ブロック     従業員ID順に並べた [length(4) JSON] の列をブロック単位で deflate 圧縮したもの
+ * ブロック表   blockCount × [fileOffset(8) compressedLength(4) rawLength(4) crc32(4)]
+ * 索引         entryCount × [idLength(2) employeeId(UTF-8) block(4) rawOffset(4) length(4)]
+ * </pre>
+ * ヘッダーは最後に書き込むため、途中で失敗したファイルは magic が欠けて読み込まれない。
+ */
+final class PayrollSegmentWriter {
+
+    static final byte[] MAGIC = "PAYSEG01".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int BLOCK_TABLE_ENTRY_SIZE = 20;
+
+    private final ObjectWriter objectWriter;
+    private final int blockBytes;
+
+    PayrollSegmentWriter(ObjectWriter objectWriter, int blockBytes) {
+        this.objectWriter = objectWriter;
+        this.blockBytes = blockBytes;
+    }
+
+    /**
+     * セグメントを書き出し、書き込んだ件数を返す.
+     *
+     * @throws IllegalArgumentException 同じ従業員の給与が複数含まれる場合
+     */
+    int write(Path file, YearMonth month, List<PayrollDto> payrolls) throws IOException {
+        List<PayrollDto> sorted = new ArrayList<>(payrolls);
+        sorted.sort(Comparator.comparing(PayrollDto::getEmployeeId));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).getEmployeeId().equals(sorted.get(i - 1).getEmployeeId())) {
+                throw new IllegalArgumentException(
+                        "Duplicate employee in archive: " + sorted.get(i).getEmployeeId());
+            }
+        }
+
+        ByteArrayOutputStream blockTable = new ByteArrayOutputStream();
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream blockTableOut = new DataOutputStream(blockTable);
+        DataOutputStream indexOut = new DataOutputStream(index);
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(blockBytes * 2);
+        DataOutputStream rawOut = new DataOutputStream(raw);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        int blockCount = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            for (PayrollDto payroll : sorted) {
+                byte[] json = objectWriter.writeValueAsBytes(payroll);
+                byte[] employeeId = payroll.getEmployeeId().getBytes(StandardCharsets.UTF_8);
+                indexOut.writeShort(employeeId.length);
+                indexOut.write(employeeId);
+                indexOut.writeInt(blockCount);
+                indexOut.writeInt(raw.size() + Integer.BYTES);
+                indexOut.writeInt(json.length);
+                rawOut.writeInt(json.length);
+                rawOut.write(json);
+                if (raw.size() >= blockBytes) {
+                    writeBlock(channel, deflater, raw, blockTableOut);
+                    blockCount++;
+                }
+            }
+            if (raw.size() > 0) {
+                writeBlock(channel, deflater, raw, blockTableOut);
+                blockCount++;
+            }
+
+            long indexOffset = channel.position();
+            writeFully(channel, ByteBuffer.wrap(blockTable.toByteArray()));
+            writeFully(channel, ByteBuffer.wrap(index.toByteArray()));
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.put(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(month.getYear() * 100 + month.getMonthValue())
+                    .putInt(blockCount)
+                    .putInt(sorted.size())
+                    .putLong(indexOffset)
+                    .flip();
+            channel.position(0);
+            writeFully(channel, header);
+            channel.force(true);
+        } finally {
+            deflater.end();
+        }
+        return sorted.size();
+    }
+
+    private static void writeBlock(FileChannel channel, Deflater deflater,
+            ByteArrayOutputStream raw, DataOutputStream blockTableOut) throws IOException {
+        byte[] input = raw.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(input);
+
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 4 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+
+        blockTableOut.writeLong(channel.position());
+        blockTableOut.writeInt(compressed.size());
+        blockTableOut.writeInt(input.length);
+        blockTableOut.writeInt((int) crc.getValue());
+        writeFully(channel, ByteBuffer.wrap(compressed.toByteArray()));
+        raw.reset();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.attendance.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 監査ログの日別バケット（{@code audit-yyyy-MM-dd.jsonl}、1行1件のJSON）.
+ *
+ * <p>追記のみで、保持期間を過ぎたログはバケットのファイルごと削除する。
+ * スレッドセーフではないため、呼び出し側で排他すること。
+ */
+@Slf4j
+class AuditBucketStore {
+
+    private static final Pattern BUCKET_NAME =
+            Pattern.compile("audit-(\\d{4}-\\d{2}-\\d{2})\\.jsonl");
+
+    private final Path directory;
+    private final boolean fsync;
+    private LocalDate currentDay;
+    private FileChannel current;
+
+    AuditBucketStore(Path directory, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 1日分のバケットに複数行をまとめて追記する（fsync は1回）.
+     *
+     * <p>失敗した場合は書きかけの行が残らないよう、バケットを追記前のサイズに戻してから例外を投げる。
+     */
+    void append(LocalDate day, List<byte[]> lines) throws IOException {
+        int size = 0;
+        for (byte[] line : lines) {
+            size += line.length + 1;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] line : lines) {
+            buffer.put(line).put((byte) '\n');
+        }
+        buffer.flip();
+
+        FileChannel channel = channelFor(day);
+        long sizeBefore = channel.size();
+        try {
+            write(channel, buffer);
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            discardPartialWrite(sizeBefore, e);
+            throw e;
+        }
+    }
+
+    /**
+     * バッファの残りをすべて書き込む（テストで書き込み途中の失敗を再現するために上書きする）.
+     */
+    void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 指定日より前のバケットを削除し、削除したバケット数を返す.
+     */
+    int deleteBucketsBefore(LocalDate day) throws IOException {
+        int deleted = 0;
+        for (var bucket : buckets().headMap(day, false).entrySet()) {
+            if (bucket.getKey().equals(currentDay)) {
+                closeCurrent();
+            }
+            Files.deleteIfExists(bucket.getValue());
+            deleted++;
+            log.info("Audit log bucket deleted: day={}", bucket.getKey());
+        }
+        return deleted;
+    }
+
+    /**
+     * 日付順のバケット.
+     */
+    TreeMap<LocalDate, Path> buckets() throws IOException {
+        TreeMap<LocalDate, Path> buckets = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = BUCKET_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    buckets.put(LocalDate.parse(matcher.group(1)), file);
+                }
+            });
+        }
+        return buckets;
+    }
+
+    void close() throws IOException {
+        closeCurrent();
+    }
+
+    private FileChannel channelFor(LocalDate day) throws IOException {
+        if (!day.equals(currentDay)) {
+            closeCurrent();
+            current = FileChannel.open(directory.resolve("audit-" + day + ".jsonl"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            currentDay = day;
+        }
+        return current;
+    }
+
+    /**
+     * 追記前のサイズまで切り詰め、チャネルを開き直させる（切り詰めの失敗は元の例外に付加する）.
+     */
+    private void discardPartialWrite(long size, IOException cause) {
+        try {
+            current.truncate(size);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            closeCurrent();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        if (current != null) {
+            // close に失敗しても、次の追記では開き直す
+            FileChannel channel = current;
+            current = null;
+            currentDay = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.attendance.audit;
+
+import com.example.attendance.metrics.Counter;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.metrics.Timer;
+import com.example.attendance.security.CurrentUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 監査ログ（audit_logs 相当）の非同期書き込み.
+ *
+ * <p>マスタ・勤務記録の保存時に {@link #record} で変更前後の値を受け取り、その場で JSON 1行に変換して
+ * 上限付きキューに積む。書き込みは専用スレッドがキューから最大 {@code batch-size} 件ずつ取り出し、
+ * 1回の追記と1回の fsync にまとめて行う（グループコミット）。保存処理はディスク書き込みを待たない。
+ *
+ * <ul>
+ *   <li>耐久性: 保存処理から戻った時点では未書き込みのことがある。プロセスの異常終了で失われるのは
+ *       書き込み待ちのキューの内容（通常は1回の書き込み間隔分）まで。正常終了時は全件書き込む。</li>
+ *   <li>背圧: キューが満杯の場合は {@code offer-timeout-millis} だけ空きを待ち、それでも空かなければ
+ *       呼び出し元のスレッドで同期的に書き込む（監査ログは捨てない）。</li>
+ *   <li>保持期間: ログは日別のバケットファイルに書き、保持期間を過ぎたバケットをファイルごと削除する
+ *       （{@link #deleteBucketsBefore}）。</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final AuditBucketStore store;
+    /** ファイル操作の排他。ロックを保持したまま fsync するため、仮想スレッドを固定しない Lock を使う. */
+    private final ReentrantLock storeLock = new ReentrantLock();
+    private final ObjectWriter objectWriter;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final ZoneId zone;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter recorded;
+    private final Counter callerRuns;
+    private final Counter writeFailures;
+    private final Counter lost;
+    private final Timer commitTimer;
+
+    @Autowired
+    public AuditLog(
+            @Value("${app.audit.directory:data/audit}") Path directory,
+            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.batch-size:500}") int batchSize,
+            @Value("${app.audit.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${app.audit.offer-timeout-millis:50}") long offerTimeoutMillis,
+            @Value("${app.audit.fsync:true}") boolean fsync,
+            @Value("${app.batch.zone:Asia/Tokyo}") ZoneId zone,
+            MetricsRegistry metricsRegistry) throws IOException {
+        this(new AuditBucketStore(directory, fsync), queueCapacity, batchSize,
+                flushIntervalMillis, offerTimeoutMillis, zone, metricsRegistry);
+        log.info("Audit log initialized: directory={}, queueCapacity={}, batchSize={}, fsync={}",
+                directory.toAbsolutePath(), queueCapacity, this.batchSize, fsync);
+    }
+
+    AuditLog(AuditBucketStore store, int queueCapacity, int batchSize, long flushIntervalMillis,
+            long offerTimeoutMillis, ZoneId zone, MetricsRegistry metricsRegistry) {
+        this.store = store;
+        this.objectWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(AuditRecord.class);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.zone = zone;
+
+        this.recorded = metricsRegistry.counter("audit_events_total",
+                "Audit events accepted");
+        this.callerRuns = metricsRegistry.counter("audit_caller_runs_total",
+                "Audit events written synchronously because the queue was full");
+        this.writeFailures = metricsRegistry.counter("audit_write_failures_total",
+                "Failed audit log write attempts");
+        this.lost = metricsRegistry.counter("audit_events_lost_total",
+                "Audit events dropped after exhausting write retries");
+        this.commitTimer = metricsRegistry.timer("audit_commit_seconds",
+                "Audit log group commit duration");
+        metricsRegistry.gauge("audit_queue_size", "Audit events waiting to be written",
+                queue::size);
+
+        this.writer = new Thread(this::drainLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 変更を記録する.
+     *
+     * <p>値はこの呼び出しの中で JSON に変換するため、呼び出し後に変更されても記録には影響しない。
+     * リクエスト処理中の場合はログイン中のユーザー・接続元IPアドレス・User-Agent も記録する。
+     *
+     * @param tableName 対象テーブル名（work_records 等）
+     * @param recordId  対象レコードのID
+     * @param oldValues 変更前の値（登録の場合は null）
+     * @param newValues 変更後の値（削除の場合は null）
+     */
+    public void record(String tableName, Object recordId, AuditOperation operation,
+            Object oldValues, Object newValues) {
+        OffsetDateTime changedAt = OffsetDateTime.now(zone);
+        String changedBy = null;
+        String ipAddress = null;
+        String userAgent = null;
+        if (RequestContextHolder.getRequestAttributes()
+                instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            if (request.getAttribute(CurrentUser.REQUEST_ATTRIBUTE) instanceof CurrentUser user) {
+                changedBy = user.auditName();
+            }
+            ipAddress = request.getRemoteAddr();
+            userAgent = request.getHeader("User-Agent");
+        }
+        AuditRecord auditRecord = new AuditRecord(tableName, String.valueOf(recordId),
+                operation, oldValues, newValues, changedBy, changedAt, ipAddress, userAgent);
+        byte[] line;
+        try {
+            line = objectWriter.writeValueAsBytes(auditRecord);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize audit event: table={}, recordId={}",
+                    tableName, recordId, e);
+            lost.increment();
+            return;
+        }
+        Entry entry = new Entry(changedAt.toLocalDate(), line);
+        recorded.increment();
+
+        try {
+            if (running && queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // キューが満杯（または停止中）: 呼び出し元で書き込み、保存処理の速さを書き込みの速さに合わせる
+        callerRuns.increment();
+        commit(List.of(entry));
+    }
+
+    /**
+     * 書き込み待ちの件数.
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 指定日より前のバケットを削除する.
+     *
+     * @return 削除したバケット（日数）
+     */
+    public int deleteBucketsBefore(LocalDate day) throws IOException {
+        storeLock.lock();
+        try {
+            return store.deleteBucketsBefore(day);
+        } finally {
+            storeLock.unlock();
+        }
+    }
+
+    /**
+     * 停止時にキューに残った監査ログを全件書き込む.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+        storeLock.lock();
+        try {
+            store.close();
+        } catch (IOException e) {
+            log.warn("Failed to close audit log bucket", e);
+        } finally {
+            storeLock.unlock();
+        }
+        log.info("Audit log stopped: written={}, lost={}", recorded.count() - lost.count(),
+                lost.count());
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 前回の書き込み中に溜まった分をまとめて1回で書き込む
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in audit log writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 1回の追記・fsync で書き込む。失敗した場合は間隔を空けて再試行する.
+     *
+     * <p>日付をまたぐバッチはバケットごとに書き込み、再試行では書き込み済みのバケットを飛ばす
+     * （失敗したバケットは {@link AuditBucketStore#append} が追記前の状態に戻している）。
+     */
+    void commit(List<Entry> entries) {
+        int written = 0;
+        for (int attempt = 1; ; attempt++) {
+            long startNanos = System.nanoTime();
+            try {
+                storeLock.lock();
+                try {
+                    for (int i = written + 1; i <= entries.size(); i++) {
+                        if (i == entries.size()
+                                || !entries.get(i).day().equals(entries.get(written).day())) {
+                            store.append(entries.get(written).day(), lines(entries, written, i));
+                            written = i;
+                        }
+                    }
+                } finally {
+                    storeLock.unlock();
+                }
+                commitTimer.record(System.nanoTime() - startNanos);
+                return;
+            } catch (IOException e) {
+                writeFailures.increment();
+                int remaining = entries.size() - written;
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    lost.increment(remaining);
+                    log.error("Audit log write failed, events dropped: events={}, attempts={}",
+                            remaining, attempt, e);
+                    return;
+                }
+                log.warn("Audit log write failed, retrying: events={}, attempt={}",
+                        remaining, attempt, e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static List<byte[]> lines(List<Entry> entries, int from, int to) {
+        List<byte[]> lines = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            lines.add(entries.get(i).line());
+        }
+        return lines;
+    }
+
+    /**
+     * 書き込み待ちの1件（バケットの日付と JSON 1行）.
+     */
+    record Entry(LocalDate day, byte[] line) {
+    }
+
+    /**
+     * 監査ログ1件の JSON 形式（audit_logs テーブルの列に対応）.
+     */
+    private record AuditRecord(String tableName, String recordId, AuditOperation operation,
+            Object oldValues, Object newValues, String changedBy, OffsetDateTime changedAt,
+            String ipAddress, String userAgent) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.attendance.audit;
+
+/**
+ * 監査ログの操作種別.
+ */
+public enum AuditOperation {
+    INSERT,
+    UPDATE,
+    DELETE
+}
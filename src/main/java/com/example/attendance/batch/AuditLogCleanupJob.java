@@ -0,0 +1,95 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 監査ログ削除ジョブ.
+ *
+ * <p>保持期間（既定1825日）を過ぎた監査ログを日別バケットのファイルごと削除する。
+ * 1件ずつの削除は行わないため、処理時間は削除するログの件数によらない。
+ */
+@Slf4j
+@Component
+public class AuditLogCleanupJob {
+
+    public static final String JOB_NAME = "AuditLogCleanupJob";
+    public static final String DISPLAY_NAME = "監査ログ削除";
+
+    /** メトリクス名の接頭辞. */
+    public static final String METRICS_NAME = "audit_log_cleanup";
+
+    private static final JobDefinition DEFINITION = JobDefinition.builder()
+            .name(JOB_NAME)
+            .displayName(DISPLAY_NAME)
+            .priority(JobPriority.LOW)
+            .lockAtMostFor(Duration.ofMinutes(10))
+            .build();
+
+    private final AuditLog auditLog;
+    private final JobRuntime jobRuntime;
+    private final JobMetrics jobMetrics;
+    private final int retentionDays;
+    private final ZoneId zone;
+
+    public AuditLogCleanupJob(
+            AuditLog auditLog,
+            JobRuntime jobRuntime,
+            MetricsRegistry metricsRegistry,
+            @Value("${app.audit.retention-days:1825}") int retentionDays,
+            @Value("${app.batch.zone:Asia/Tokyo}") ZoneId zone) {
+        this.auditLog = auditLog;
+        this.jobRuntime = jobRuntime;
+        this.jobMetrics = metricsRegistry.job(METRICS_NAME);
+        this.retentionDays = retentionDays;
+        this.zone = zone;
+    }
+
+    /**
+     * 削除をジョブ実行基盤に投入する.
+     */
+    public JobSubmission start() {
+        return jobRuntime.submit(DEFINITION, JOB_NAME, this::run);
+    }
+
+    /**
+     * 定期実行（既定は毎週日曜4:00）.
+     */
+    @Scheduled(cron = "${app.audit.cleanup-cron:0 0 4 * * SUN}",
+            zone = "${app.batch.zone:Asia/Tokyo}")
+    public void scheduledCleanup() {
+        start();
+    }
+
+    private void run(BatchJobExecution execution) {
+        long startNanos = System.nanoTime();
+        LocalDate cutoff = LocalDate.now(zone).minusDays(retentionDays);
+        boolean succeeded = false;
+        int deleted = 0;
+        try {
+            deleted = auditLog.deleteBucketsBefore(cutoff);
+            execution.recordSuccesses(deleted, deleted);
+            execution.finish(BatchJobExecution.STATUS_SUCCESS,
+                    String.format("%sより前の監査ログ%d日分を削除しました", cutoff, deleted));
+            succeeded = true;
+            log.info("Audit log cleanup job completed: jobId={}, cutoff={}, buckets={}",
+                    execution.getJobId(), cutoff, deleted);
+        } catch (IOException | RuntimeException e) {
+            log.error("Audit log cleanup job failed: jobId={}", execution.getJobId(), e);
+            execution.finish(BatchJobExecution.STATUS_FAILED,
+                    "監査ログの削除に失敗しました: " + e.getMessage());
+        } finally {
+            jobMetrics.record(System.nanoTime() - startNanos, deleted, succeeded);
+        }
+    }
+}
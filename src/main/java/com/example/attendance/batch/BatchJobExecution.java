@@ -0,0 +1,115 @@
+package com.example.attendance.batch;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * バッチジョブの1回分の実行状況.
+ *
+ * <p>ワーカースレッドから並行して更新されるため、件数はアトミックに集計する。
+ */
+@Getter
+public class BatchJobExecution {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+    /** ロックを取得できず実行しなかった（他の実行環境で実行中）. */
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    private final String jobId;
+    private final String jobName;
+    /** 画面表示用のジョブ種別名. */
+    private final String displayName;
+    private final LocalDateTime queuedAt;
+    /** 実行開始日時（待機中は null）. */
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime endedAt;
+    private volatile String status = STATUS_QUEUED;
+    private volatile int totalCount;
+    /** 実行結果の要約（終了時に設定）. */
+    private volatile String message;
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger successCount = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger failureCount = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger timeoutCount = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger recordCount = new AtomicInteger();
+
+    public BatchJobExecution(String jobId, String jobName, String displayName) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.displayName = displayName;
+        this.queuedAt = LocalDateTime.now();
+    }
+
+    void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = STATUS_RUNNING;
+    }
+
+    void start(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    void recordSuccess(int records) {
+        successCount.incrementAndGet();
+        recordCount.addAndGet(records);
+    }
+
+    void recordSuccesses(int count, int records) {
+        successCount.addAndGet(count);
+        recordCount.addAndGet(records);
+    }
+
+    void recordFailure(boolean timedOut) {
+        failureCount.incrementAndGet();
+        if (timedOut) {
+            timeoutCount.incrementAndGet();
+        }
+    }
+
+    void finish(String status, String message) {
+        this.message = message;
+        this.endedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+
+    /** 失敗件数（タイムアウトを含む）. */
+    public int getFailureCount() {
+        return failureCount.get();
+    }
+
+    /** 処理済み件数（成功＋失敗）. */
+    public int getProcessedCount() {
+        return successCount.get() + failureCount.get();
+    }
+
+    public int getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /** 登録した勤務記録の件数. */
+    public int getRecordCount() {
+        return recordCount.get();
+    }
+
+    public boolean isRunning() {
+        return STATUS_RUNNING.equals(status);
+    }
+
+    /** 終了済み（成功・失敗・スキップ）か. */
+    public boolean isFinished() {
+        return endedAt != null;
+    }
+}
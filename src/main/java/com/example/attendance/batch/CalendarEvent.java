@@ -0,0 +1,18 @@
+package com.example.attendance.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * カレンダーから取得したイベント.
+ */
+@Value
+@Builder
+public class CalendarEvent {
+    String eventId;
+    String summary;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+}
@@ -0,0 +1,24 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.dto.EmployeeDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 従業員のカレンダーイベントの取得元.
+ *
+ * <p>実装はブロッキングI/Oを行ってよい。{@link CalendarSyncJob} がワーカープール上で呼び出し、
+ * タイムアウト時はスレッドを割り込むため、割り込みに応答すること。
+ */
+public interface CalendarSource {
+
+    /**
+     * 指定期間に開始するイベントを取得する.
+     *
+     * @param from 取得開始日時（含む）
+     * @param to   取得終了日時（含まない）
+     */
+    List<CalendarEvent> fetchEvents(EmployeeDto employee, LocalDateTime from, LocalDateTime to)
+            throws Exception;
+}
@@ -0,0 +1,352 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.Student;
+import com.example.attendance.domain.StudentNameIndex;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.domain.WorkTypeMatcher;
+import com.example.attendance.dto.EmployeeDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.metrics.Counter;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.service.EmployeeService;
+import com.example.attendance.service.MasterDataService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * カレンダー同期ジョブ.
+ *
+ * <p>在籍中の従業員ごとのカレンダー取得を、同時実行数を上限としたワーカープールに分散する。
+ * 従業員1人あたりの処理にはタイムアウトを設け、超過した場合はワーカーを割り込んで次の従業員に枠を譲る。
+ * 1従業員の失敗は他の従業員の処理を妨げない。
+ *
+ * <p>仮想スレッドが有効（{@code spring.threads.virtual.enabled}、Java 21 以上）の場合、ワーカーは
+ * 従業員ごとに仮想スレッドを生成する。同時実行数の上限はどちらの場合もセマフォで守る。
+ */
+@Slf4j
+@Component
+public class CalendarSyncJob {
+
+    public static final String JOB_NAME = "CalendarSyncJob";
+    public static final String DISPLAY_NAME = "カレンダー同期";
+
+    /** メトリクス名の接頭辞. */
+    public static final String METRICS_NAME = "calendar_sync";
+
+    private static final JobDefinition DEFINITION = JobDefinition.builder()
+            .name(JOB_NAME)
+            .displayName(DISPLAY_NAME)
+            .priority(JobPriority.HIGH)
+            .lockAtMostFor(Duration.ofMinutes(50))
+            .build();
+
+    /** 失敗率がこれを超えたらアラートを出す. */
+    private static final double ALERT_FAILURE_RATE = 0.1;
+
+    private final EmployeeService employeeService;
+    private final MasterDataService masterDataService;
+    private final CalendarSource calendarSource;
+    private final WorkRecordIngestion ingestion;
+    private final JobHistory jobHistory;
+    private final JobRuntime jobRuntime;
+    private final int concurrency;
+    private final boolean virtualThreads;
+    private final long employeeTimeoutMillis;
+    private final int initialLookbackDays;
+    private final double studentMatchMinScore;
+    private final ThreadPoolExecutor workers;
+    private final JobMetrics jobMetrics;
+    private final Counter employeeSuccesses;
+    private final Counter employeeFailures;
+    private final Counter employeeTimeouts;
+    private final Map<String, LocalDateTime> lastSyncedAt = new ConcurrentHashMap<>();
+
+    public CalendarSyncJob(
+            EmployeeService employeeService,
+            MasterDataService masterDataService,
+            CalendarSource calendarSource,
+            WorkRecordIngestion ingestion,
+            JobHistory jobHistory,
+            JobRuntime jobRuntime,
+            MetricsRegistry metricsRegistry,
+            Environment environment,
+            @Value("${app.calendar-sync.concurrency:16}") int concurrency,
+            @Value("${app.calendar-sync.employee-timeout-seconds:30}")
+            long employeeTimeoutSeconds,
+            @Value("${app.calendar-sync.initial-lookback-days:30}") int initialLookbackDays,
+            @Value("${app.calendar-sync.student-match.min-score:0.6}")
+            double studentMatchMinScore) {
+        this.employeeService = employeeService;
+        this.masterDataService = masterDataService;
+        this.calendarSource = calendarSource;
+        this.ingestion = ingestion;
+        this.jobHistory = jobHistory;
+        this.jobRuntime = jobRuntime;
+        this.concurrency = Math.max(concurrency, 1);
+        this.employeeTimeoutMillis = TimeUnit.SECONDS.toMillis(employeeTimeoutSeconds);
+        this.initialLookbackDays = initialLookbackDays;
+        this.studentMatchMinScore = studentMatchMinScore;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        // 仮想スレッドはプールせず、1従業員分の処理ごとに生成して終了させる
+        this.workers = virtualThreads
+                ? new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                        new SynchronousQueue<>(),
+                        new VirtualThreadTaskExecutor("calendar-sync-worker-")
+                                .getVirtualThreadFactory())
+                : new ThreadPoolExecutor(this.concurrency, this.concurrency,
+                        0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                        namedDaemon("calendar-sync-worker"));
+
+        this.jobMetrics = metricsRegistry.job(METRICS_NAME);
+        this.employeeSuccesses = metricsRegistry.counter("calendar_sync_success_total",
+                "Number of employees whose calendar was synced");
+        this.employeeFailures = metricsRegistry.counter("calendar_sync_failure_total",
+                "Number of employees whose calendar sync failed (including timeouts)");
+        this.employeeTimeouts = metricsRegistry.counter("calendar_sync_timeout_total",
+                "Number of employees whose calendar sync timed out");
+        metricsRegistry.gauge("calendar_sync_workers_active",
+                "Calendar sync workers currently fetching events", workers::getActiveCount);
+        metricsRegistry.gauge("calendar_sync_workers_max",
+                "Maximum number of calendar sync workers", () -> this.concurrency);
+    }
+
+    /**
+     * 同期をジョブ実行基盤に投入する.
+     *
+     * <p>待機中・実行中の同期がある場合は新たに開始せず、そのジョブに統合する。
+     */
+    public JobSubmission start() {
+        return jobRuntime.submit(DEFINITION, JOB_NAME, this::run);
+    }
+
+    /**
+     * 定期同期（既定は毎時0分）.
+     */
+    @Scheduled(cron = "${app.calendar-sync.cron:0 0 * * * *}",
+            zone = "${app.batch.zone:Asia/Tokyo}")
+    public void scheduledSync() {
+        start();
+    }
+
+    public Optional<BatchJobExecution> findLastExecution() {
+        return jobHistory.findLast(JOB_NAME);
+    }
+
+    private void run(BatchJobExecution execution) {
+        long startNanos = System.nanoTime();
+        String status = BatchJobExecution.STATUS_FAILED;
+        try {
+            List<EmployeeDto> employees = employeeService.findActive();
+            execution.start(employees.size());
+            log.info("Calendar sync job started: jobId={}, employees={}, concurrency={}, "
+                            + "virtualThreads={}",
+                    execution.getJobId(), employees.size(), concurrency, virtualThreads);
+
+            // 1回の同期では同じマスタのスナップショット（マッチャー・勤務形態・生徒名インデックス）を使う
+            MasterDataSnapshot masterData = masterDataService.current();
+            SyncContext context = new SyncContext(masterData.getWorkTypeMatcher(),
+                    masterData.getWorkTypesById(), masterData.getStudentNameIndex(),
+                    LocalDateTime.now());
+
+            Semaphore permits = new Semaphore(concurrency);
+            List<CompletableFuture<Integer>> futures = new ArrayList<>(employees.size());
+            for (EmployeeDto employee : employees) {
+                permits.acquire();
+                futures.add(submit(employee, context, permits)
+                        .whenComplete((records, ex) -> {
+                            if (ex == null) {
+                                execution.recordSuccess(records);
+                                employeeSuccesses.increment();
+                            } else {
+                                onEmployeeFailed(execution, employee, ex);
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .exceptionally(ex -> null)
+                    .join();
+            status = BatchJobExecution.STATUS_SUCCESS;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Calendar sync job interrupted: jobId={}", execution.getJobId());
+        } catch (RuntimeException e) {
+            log.error("Calendar sync job failed: jobId={}", execution.getJobId(), e);
+        } finally {
+            execution.finish(status, String.format(
+                    "%d名のカレンダーを同期し、%d件の勤務記録を登録しました（失敗: %d名）",
+                    execution.getSuccessCount(), execution.getRecordCount(),
+                    execution.getFailureCount()));
+            long elapsedNanos = System.nanoTime() - startNanos;
+            jobMetrics.record(elapsedNanos, execution.getRecordCount(),
+                    BatchJobExecution.STATUS_SUCCESS.equals(status));
+            long elapsedMillis = Duration.ofNanos(elapsedNanos).toMillis();
+            log.info("Calendar sync job completed: jobId={}, success={}, failure={}, timeout={}, "
+                            + "records={}, elapsedMs={}",
+                    execution.getJobId(), execution.getSuccessCount(), execution.getFailureCount(),
+                    execution.getTimeoutCount(), execution.getRecordCount(), elapsedMillis);
+            alertIfFailureRateHigh(execution);
+        }
+    }
+
+    /**
+     * 1従業員分の同期をワーカーに投入する。許可（permit）はワーカーの処理終了時に返却する.
+     */
+    private CompletableFuture<Integer> submit(EmployeeDto employee, SyncContext context,
+            Semaphore permits) {
+        CompletableFuture<Integer> outcome = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = workers.submit(() -> {
+                try {
+                    outcome.complete(syncEmployee(employee, context, outcome));
+                } catch (Exception e) {
+                    outcome.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            outcome.completeExceptionally(e);
+            return outcome;
+        }
+        return outcome.orTimeout(employeeTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((records, ex) -> {
+                    if (ex instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
+    /**
+     * 1従業員分のイベントを取得して勤務記録に取り込む.
+     *
+     * @param outcome この従業員の結果（タイムアウトで完了済みの場合は取り込まない）
+     */
+    private int syncEmployee(EmployeeDto employee, SyncContext context,
+            CompletableFuture<Integer> outcome) throws Exception {
+        LocalDateTime from = lastSyncedAt.getOrDefault(employee.getId(),
+                context.startedAt().minusDays(initialLookbackDays));
+        List<CalendarEvent> events = calendarSource.fetchEvents(employee, from,
+                context.startedAt());
+
+        List<WorkRecordDto> syncedRecords = new ArrayList<>(events.size());
+        for (CalendarEvent event : events) {
+            WorkTypeMatcher.Match match = context.matcher().match(event.getSummary());
+            WorkType workType = match != null
+                    ? context.workTypes().get(match.getWorkTypeId())
+                    : null;
+            if (workType == null || !workType.isPayrollTarget()) {
+                continue;
+            }
+            // 生徒マスタの名前に揃え、学校種別を単価判定に使う（特定できなければ抽出名のまま）
+            Student student = match.getStudentName() != null
+                    ? context.studentNames().resolve(match.getStudentName(),
+                            studentMatchMinScore)
+                    : null;
+            syncedRecords.add(WorkRecordDto.builder()
+                    .employeeId(employee.getId())
+                    .employeeName(employee.getName())
+                    .workDate(event.getStartTime().toLocalDate())
+                    .startTime(event.getStartTime())
+                    .endTime(event.getEndTime())
+                    .workTypeId(workType.getId())
+                    .workTypeName(workType.getName())
+                    .studentLevelId(student != null ? student.getStudentLevelId() : null)
+                    .googleEventId(event.getEventId())
+                    .eventTitle(event.getSummary())
+                    .studentName(student != null ? student.getName() : match.getStudentName())
+                    .createdAt(context.startedAt())
+                    .build());
+        }
+        // タイムアウトで打ち切られた後は取り込まず、同期位置も進めない（次回に同じ期間を取り直す）
+        if (outcome.isDone() || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException(
+                    "Calendar sync abandoned after timeout: employeeId=" + employee.getId());
+        }
+        IngestionResult result = ingestion.ingest(syncedRecords);
+        lastSyncedAt.put(employee.getId(), context.startedAt());
+
+        log.debug("Synced calendar for employee: employeeId={}, events={}, new={}, duplicates={}, "
+                        + "skipped={}, lookedUp={}",
+                employee.getId(), events.size(), result.getInserted(), result.getDuplicates(),
+                events.size() - syncedRecords.size(), result.getLookedUp());
+        return result.getInserted();
+    }
+
+    private void onEmployeeFailed(BatchJobExecution execution, EmployeeDto employee,
+            Throwable failure) {
+        Throwable ex = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        boolean timedOut = ex instanceof TimeoutException;
+        execution.recordFailure(timedOut);
+        employeeFailures.increment();
+        if (timedOut) {
+            employeeTimeouts.increment();
+            log.warn("Calendar sync timed out for employee: jobId={}, employeeId={}, timeoutMs={}",
+                    execution.getJobId(), employee.getId(), employeeTimeoutMillis);
+        } else {
+            log.error("Failed to sync calendar for employee: jobId={}, employeeId={}",
+                    execution.getJobId(), employee.getId(), ex);
+        }
+    }
+
+    private void alertIfFailureRateHigh(BatchJobExecution execution) {
+        int total = execution.getSuccessCount() + execution.getFailureCount();
+        if (total > 0 && (double) execution.getFailureCount() / total > ALERT_FAILURE_RATE) {
+            log.error("High failure rate detected: job={}, jobId={}, failures={}/{}",
+                    JOB_NAME, execution.getJobId(), execution.getFailureCount(), total);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static ThreadFactory namedDaemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 1回の同期で共有するマスタのスナップショット.
+     */
+    private record SyncContext(WorkTypeMatcher matcher, Map<Integer, WorkType> workTypes,
+            StudentNameIndex studentNames, LocalDateTime startedAt) {
+    }
+}
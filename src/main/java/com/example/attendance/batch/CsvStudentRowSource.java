@@ -0,0 +1,108 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.util.CsvReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Googleスプレッドシートの代わりに、同じ列構成で書き出したCSVファイルから生徒名簿を読み込む.
+ *
+ * <p>1行目は見出し行で、列は見出し名（生徒ID・生徒名・学年・学校・備考）で判定するため順不同。
+ * 生徒IDが空の行は読み飛ばす。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sheet-sync.source", havingValue = "csv",
+        matchIfMissing = true)
+public class CsvStudentRowSource implements StudentRowSource {
+
+    static final String COLUMN_STUDENT_ID = "生徒ID";
+    static final String COLUMN_NAME = "生徒名";
+    static final String COLUMN_GRADE = "学年";
+    static final String COLUMN_SCHOOL = "学校";
+    static final String COLUMN_NOTES = "備考";
+
+    private final Resource resource;
+    private final Charset charset;
+
+    public CsvStudentRowSource(
+            ResourceLoader resourceLoader,
+            @Value("${app.sheet-sync.csv.location:classpath:sample/students.csv}")
+            String location,
+            @Value("${app.sheet-sync.csv.charset:UTF-8}") Charset charset) {
+        this.resource = resourceLoader.getResource(location);
+        this.charset = charset;
+    }
+
+    @Override
+    public Optional<String> version() throws IOException {
+        if (!resource.exists()) {
+            throw new FileNotFoundException("Student roster not found: " + resource);
+        }
+        return Optional.of(resource.contentLength() + "@" + resource.lastModified());
+    }
+
+    @Override
+    public void forEachRow(Consumer<StudentRow> consumer) throws IOException {
+        try (CsvReader csv = CsvReader.open(resource.getInputStream(), charset)) {
+            List<String> header = csv.nextRow();
+            if (header == null) {
+                return;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).strip(), i);
+            }
+            Integer idColumn = columns.get(COLUMN_STUDENT_ID);
+            Integer nameColumn = columns.get(COLUMN_NAME);
+            if (idColumn == null || nameColumn == null) {
+                throw new IOException("Student roster must have columns " + COLUMN_STUDENT_ID
+                        + " and " + COLUMN_NAME + ": " + resource);
+            }
+            Integer gradeColumn = columns.get(COLUMN_GRADE);
+            Integer schoolColumn = columns.get(COLUMN_SCHOOL);
+            Integer notesColumn = columns.get(COLUMN_NOTES);
+
+            List<String> row;
+            while ((row = csv.nextRow()) != null) {
+                String studentId = cell(row, idColumn);
+                if (studentId == null) {
+                    log.warn("Skipped student roster row without student ID: line={}",
+                            csv.getLineNumber());
+                    continue;
+                }
+                consumer.accept(StudentRow.builder()
+                        .studentId(studentId)
+                        .name(cell(row, nameColumn))
+                        .grade(cell(row, gradeColumn))
+                        .school(cell(row, schoolColumn))
+                        .notes(cell(row, notesColumn))
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * 前後の空白を除いたセルの値（列がない・空欄の場合は null）.
+     */
+    private static String cell(List<String> row, Integer column) {
+        if (column == null || column >= row.size()) {
+            return null;
+        }
+        String value = row.get(column).strip();
+        return value.isEmpty() ? null : value;
+    }
+}
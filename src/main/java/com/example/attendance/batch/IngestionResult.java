@@ -0,0 +1,18 @@
+package com.example.attendance.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 勤務記録の取り込み結果（1従業員分）.
+ */
+@Value
+@Builder
+public class IngestionResult {
+    int received;
+    int inserted;
+    /** 同期済みのため登録しなかった件数. */
+    int duplicates;
+    /** 存在確認でストレージを参照したイベントID数. */
+    int lookedUp;
+}
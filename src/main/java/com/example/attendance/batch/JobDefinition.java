@@ -0,0 +1,21 @@
+package com.example.attendance.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * ジョブの定義（名前・優先度・ロックの最大保持時間）.
+ */
+@Value
+@Builder
+public class JobDefinition {
+
+    String name;
+    /** 画面表示用のジョブ種別名. */
+    String displayName;
+    JobPriority priority;
+    /** 実行時間の上限の目安。これを過ぎるとロックが失効し、他で再実行できるようになる. */
+    Duration lockAtMostFor;
+}
@@ -0,0 +1,65 @@
+package com.example.attendance.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * バッチジョブの実行履歴（固定長のリングバッファ）.
+ *
+ * <p>全ジョブ種別の直近の実行を保持し、容量を超えると最も古い実行から上書きする。
+ * 履歴はプロセス内のみで、再起動すると消える。
+ */
+@Component
+public class JobHistory {
+
+    private final BatchJobExecution[] entries;
+    private int next;
+    private int size;
+
+    public JobHistory(@Value("${app.batch.history-size:100}") int capacity) {
+        this.entries = new BatchJobExecution[Math.max(capacity, 1)];
+    }
+
+    public synchronized void add(BatchJobExecution execution) {
+        entries[next] = execution;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    /**
+     * 直近の実行（新しい順）.
+     */
+    public synchronized List<BatchJobExecution> recent() {
+        List<BatchJobExecution> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[Math.floorMod(next - i, entries.length)]);
+        }
+        return recent;
+    }
+
+    public synchronized Optional<BatchJobExecution> find(String jobId) {
+        for (int i = 0; i < size; i++) {
+            if (entries[i].getJobId().equals(jobId)) {
+                return Optional.of(entries[i]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 指定ジョブ種別の最新の実行.
+     */
+    public synchronized Optional<BatchJobExecution> findLast(String jobName) {
+        for (int i = 1; i <= size; i++) {
+            BatchJobExecution execution = entries[Math.floorMod(next - i, entries.length)];
+            if (execution.getJobName().equals(jobName)) {
+                return Optional.of(execution);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.attendance.batch;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * ジョブの排他ロック.
+ *
+ * <p>同じ名前のジョブが複数の実行環境（インスタンス）で同時に動かないようにする。
+ * ロックは保持者が解放するか、{@code lockAtMostFor} を過ぎると失効する（保持者が異常終了しても
+ * 永久にロックされたままにならない）。
+ */
+public interface JobLock {
+
+    /**
+     * ロックの取得を試みる。他で保持されている場合は空を返す（待たない）.
+     */
+    Optional<Lease> tryAcquire(String name, Duration lockAtMostFor);
+
+    /**
+     * 取得済みのロック.
+     */
+    interface Lease {
+
+        void release();
+    }
+}
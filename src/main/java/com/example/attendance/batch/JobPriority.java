@@ -0,0 +1,10 @@
+package com.example.attendance.batch;
+
+/**
+ * ジョブの実行優先度（待ち行列では優先度の高い順、同じ優先度なら投入順に実行する）.
+ */
+public enum JobPriority {
+    HIGH,
+    MEDIUM,
+    LOW
+}
@@ -0,0 +1,80 @@
+package com.example.attendance.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * バッチジョブの進捗（画面表示・SSE配信用のスナップショット）.
+ */
+@Value
+@Builder
+public class JobProgress {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    String jobId;
+    String jobName;
+    String displayName;
+    String status;
+    /** 実行開始日時（待機中は投入日時）. */
+    String startedAt;
+    String endedAt;
+    int totalCount;
+    int processedCount;
+    int successCount;
+    int failureCount;
+    int timeoutCount;
+    int recordCount;
+    /** 進捗率（0〜100）。対象件数が未確定の場合は null. */
+    Integer progressPercent;
+    /** 残り時間の見積もり（秒）。実行中かつ1件以上処理済みの場合のみ. */
+    Long etaSeconds;
+    String message;
+
+    public static JobProgress of(BatchJobExecution execution) {
+        int total = execution.getTotalCount();
+        int processed = execution.getProcessedCount();
+        LocalDateTime startedAt = execution.getStartedAt() != null
+                ? execution.getStartedAt()
+                : execution.getQueuedAt();
+        Long etaSeconds = null;
+        if (execution.isRunning() && total > 0 && processed > 0) {
+            long elapsedMillis = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+            etaSeconds = Math.max(elapsedMillis * (total - processed) / processed / 1000, 0);
+        }
+        Integer progressPercent = null;
+        if (total > 0) {
+            progressPercent = Math.min(processed * 100 / total, 100);
+        } else if (execution.isFinished()) {
+            progressPercent = 100;
+        }
+        return JobProgress.builder()
+                .jobId(execution.getJobId())
+                .jobName(execution.getJobName())
+                .displayName(execution.getDisplayName())
+                .status(execution.getStatus())
+                .startedAt(startedAt.format(DATE_TIME_FORMAT))
+                .endedAt(execution.getEndedAt() != null
+                        ? execution.getEndedAt().format(DATE_TIME_FORMAT)
+                        : null)
+                .totalCount(total)
+                .processedCount(processed)
+                .successCount(execution.getSuccessCount())
+                .failureCount(execution.getFailureCount())
+                .timeoutCount(execution.getTimeoutCount())
+                .recordCount(execution.getRecordCount())
+                .progressPercent(progressPercent)
+                .etaSeconds(etaSeconds)
+                .message(execution.getMessage())
+                .build();
+    }
+
+    public boolean isFinished() {
+        return endedAt != null;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.attendance.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * バッチジョブの進捗を Server-Sent Events で配信する.
+ *
+ * <p>1本のティッカースレッドが一定間隔で実行中（および直前に終了した）ジョブのスナップショットを
+ * 作り、JSONへの変換も1回だけ行ったうえで全購読者に送る。閲覧中の管理者が何人いても、
+ * 進捗の集計・変換はティックごとに1回で済み、ブラウザ側のポーリングも不要になる。
+ */
+@Slf4j
+@Component
+public class JobProgressBroadcaster {
+
+    static final String EVENT_PROGRESS = "progress";
+
+    private final JobHistory jobHistory;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService ticker;
+    private LocalDateTime lastTickAt = LocalDateTime.now();
+
+    public JobProgressBroadcaster(
+            JobHistory jobHistory,
+            ObjectMapper objectMapper,
+            @Value("${app.batch.progress.interval-millis:1000}") long intervalMillis,
+            @Value("${app.batch.progress.emitter-timeout-minutes:30}")
+            long emitterTimeoutMinutes) {
+        this.jobHistory = jobHistory;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = TimeUnit.MINUTES.toMillis(emitterTimeoutMinutes);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-progress-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 全ジョブの進捗を購読する。接続直後に直近の実行履歴を送る.
+     */
+    public SseEmitter subscribeAll() {
+        return subscribe(null, jobHistory.recent());
+    }
+
+    /**
+     * 1ジョブの進捗を購読する。ジョブが終了した時点でストリームを閉じる.
+     */
+    public SseEmitter subscribe(String jobId) {
+        return subscribe(jobId, jobHistory.find(jobId).map(List::of).orElse(List.of()));
+    }
+
+    private SseEmitter subscribe(String jobId, List<BatchJobExecution> initial) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(jobId, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // 古い順に送り、画面側では後から届いたものを上に積む
+        for (int i = initial.size() - 1; i >= 0; i--) {
+            JobProgress progress = JobProgress.of(initial.get(i));
+            if (!send(subscriber, progress, toJson(progress))) {
+                break;
+            }
+        }
+        if (jobId != null && (initial.isEmpty() || initial.get(0).isFinished())) {
+            complete(subscriber);
+        }
+        return emitter;
+    }
+
+    private void tick() {
+        try {
+            LocalDateTime tickAt = LocalDateTime.now();
+            LocalDateTime since = lastTickAt;
+            lastTickAt = tickAt;
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            List<JobProgress> changed = new ArrayList<>();
+            for (BatchJobExecution execution : jobHistory.recent()) {
+                LocalDateTime endedAt = execution.getEndedAt();
+                if (endedAt == null || !endedAt.isBefore(since)) {
+                    changed.add(JobProgress.of(execution));
+                }
+            }
+            for (JobProgress progress : changed) {
+                String json = toJson(progress);
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.jobId() != null
+                            && !subscriber.jobId().equals(progress.getJobId())) {
+                        continue;
+                    }
+                    if (send(subscriber, progress, json) && subscriber.jobId() != null
+                            && progress.isFinished()) {
+                        complete(subscriber);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast job progress", e);
+        }
+    }
+
+    private boolean send(Subscriber subscriber, JobProgress progress, String json) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .name(EVENT_PROGRESS)
+                    .id(progress.getJobId())
+                    .data(json, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 切断済みのクライアント
+            subscribers.remove(subscriber);
+            return false;
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.emitter().complete();
+    }
+
+    private String toJson(JobProgress progress) {
+        try {
+            return objectMapper.writeValueAsString(progress);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    /**
+     * 購読者（jobId が null の場合は全ジョブ）.
+     */
+    private record Subscriber(String jobId, SseEmitter emitter) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.metrics.MetricsRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * バッチジョブの実行基盤.
+ *
+ * <p>ジョブは専用のスレッドプールで実行し、Webリクエストのスレッドを占有しない。
+ * <ul>
+ *   <li>同じジョブキーのジョブは同時に1つだけ。待機中・実行中に同じキーで投入された場合は
+ *       新たに実行せず、既存のジョブに統合する（ボタンの連打や定期実行との重複）</li>
+ *   <li>待ち行列は優先度順（同じ優先度なら投入順）。待機数が上限に達したら投入を拒否する</li>
+ *   <li>実行直前に {@link JobLock} を取得し、取得できなければ（他の実行環境で実行中）スキップする</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JobRuntime {
+
+    private final JobLock jobLock;
+    private final JobHistory jobHistory;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, BatchJobExecution> inFlight = new ConcurrentHashMap<>();
+
+    public JobRuntime(
+            JobLock jobLock,
+            JobHistory jobHistory,
+            MetricsRegistry metricsRegistry,
+            @Value("${app.job.runtime.threads:2}") int threads,
+            @Value("${app.job.runtime.queue-capacity:16}") int queueCapacity) {
+        this.jobLock = jobLock;
+        this.jobHistory = jobHistory;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "job-runtime-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        metricsRegistry.gauge("job_runtime_queued", "Jobs waiting for a job runtime thread",
+                () -> executor.getQueue().size());
+        metricsRegistry.gauge("job_runtime_active", "Jobs currently running",
+                executor::getActiveCount);
+    }
+
+    /**
+     * ジョブを投入する.
+     *
+     * @param jobKey 単一実行の単位（同じキーのジョブは同時に1つだけ）
+     * @param body   ジョブ本体。終了時に実行状況を {@code finish} すること（しなかった場合は成功扱い）
+     * @throws RejectedExecutionException 待ち行列が満杯の場合
+     */
+    public JobSubmission submit(JobDefinition definition, String jobKey,
+            Consumer<BatchJobExecution> body) {
+        BatchJobExecution[] created = new BatchJobExecution[1];
+        BatchJobExecution execution = inFlight.computeIfAbsent(jobKey, key -> {
+            if (executor.getQueue().size() >= queueCapacity) {
+                throw new RejectedExecutionException(
+                        "Job queue is full: capacity=" + queueCapacity);
+            }
+            created[0] = new BatchJobExecution(UUID.randomUUID().toString(),
+                    definition.getName(), definition.getDisplayName());
+            return created[0];
+        });
+        if (created[0] == null) {
+            log.info("Job coalesced into in-flight run: jobKey={}, jobId={}, status={}",
+                    jobKey, execution.getJobId(), execution.getStatus());
+            return new JobSubmission(execution, true);
+        }
+
+        jobHistory.add(execution);
+        try {
+            executor.execute(new QueuedJob(definition, jobKey, execution, body,
+                    sequence.incrementAndGet()));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(jobKey, execution);
+            execution.finish(BatchJobExecution.STATUS_FAILED, "ジョブを開始できませんでした");
+            throw e;
+        }
+        log.info("Job queued: jobKey={}, jobId={}, priority={}", jobKey, execution.getJobId(),
+                definition.getPriority());
+        return new JobSubmission(execution, false);
+    }
+
+    public Optional<BatchJobExecution> findInFlight(String jobKey) {
+        return Optional.ofNullable(inFlight.get(jobKey));
+    }
+
+    private void run(QueuedJob job) {
+        BatchJobExecution execution = job.execution;
+        try {
+            Optional<JobLock.Lease> lease = jobLock.tryAcquire(job.jobKey,
+                    job.definition.getLockAtMostFor());
+            if (lease.isEmpty()) {
+                log.info("Job skipped, lock is held elsewhere: jobKey={}, jobId={}",
+                        job.jobKey, execution.getJobId());
+                execution.finish(BatchJobExecution.STATUS_SKIPPED,
+                        "他の実行環境で実行中のためスキップしました");
+                return;
+            }
+            try {
+                execution.markRunning();
+                job.body.accept(execution);
+                if (!execution.isFinished()) {
+                    execution.finish(BatchJobExecution.STATUS_SUCCESS, null);
+                }
+            } catch (RuntimeException e) {
+                log.error("Job failed: jobKey={}, jobId={}", job.jobKey, execution.getJobId(), e);
+                if (!execution.isFinished()) {
+                    execution.finish(BatchJobExecution.STATUS_FAILED,
+                            "エラーが発生しました: " + e.getMessage());
+                }
+            } finally {
+                lease.get().release();
+            }
+        } finally {
+            inFlight.remove(job.jobKey, execution);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 待ち行列上のジョブ（優先度、投入順の順に並ぶ）.
+     */
+    private final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+
+        private final JobDefinition definition;
+        private final String jobKey;
+        private final BatchJobExecution execution;
+        private final Consumer<BatchJobExecution> body;
+        private final long sequence;
+
+        QueuedJob(JobDefinition definition, String jobKey, BatchJobExecution execution,
+                Consumer<BatchJobExecution> body, long sequence) {
+            this.definition = definition;
+            this.jobKey = jobKey;
+            this.execution = execution;
+            this.body = body;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            JobRuntime.this.run(this);
+        }
+
+        @Override
+        public int compareTo(QueuedJob other) {
+            int byPriority = definition.getPriority().compareTo(other.definition.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
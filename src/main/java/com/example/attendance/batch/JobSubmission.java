@@ -0,0 +1,18 @@
+package com.example.attendance.batch;
+
+import lombok.Value;
+
+/**
+ * ジョブ投入の結果.
+ */
+@Value
+public class JobSubmission {
+
+    BatchJobExecution execution;
+    /** 同じジョブキーの待機中・実行中のジョブに統合された場合は true. */
+    boolean coalesced;
+
+    public String getJobId() {
+        return execution.getJobId();
+    }
+}
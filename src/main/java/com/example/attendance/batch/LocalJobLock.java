@@ -0,0 +1,45 @@
+package com.example.attendance.batch;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * プロセス内のジョブロック（単一インスタンス構成用）.
+ *
+ * <p>複数インスタンス構成では、共有ストレージを使う {@link JobLock} の実装に差し替える。
+ */
+@Component
+@ConditionalOnProperty(name = "app.job.lock", havingValue = "local", matchIfMissing = true)
+public class LocalJobLock implements JobLock {
+
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor) {
+        long now = System.nanoTime();
+        Holder holder = new Holder(now + lockAtMostFor.toNanos());
+        Holder current = holders.compute(name, (key, existing) ->
+                existing == null || existing.lockUntilNanos - now <= 0 ? holder : existing);
+        if (current != holder) {
+            return Optional.empty();
+        }
+        return Optional.of(() -> holders.remove(name, holder));
+    }
+
+    /**
+     * ロックの保持者（インスタンスの同一性で解放対象を判定する）.
+     */
+    private static final class Holder {
+
+        private final long lockUntilNanos;
+
+        Holder(long lockUntilNanos) {
+            this.lockUntilNanos = lockUntilNanos;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.archive.PayrollArchive;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.service.PayrollCalculationResult;
+import com.example.attendance.service.PayrollCalculationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 給与履歴アーカイブジョブ.
+ *
+ * <p>保持期間（既定12か月）より前の月の給与計算結果を {@link PayrollArchive} の圧縮セグメントに
+ * 書き出し、計算結果の保持対象から外す。外した月はアーカイブから参照される。
+ */
+@Slf4j
+@Component
+public class PayrollArchiveJob {
+
+    public static final String JOB_NAME = "PayrollArchiveJob";
+    public static final String DISPLAY_NAME = "給与履歴アーカイブ";
+
+    /** メトリクス名の接頭辞. */
+    public static final String METRICS_NAME = "payroll_archive";
+
+    private static final JobDefinition DEFINITION = JobDefinition.builder()
+            .name(JOB_NAME)
+            .displayName(DISPLAY_NAME)
+            .priority(JobPriority.LOW)
+            .lockAtMostFor(Duration.ofMinutes(30))
+            .build();
+
+    private final PayrollCalculationService payrollCalculationService;
+    private final PayrollArchive payrollArchive;
+    private final JobRuntime jobRuntime;
+    private final JobMetrics jobMetrics;
+    private final int retentionMonths;
+    private final ZoneId zone;
+
+    public PayrollArchiveJob(
+            PayrollCalculationService payrollCalculationService,
+            PayrollArchive payrollArchive,
+            JobRuntime jobRuntime,
+            MetricsRegistry metricsRegistry,
+            @Value("${app.payroll-archive.retention-months:12}") int retentionMonths,
+            @Value("${app.batch.zone:Asia/Tokyo}") ZoneId zone) {
+        this.payrollCalculationService = payrollCalculationService;
+        this.payrollArchive = payrollArchive;
+        this.jobRuntime = jobRuntime;
+        this.jobMetrics = metricsRegistry.job(METRICS_NAME);
+        this.retentionMonths = retentionMonths;
+        this.zone = zone;
+    }
+
+    /**
+     * アーカイブをジョブ実行基盤に投入する.
+     */
+    public JobSubmission start() {
+        return jobRuntime.submit(DEFINITION, JOB_NAME, this::run);
+    }
+
+    /**
+     * 定期実行（既定は毎月1日3:00）.
+     */
+    @Scheduled(cron = "${app.payroll-archive.cron:0 0 3 1 * *}",
+            zone = "${app.batch.zone:Asia/Tokyo}")
+    public void scheduledArchive() {
+        start();
+    }
+
+    private void run(BatchJobExecution execution) {
+        long startNanos = System.nanoTime();
+        YearMonth cutoff = YearMonth.now(zone).minusMonths(retentionMonths);
+        List<YearMonth> months = payrollCalculationService.findCalculatedMonths()
+                .headSet(cutoff, false)
+                .stream()
+                .toList();
+        execution.start(months.size());
+        int payrolls = 0;
+        for (YearMonth month : months) {
+            Optional<PayrollCalculationResult> result =
+                    payrollCalculationService.findResult(month);
+            if (result.isEmpty()) {
+                continue;
+            }
+            try {
+                int archived = payrollArchive.archive(month, result.get().getPayrolls());
+                payrollCalculationService.evictArchived(result.get());
+                execution.recordSuccess(archived);
+                payrolls += archived;
+            } catch (IOException | RuntimeException e) {
+                execution.recordFailure(false);
+                log.error("Failed to archive payroll month: jobId={}, month={}",
+                        execution.getJobId(), month, e);
+            }
+        }
+
+        boolean succeeded = execution.getFailureCount() == 0;
+        execution.finish(succeeded ? BatchJobExecution.STATUS_SUCCESS
+                        : BatchJobExecution.STATUS_FAILED,
+                String.format("%sより前の%dか月分（%d件）の給与をアーカイブしました（失敗: %dか月）",
+                        cutoff, execution.getSuccessCount(), payrolls,
+                        execution.getFailureCount()));
+        jobMetrics.record(System.nanoTime() - startNanos, payrolls, succeeded);
+        log.info("Payroll archive job completed: jobId={}, cutoff={}, months={}, payrolls={}, "
+                        + "failures={}",
+                execution.getJobId(), cutoff, execution.getSuccessCount(), payrolls,
+                execution.getFailureCount());
+    }
+}
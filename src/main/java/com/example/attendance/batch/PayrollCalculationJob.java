@@ -0,0 +1,93 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.service.PayrollCalculationResult;
+import com.example.attendance.service.PayrollCalculationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 給与計算ジョブ（画面から実行する月次給与計算）.
+ *
+ * <p>計算自体は {@link PayrollCalculationService} に委譲する。同じ月の計算は同時に1つだけ実行し、
+ * 重ねて実行要求があった場合は待機中・実行中の計算に統合する。
+ *
+ * <p>計算後の勤務記録の変更は、未反映の従業員分だけを再計算するジョブで反映する
+ * （定期実行、既定は10秒ごと）。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayrollCalculationJob {
+
+    public static final String JOB_NAME = "PayrollCalculationJob";
+    public static final String DISPLAY_NAME = "給与計算";
+
+    private static final JobDefinition DEFINITION = JobDefinition.builder()
+            .name(JOB_NAME)
+            .displayName(DISPLAY_NAME)
+            .priority(JobPriority.MEDIUM)
+            .lockAtMostFor(Duration.ofMinutes(30))
+            .build();
+
+    public static final String STALE_JOB_NAME = "PayrollStaleRecalculationJob";
+    public static final String STALE_DISPLAY_NAME = "給与再計算（未反映分）";
+
+    private static final JobDefinition STALE_DEFINITION = JobDefinition.builder()
+            .name(STALE_JOB_NAME)
+            .displayName(STALE_DISPLAY_NAME)
+            .priority(JobPriority.MEDIUM)
+            .lockAtMostFor(Duration.ofMinutes(5))
+            .build();
+
+    private final PayrollCalculationService payrollCalculationService;
+    private final JobRuntime jobRuntime;
+
+    /**
+     * 対象月の給与計算をジョブ実行基盤に投入する.
+     */
+    public JobSubmission start(YearMonth targetMonth) {
+        return jobRuntime.submit(DEFINITION, JOB_NAME + ":" + targetMonth, execution -> {
+            PayrollCalculationResult result = payrollCalculationService.calculate(targetMonth);
+            execution.start(result.getEmployeeCount());
+            execution.recordSuccesses(result.getEmployeeCount(), result.getRecordCount());
+            execution.finish(BatchJobExecution.STATUS_SUCCESS, String.format(
+                    "%sの給与を%d名分計算しました", targetMonth, result.getEmployeeCount()));
+        });
+    }
+
+    /**
+     * 対象月の未反映の従業員分の再計算をジョブ実行基盤に投入する.
+     *
+     * <p>全従業員分の計算とは別に単一実行とし、待機中・実行中の再計算があればそちらに統合する。
+     */
+    public JobSubmission startStaleRecalculation(YearMonth targetMonth) {
+        return jobRuntime.submit(STALE_DEFINITION, STALE_JOB_NAME + ":" + targetMonth,
+                execution -> {
+                    int recalculated = payrollCalculationService.recalculateStale(targetMonth);
+                    execution.start(recalculated);
+                    execution.recordSuccesses(recalculated, recalculated);
+                    execution.finish(BatchJobExecution.STATUS_SUCCESS, String.format(
+                            "%sの給与を%d名分再計算しました", targetMonth, recalculated));
+                });
+    }
+
+    /**
+     * 未反映の従業員がいる月の再計算を投入する（定期実行）.
+     */
+    @Scheduled(fixedDelayString = "${app.payroll.stale-recalculation-interval-millis:10000}")
+    public void scheduledStaleRecalculation() {
+        for (YearMonth month : payrollCalculationService.findStaleMonths()) {
+            try {
+                startStaleRecalculation(month);
+            } catch (RejectedExecutionException e) {
+                log.warn("Stale payroll recalculation not queued: targetMonth={}", month, e);
+            }
+        }
+    }
+}
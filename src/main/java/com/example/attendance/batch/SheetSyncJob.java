@@ -0,0 +1,255 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.domain.Student;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.service.StudentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 生徒情報同期ジョブ（生徒名簿の差分取り込み）.
+ *
+ * <p>名簿の各行について、生徒IDごとに内容のフィンガープリント（FNV-1a 64bit）を前回分として保持し、
+ * 今回読み込んだ行と比較して次のものだけを生徒マスタに反映する。
+ * <ul>
+ *   <li>前回にない生徒ID（追加）</li>
+ *   <li>フィンガープリントが変わった生徒（更新）</li>
+ *   <li>今回の名簿にない生徒ID（無効化）</li>
+ * </ul>
+ * 行の読み込みとハッシュ計算は名簿の行数に比例するが、生徒マスタへの書き込みは変更行数に比例する。
+ * 名簿の版（ファイルのサイズと更新日時など）が前回と同じ場合は読み込み自体を省略する。
+ */
+@Slf4j
+@Component
+public class SheetSyncJob {
+
+    public static final String JOB_NAME = "SheetSyncJob";
+    public static final String DISPLAY_NAME = "スプレッドシート同期";
+
+    /** メトリクス名の接頭辞. */
+    public static final String METRICS_NAME = "sheet_sync";
+
+    private static final JobDefinition DEFINITION = JobDefinition.builder()
+            .name(JOB_NAME)
+            .displayName(DISPLAY_NAME)
+            .priority(JobPriority.MEDIUM)
+            .lockAtMostFor(Duration.ofMinutes(10))
+            .build();
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final StudentService studentService;
+    private final StudentRowSource rowSource;
+    private final JobHistory jobHistory;
+    private final JobRuntime jobRuntime;
+    private final JobMetrics jobMetrics;
+
+    /**
+     * 前回取り込んだ名簿（生徒ID → フィンガープリント）。ジョブキーで単一実行のため同時には更新されない.
+     */
+    private volatile Map<String, Long> lastFingerprints;
+    private volatile String lastVersion;
+
+    public SheetSyncJob(
+            StudentService studentService,
+            StudentRowSource rowSource,
+            JobHistory jobHistory,
+            JobRuntime jobRuntime,
+            MetricsRegistry metricsRegistry) {
+        this.studentService = studentService;
+        this.rowSource = rowSource;
+        this.jobHistory = jobHistory;
+        this.jobRuntime = jobRuntime;
+        this.jobMetrics = metricsRegistry.job(METRICS_NAME);
+    }
+
+    /**
+     * 同期をジョブ実行基盤に投入する.
+     *
+     * <p>待機中・実行中の同期がある場合は新たに開始せず、そのジョブに統合する。
+     */
+    public JobSubmission start() {
+        return jobRuntime.submit(DEFINITION, JOB_NAME, this::run);
+    }
+
+    /**
+     * 定期同期（既定は毎日2:00）.
+     */
+    @Scheduled(cron = "${app.sheet-sync.cron:0 0 2 * * *}",
+            zone = "${app.batch.zone:Asia/Tokyo}")
+    public void scheduledSync() {
+        start();
+    }
+
+    public Optional<BatchJobExecution> findLastExecution() {
+        return jobHistory.findLast(JOB_NAME);
+    }
+
+    private void run(BatchJobExecution execution) {
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        int rows = 0;
+        try {
+            Optional<String> version = rowSource.version();
+            if (version.isPresent() && version.get().equals(lastVersion)) {
+                succeeded = true;
+                execution.finish(BatchJobExecution.STATUS_SUCCESS,
+                        "生徒名簿に変更がないため同期を省略しました");
+                log.info("Sheet sync skipped, roster unchanged: jobId={}, version={}",
+                        execution.getJobId(), lastVersion);
+                return;
+            }
+
+            Diff diff = diff(lastFingerprintsOrInitialize());
+            rows = diff.fingerprints().size();
+            if (rows == 0 && !lastFingerprints.isEmpty()) {
+                // 名簿の取得に失敗して空になった場合に全員を無効化しない
+                throw new IllegalStateException("Student roster is empty");
+            }
+            execution.start(rows);
+
+            List<Student> upserts = new ArrayList<>(diff.inserted().size() + diff.changed().size());
+            diff.inserted().forEach(row -> upserts.add(toStudent(row)));
+            diff.changed().forEach(row -> upserts.add(toStudent(row)));
+            int deactivated = upserts.isEmpty() && diff.removedIds().isEmpty()
+                    ? 0
+                    : studentService.applyChanges(upserts, diff.removedIds());
+            lastFingerprints = diff.fingerprints();
+            lastVersion = version.orElse(null);
+
+            int applied = upserts.size() + deactivated;
+            execution.recordSuccesses(rows, applied);
+            execution.finish(BatchJobExecution.STATUS_SUCCESS, String.format(
+                    "生徒名簿%d件を照合し、%d件を反映しました（追加: %d名、更新: %d名、無効化: %d名）",
+                    rows, applied, diff.inserted().size(), diff.changed().size(), deactivated));
+            succeeded = true;
+            log.info("Sheet sync job completed: jobId={}, rows={}, inserted={}, changed={}, "
+                            + "deactivated={}, duplicates={}",
+                    execution.getJobId(), rows, diff.inserted().size(), diff.changed().size(),
+                    deactivated, diff.duplicates());
+        } catch (IOException | RuntimeException e) {
+            log.error("Sheet sync job failed: jobId={}", execution.getJobId(), e);
+            execution.finish(BatchJobExecution.STATUS_FAILED,
+                    "生徒名簿の同期に失敗しました: " + e.getMessage());
+        } finally {
+            jobMetrics.record(System.nanoTime() - startNanos, rows, succeeded);
+        }
+    }
+
+    /**
+     * 名簿を読み込み、前回のフィンガープリントと比較する.
+     */
+    private Diff diff(Map<String, Long> previous) throws IOException {
+        Map<String, Long> current = new HashMap<>(Math.max(16, previous.size() * 4 / 3 + 1));
+        List<StudentRow> inserted = new ArrayList<>();
+        List<StudentRow> changed = new ArrayList<>();
+        int[] matched = new int[1];
+        int[] duplicates = new int[1];
+        rowSource.forEachRow(row -> {
+            long fingerprint = fingerprintOf(row.getStudentId(), row.getName(), row.getGrade(),
+                    row.getSchool(), row.getNotes());
+            // 同じ生徒IDの行が複数ある場合は先勝ち
+            if (current.putIfAbsent(row.getStudentId(), fingerprint) != null) {
+                duplicates[0]++;
+                log.warn("Duplicate student ID in roster: studentId={}", row.getStudentId());
+                return;
+            }
+            Long before = previous.get(row.getStudentId());
+            if (before == null) {
+                inserted.add(row);
+            } else {
+                matched[0]++;
+                if (before != fingerprint) {
+                    changed.add(row);
+                }
+            }
+        });
+
+        // 前回の生徒が全員今回もいれば、前回分を走査しなくてよい
+        List<String> removedIds = matched[0] == previous.size()
+                ? List.of()
+                : previous.keySet().stream()
+                        .filter(studentId -> !current.containsKey(studentId))
+                        .toList();
+        return new Diff(current, inserted, changed, removedIds, duplicates[0]);
+    }
+
+    /**
+     * 初回は生徒マスタの在籍中の生徒から前回分を組み立て、変更のない生徒を書き直さないようにする.
+     */
+    private Map<String, Long> lastFingerprintsOrInitialize() {
+        Map<String, Long> fingerprints = lastFingerprints;
+        if (fingerprints == null) {
+            fingerprints = new HashMap<>();
+            for (Student student : studentService.findActive()) {
+                fingerprints.put(student.getId(), fingerprintOf(student.getId(),
+                        student.getName(), student.getGrade(), student.getSchool(),
+                        student.getNotes()));
+            }
+            lastFingerprints = fingerprints;
+        }
+        return fingerprints;
+    }
+
+    private static Student toStudent(StudentRow row) {
+        return Student.builder()
+                .id(row.getStudentId())
+                .name(row.getName())
+                .grade(row.getGrade())
+                .studentLevelId(studentLevelIdOf(row.getGrade()))
+                .school(row.getSchool())
+                .notes(row.getNotes())
+                .active(true)
+                .build();
+    }
+
+    /**
+     * 学年の表記（小学○年・中学○年・高校○年）から学校種別IDを判定する.
+     */
+    private static Integer studentLevelIdOf(String grade) {
+        if (grade == null || grade.isEmpty()) {
+            return null;
+        }
+        return switch (grade.charAt(0)) {
+            case '小' -> 1;
+            case '中' -> 2;
+            case '高' -> 3;
+            default -> null;
+        };
+    }
+
+    /**
+     * 名簿1行分の内容のフィンガープリント（FNV-1a 64bit）.
+     */
+    private static long fingerprintOf(String... values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String value : values) {
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+                }
+            }
+            // 区切り（null と空文字、隣り合う値の境界を区別する）
+            hash = (hash ^ (value == null ? 0x1FF : 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 名簿と前回分の差分.
+     */
+    private record Diff(Map<String, Long> fingerprints, List<StudentRow> inserted,
+            List<StudentRow> changed, List<String> removedIds, int duplicates) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.dto.EmployeeDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Google Calendar API の代わりに使うプロセス内スタブ.
+ *
+ * <p>平日17:00開始の授業イベントを従業員ごとに決定的に生成し、API呼び出し相当の遅延を挟んで返す。
+ */
+@Component
+@ConditionalOnProperty(name = "app.calendar-sync.source", havingValue = "stub",
+        matchIfMissing = true)
+public class StubCalendarSource implements CalendarSource {
+
+    private static final String[] TITLES = {
+        "個別（山田太郎）", "集団（中2英語）", "自習", "個別(佐藤花子)", "面談（保護者）",
+    };
+
+    private final long latencyMillis;
+
+    public StubCalendarSource(
+            @Value("${app.calendar-sync.stub.latency-millis:200}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public List<CalendarEvent> fetchEvents(EmployeeDto employee, LocalDateTime from,
+            LocalDateTime to) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+
+        List<CalendarEvent> events = new ArrayList<>();
+        int seed = Math.abs(employee.getId().hashCode());
+        for (LocalDate date = from.toLocalDate(); date.isBefore(to.toLocalDate().plusDays(1));
+                date = date.plusDays(1)) {
+            LocalDateTime start = date.atTime(17, 0);
+            if (isWeekend(date) || start.isBefore(from) || !start.isBefore(to)) {
+                continue;
+            }
+            String title = TITLES[(int) ((seed + date.toEpochDay()) % TITLES.length)];
+            events.add(CalendarEvent.builder()
+                    .eventId(employee.getId() + "-" + date)
+                    .summary(title)
+                    .startTime(start)
+                    .endTime(start.plusMinutes(90))
+                    .build());
+        }
+        return events;
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
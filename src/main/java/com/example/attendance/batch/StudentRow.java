@@ -0,0 +1,18 @@
+package com.example.attendance.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 生徒名簿（スプレッドシート）の1行.
+ */
+@Value
+@Builder
+public class StudentRow {
+    /** 生徒ID（行を識別するキー）. */
+    String studentId;
+    String name;
+    String grade;
+    String school;
+    String notes;
+}
@@ -0,0 +1,29 @@
+package com.example.attendance.batch;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 生徒名簿の取得元.
+ *
+ * <p>Google Sheets API の代わりにローカルのCSVファイルなどへ差し替えられるよう、
+ * {@link SheetSyncJob} はこのインターフェースだけに依存する。
+ */
+public interface StudentRowSource {
+
+    /**
+     * 名簿の版（内容が変わると変わる値。例: ファイルのサイズと更新日時）.
+     *
+     * <p>前回の取り込み時と同じ版であれば、{@link SheetSyncJob} は行の読み込みを省略する。
+     * 版を判定できない取得元は空を返す。
+     */
+    default Optional<String> version() throws IOException {
+        return Optional.empty();
+    }
+
+    /**
+     * 名簿の全行を先頭から順に渡す.
+     */
+    void forEachRow(Consumer<StudentRow> consumer) throws IOException;
+}
@@ -0,0 +1,94 @@
+package com.example.attendance.batch;
+
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.service.WorkRecordService;
+import com.example.attendance.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * カレンダー同期で取得した勤務記録の一括取り込み.
+ *
+ * <p>1従業員分のイベントをまとめて受け取り、次の順で取り込む。
+ * <ol>
+ *   <li>ブルームフィルタに存在しないイベントIDは確実に新規なので、存在確認を省略する</li>
+ *   <li>残りのイベントIDは1回の集合検索で同期済みかを判定する</li>
+ *   <li>新規の勤務記録のみを一括登録する</li>
+ * </ol>
+ * 登録は google_event_id の一意制約相当で冪等なため、同じバッチを再投入しても重複しない。
+ *
+ * <p>取り込みは新規イベントの追加だけで、同期済みのイベントは更新しない（要件 FR-002・UT-CS-002 の
+ * 「既存のイベントは無視」）。トレードオフとして次の点に注意する。
+ * <ul>
+ *   <li>同期後にカレンダー上で時刻・タイトル等を変更したイベントは再取り込みされず、同期済みとして数える
+ *       （duplicates）。勤務記録の修正は勤務記録画面で行う。カレンダーから削除したイベントの勤務記録も
+ *       残る</li>
+ *   <li>ブルームフィルタは一度も見ていないイベントIDの存在確認を省くだけで、重複の判定には使わない
+ *       （偽陽性のイベントIDは集合検索で確認する）。同期済みかどうかの判定は常に勤務記録で行う</li>
+ * </ul>
+ * 変更を反映する場合は、イベントごとのフィンガープリントを保持して不一致のイベントだけを更新する。
+ */
+@Slf4j
+@Component
+public class WorkRecordIngestion {
+
+    private final WorkRecordService workRecordService;
+    private final BloomFilter knownEventIds;
+
+    public WorkRecordIngestion(
+            WorkRecordService workRecordService,
+            @Value("${app.calendar-sync.ingestion.expected-event-ids:1000000}")
+            long expectedEventIds,
+            @Value("${app.calendar-sync.ingestion.false-positive-rate:0.01}")
+            double falsePositiveRate) {
+        this.workRecordService = workRecordService;
+        this.knownEventIds = new BloomFilter(expectedEventIds, falsePositiveRate);
+        List<String> existing = workRecordService.findAllGoogleEventIds();
+        existing.forEach(knownEventIds::put);
+        log.info("Work record ingestion initialized: knownEventIds={}, bloomBits={}, hashes={}",
+                existing.size(), knownEventIds.bitCount(), knownEventIds.hashCount());
+    }
+
+    /**
+     * 1従業員分の同期済み勤務記録（googleEventId 必須）を取り込む.
+     */
+    public IngestionResult ingest(List<WorkRecordDto> syncedRecords) {
+        // 同一バッチ内の重複イベントは先勝ち
+        Map<String, WorkRecordDto> byEventId = new LinkedHashMap<>();
+        for (WorkRecordDto record : syncedRecords) {
+            byEventId.putIfAbsent(record.getGoogleEventId(), record);
+        }
+
+        List<WorkRecordDto> candidates = new ArrayList<>(byEventId.size());
+        List<String> maybeKnown = new ArrayList<>();
+        for (WorkRecordDto record : byEventId.values()) {
+            if (knownEventIds.mightContain(record.getGoogleEventId())) {
+                maybeKnown.add(record.getGoogleEventId());
+            }
+            candidates.add(record);
+        }
+        Set<String> existing = maybeKnown.isEmpty()
+                ? Set.of()
+                : workRecordService.findExistingGoogleEventIds(maybeKnown);
+        candidates.removeIf(record -> existing.contains(record.getGoogleEventId()));
+
+        List<WorkRecordDto> inserted = candidates.isEmpty()
+                ? List.of()
+                : workRecordService.saveAllSynced(candidates);
+        inserted.forEach(record -> knownEventIds.put(record.getGoogleEventId()));
+
+        return IngestionResult.builder()
+                .received(syncedRecords.size())
+                .inserted(inserted.size())
+                .duplicates(syncedRecords.size() - inserted.size())
+                .lookedUp(maybeKnown.size())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行の設定.
+ *
+ * <p>スケジューラはジョブをジョブ実行基盤に投入するだけで、ジョブ本体は実行しない。
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
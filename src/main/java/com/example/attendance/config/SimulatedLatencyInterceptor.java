@@ -0,0 +1,37 @@
+package com.example.attendance.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 負荷試験用に、画面・APIのリクエストごとに DB・外部API呼び出し相当の待ち時間を挟むインターセプター.
+ *
+ * <p>プロトタイプはデータをメモリに持つため、本番で処理時間の大半を占めるブロッキングI/Oを
+ * {@code app.load-test.backend-latency-millis} の間スレッドを停止して再現する。
+ * プラットフォームスレッドと仮想スレッドのスループット比較に使い、本番では設定しない。
+ */
+@Component
+@ConditionalOnProperty(name = "app.load-test.backend-latency-millis")
+public class SimulatedLatencyInterceptor implements HandlerInterceptor {
+
+    private final long latencyMillis;
+
+    public SimulatedLatencyInterceptor(
+            @Value("${app.load-test.backend-latency-millis}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) throws InterruptedException {
+        if (latencyMillis > 0 && handler instanceof HandlerMethod) {
+            Thread.sleep(latencyMillis);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.attendance.config;
+
+import com.example.attendance.metrics.RequestMetricsInterceptor;
+import com.example.attendance.security.CurrentUserInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 設定.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+    private final CurrentUserInterceptor currentUserInterceptor;
+    private final ObjectProvider<SimulatedLatencyInterceptor> simulatedLatencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // SSE は接続時間がそのまま処理時間になるため、レイテンシの計測対象から外す
+        registry.addInterceptor(requestMetricsInterceptor)
+                .excludePathPatterns("/actuator/**", "/admin/batch/events",
+                        "/admin/batch/jobs/*/events");
+        registry.addInterceptor(currentUserInterceptor)
+                .excludePathPatterns("/actuator/**", "/css/**");
+        simulatedLatencyInterceptor.ifAvailable(interceptor -> registry
+                .addInterceptor(interceptor)
+                .excludePathPatterns("/actuator/**"));
+    }
+}
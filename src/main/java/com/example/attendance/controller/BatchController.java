@@ -1,63 +1,144 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.batch.BatchJobExecution;
+import com.example.attendance.batch.CalendarSyncJob;
+import com.example.attendance.batch.JobHistory;
+import com.example.attendance.batch.JobProgress;
+import com.example.attendance.batch.JobProgressBroadcaster;
+import com.example.attendance.batch.JobSubmission;
+import com.example.attendance.batch.PayrollCalculationJob;
+import com.example.attendance.batch.SheetSyncJob;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.service.PayrollCalculationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * バッチ実行管理コントローラー（管理者専用）.
  */
 @Controller
 @RequestMapping("/admin/batch")
+@RequiredArgsConstructor
 public class BatchController {
 
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CalendarSyncJob calendarSyncJob;
+    private final PayrollCalculationJob payrollCalculationJob;
+    private final SheetSyncJob sheetSyncJob;
+    private final JobHistory jobHistory;
+    private final JobProgressBroadcaster jobProgressBroadcaster;
+    private final MetricsRegistry metricsRegistry;
+
     @GetMapping
     public String list(Model model) {
-        List<Map<String, Object>> batchLogs = createMockBatchLogs();
+        List<JobProgress> batchLogs = jobHistory.recent().stream()
+                .map(JobProgress::of)
+                .toList();
         model.addAttribute("batchLogs", batchLogs);
-        model.addAttribute("lastCalendarSync", "2024-01-15 10:00:00");
-        model.addAttribute("lastPayrollCalc", "2024-01-15 06:00:00");
+        model.addAttribute("lastCalendarSync", calendarSyncJob.findLastExecution()
+                .filter(BatchJobExecution::isRunning)
+                .map(execution -> "実行中（" + execution.getStartedAt().format(DATE_TIME_FORMAT)
+                        + " 開始）")
+                .orElseGet(() -> formatLastRun(metricsRegistry.job(CalendarSyncJob.METRICS_NAME))));
+        model.addAttribute("lastPayrollCalc",
+                formatLastRun(metricsRegistry.job(PayrollCalculationService.METRICS_NAME)));
+        model.addAttribute("lastSheetSync",
+                formatLastRun(metricsRegistry.job(SheetSyncJob.METRICS_NAME)));
         return "admin/batch";
     }
 
+    /**
+     * 全ジョブの進捗ストリーム（Server-Sent Events）.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        return jobProgressBroadcaster.subscribeAll();
+    }
+
+    /**
+     * 1ジョブの進捗ストリーム（ジョブ終了時に閉じる）.
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter jobEvents(@PathVariable String jobId) {
+        return jobProgressBroadcaster.subscribe(jobId);
+    }
+
     @PostMapping("/sync-calendar")
     public String syncCalendar(RedirectAttributes redirectAttributes) {
-        redirectAttributes.addFlashAttribute("message", "Googleカレンダー同期を開始しました（プロトタイプ）");
+        try {
+            addSubmissionMessage(calendarSyncJob.start(), "Googleカレンダー同期",
+                    redirectAttributes);
+        } catch (RejectedExecutionException e) {
+            addRejectedMessage(redirectAttributes);
+        }
         return "redirect:/admin/batch";
     }
 
     @PostMapping("/calculate-payroll")
     public String calculatePayroll(@RequestParam String targetMonth, RedirectAttributes redirectAttributes) {
-        redirectAttributes.addFlashAttribute("message", targetMonth + "の給与計算を開始しました（プロトタイプ）");
+        try {
+            addSubmissionMessage(payrollCalculationJob.start(YearMonth.parse(targetMonth)),
+                    targetMonth + "の給与計算", redirectAttributes);
+        } catch (DateTimeParseException e) {
+            redirectAttributes.addFlashAttribute("error", "対象月は yyyy-MM 形式で指定してください");
+        } catch (RejectedExecutionException e) {
+            addRejectedMessage(redirectAttributes);
+        }
         return "redirect:/admin/batch";
     }
 
     @PostMapping("/sync-spreadsheet")
     public String syncSpreadsheet(RedirectAttributes redirectAttributes) {
-        redirectAttributes.addFlashAttribute("message", "Googleスプレッドシート同期を開始しました（プロトタイプ）");
+        try {
+            addSubmissionMessage(sheetSyncJob.start(), "Googleスプレッドシート同期",
+                    redirectAttributes);
+        } catch (RejectedExecutionException e) {
+            addRejectedMessage(redirectAttributes);
+        }
         return "redirect:/admin/batch";
     }
 
-    private List<Map<String, Object>> createMockBatchLogs() {
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        return Arrays.asList(
-                Map.of("id", "log-001", "type", "カレンダー同期", "status", "SUCCESS", "timestamp",
-                        LocalDateTime.now().minusHours(2).format(fmt), "message", "5件の勤務記録を同期しました"),
-                Map.of("id", "log-002", "type", "給与計算", "status", "SUCCESS", "timestamp",
-                        LocalDateTime.now().minusHours(8).format(fmt), "message", "4名分の給与を計算しました"),
-                Map.of("id", "log-003", "type", "スプレッドシート同期", "status", "SUCCESS", "timestamp",
-                        LocalDateTime.now().minusDays(1).format(fmt), "message", "生徒情報を更新しました"),
-                Map.of("id", "log-004", "type", "カレンダー同期", "status", "FAILED", "timestamp",
-                        LocalDateTime.now().minusDays(2).format(fmt), "message", "API接続エラー（リトライ成功）"));
+    private static void addSubmissionMessage(JobSubmission submission, String jobLabel,
+            RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("message", submission.isCoalesced()
+                ? jobLabel + "は既に実行待ち・実行中のため、そのジョブに統合しました（ジョブID: "
+                        + submission.getJobId() + "）"
+                : jobLabel + "を開始しました（ジョブID: " + submission.getJobId() + "）");
+    }
+
+    private static void addRejectedMessage(RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("error",
+                "実行待ちのジョブが多いため開始できませんでした。しばらくしてから再実行してください");
+    }
+
+    /**
+     * 直近の実行結果を「終了日時（結果・処理件数・所要時間）」の形式で表示する.
+     */
+    private static String formatLastRun(JobMetrics jobMetrics) {
+        return jobMetrics.lastRun()
+                .map(lastRun -> String.format("%s（%s・%d件・%.1f秒）",
+                        lastRun.getFinishedAt().format(DATE_TIME_FORMAT),
+                        lastRun.isSucceeded() ? "成功" : "失敗",
+                        lastRun.getItems(),
+                        lastRun.getDurationNanos() / 1e9))
+                .orElse("-");
     }
 }
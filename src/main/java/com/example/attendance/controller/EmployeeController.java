@@ -1,6 +1,10 @@
 package com.example.attendance.controller;
 
 import com.example.attendance.dto.EmployeeDto;
+import com.example.attendance.dto.EmployeeFilter;
+import com.example.attendance.dto.PageDto;
+import com.example.attendance.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,32 +12,50 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * 従業員管理コントローラー.
  */
 @Controller
 @RequestMapping("/employees")
+@RequiredArgsConstructor
 public class EmployeeController {
 
+    /** 1ページの既定件数. */
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final EmployeeService employeeService;
+
+    /**
+     * 従業員一覧（従業員番号順、キーセット・ページネーション）.
+     */
     @GetMapping
-    public String list(Model model) {
-        List<EmployeeDto> employees = createMockEmployees();
-        model.addAttribute("employees", employees);
+    public String list(@ModelAttribute("filter") EmployeeFilter filter,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            Model model) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageDto<EmployeeDto> page;
+        try {
+            page = employeeService.findPage(filter, after, before, pageSize);
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("error", "ページの指定が不正なため、先頭ページを表示しています");
+            page = employeeService.findPage(filter, null, null, pageSize);
+        }
+        model.addAttribute("page", page);
+        model.addAttribute("employees", page.getItems());
+        model.addAttribute("pageSize", pageSize);
         return "employees/list";
     }
 
     @GetMapping("/{id}")
     public String detail(@PathVariable String id, Model model) {
-        EmployeeDto employee = createMockEmployees().stream()
-                .filter(e -> e.getId().equals(id))
-                .findFirst()
-                .orElse(createMockEmployees().get(0));
+        EmployeeDto employee = employeeService.findById(id)
+                .orElse(employeeService.findAll().get(0));
         model.addAttribute("employee", employee);
         return "employees/detail";
     }
@@ -47,10 +69,8 @@ public class EmployeeController {
 
     @GetMapping("/{id}/edit")
     public String editForm(@PathVariable String id, Model model) {
-        EmployeeDto employee = createMockEmployees().stream()
-                .filter(e -> e.getId().equals(id))
-                .findFirst()
-                .orElse(createMockEmployees().get(0));
+        EmployeeDto employee = employeeService.findById(id)
+                .orElse(employeeService.findAll().get(0));
         model.addAttribute("employee", employee);
         model.addAttribute("isNew", false);
         return "employees/form";
@@ -65,45 +85,4 @@ public class EmployeeController {
         redirectAttributes.addFlashAttribute("message", "従業員情報を保存しました（プロトタイプ）");
         return "redirect:/employees";
     }
-
-    private List<EmployeeDto> createMockEmployees() {
-        return Arrays.asList(
-                EmployeeDto.builder()
-                        .id("emp-001")
-                        .employeeNumber("EMP001")
-                        .name("田中 太郎")
-                        .email("tanaka@example.com")
-                        .status("ACTIVE")
-                        .createdAt(LocalDateTime.now().minusMonths(6))
-                        .updatedAt(LocalDateTime.now().minusDays(5))
-                        .build(),
-                EmployeeDto.builder()
-                        .id("emp-002")
-                        .employeeNumber("EMP002")
-                        .name("佐藤 花子")
-                        .email("sato@example.com")
-                        .status("ACTIVE")
-                        .createdAt(LocalDateTime.now().minusMonths(3))
-                        .updatedAt(LocalDateTime.now().minusDays(2))
-                        .build(),
-                EmployeeDto.builder()
-                        .id("emp-003")
-                        .employeeNumber("EMP003")
-                        .name("鈴木 一郎")
-                        .email("suzuki@example.com")
-                        .status("ACTIVE")
-                        .createdAt(LocalDateTime.now().minusMonths(1))
-                        .updatedAt(LocalDateTime.now().minusDays(1))
-                        .build(),
-                EmployeeDto.builder()
-                        .id("emp-004")
-                        .employeeNumber("EMP004")
-                        .name("高橋 美咲")
-                        .email("takahashi@example.com")
-                        .status("INACTIVE")
-                        .createdAt(LocalDateTime.now().minusMonths(12))
-                        .updatedAt(LocalDateTime.now().minusMonths(2))
-                        .build()
-        );
-    }
 }
@@ -2,14 +2,21 @@ package com.example.attendance.controller;
 
 import com.example.attendance.dto.DashboardDto;
 import com.example.attendance.dto.WorkRecordDto;
-import jakarta.servlet.http.HttpSession;
+import com.example.attendance.service.EmployeeService;
+import com.example.attendance.service.MonthlyStatsService;
+import com.example.attendance.security.CurrentUser;
+import com.example.attendance.security.CurrentUserResolver;
+import com.example.attendance.service.WorkRecordService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestAttribute;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 
@@ -17,21 +24,29 @@ import java.util.List;
  * ホーム画面コントローラー.
  */
 @Controller
+@RequiredArgsConstructor
 public class HomeController {
 
-        private static final String SESSION_ROLE_KEY = "userRole";
-        private static final String ROLE_ADMIN = "ADMIN";
-        private static final String ROLE_USER = "USER";
+        /** USERロールでログイン中の従業員（プロトタイプ用: 田中 太郎）. */
+        private static final String USER_EMPLOYEE_ID = "emp-001";
+        /** ダッシュボードに表示する最近の勤務記録の件数. */
+        private static final int RECENT_WORK_RECORD_COUNT = 5;
+
+        private final MonthlyStatsService monthlyStatsService;
+        private final EmployeeService employeeService;
+        private final WorkRecordService workRecordService;
+        private final CurrentUserResolver currentUserResolver;
 
         /**
          * 全コントローラーで共通のModel属性を設定.
          */
         @ModelAttribute
-        public void addCommonAttributes(HttpSession session, Model model) {
-                String role = getCurrentRole(session);
-                model.addAttribute("userRole", role);
-                model.addAttribute("isAdmin", ROLE_ADMIN.equals(role));
-                model.addAttribute("userName", ROLE_ADMIN.equals(role) ? "管理者" : "田中 太郎");
+        public void addCommonAttributes(
+                        @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+                        Model model) {
+                model.addAttribute("userRole", currentUser.getRole());
+                model.addAttribute("isAdmin", currentUser.isAdmin());
+                model.addAttribute("userName", currentUser.isAdmin() ? "管理者" : "田中 太郎");
         }
 
         @GetMapping("/")
@@ -45,9 +60,10 @@ public class HomeController {
         }
 
         @GetMapping("/dashboard")
-        public String dashboard(HttpSession session, Model model) {
-                String role = getCurrentRole(session);
-                DashboardDto dashboard = createMockDashboard(role);
+        public String dashboard(
+                        @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+                        Model model) {
+                DashboardDto dashboard = createMockDashboard(currentUser);
                 model.addAttribute("dashboard", dashboard);
                 return "dashboard";
         }
@@ -56,51 +72,23 @@ public class HomeController {
          * ロール切り替え（プロトタイプ用）.
          */
         @GetMapping("/switch-role")
-        public String switchRole(HttpSession session) {
-                String currentRole = getCurrentRole(session);
-                String newRole = ROLE_ADMIN.equals(currentRole) ? ROLE_USER : ROLE_ADMIN;
-                session.setAttribute(SESSION_ROLE_KEY, newRole);
+        public String switchRole(
+                        @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+                        HttpServletRequest request, HttpServletResponse response) {
+                CurrentUser switched = currentUser.isAdmin()
+                                ? new CurrentUser(CurrentUser.ROLE_USER, USER_EMPLOYEE_ID)
+                                : CurrentUser.DEFAULT;
+                currentUserResolver.store(switched, request, response);
                 return "redirect:/dashboard";
         }
 
-        private String getCurrentRole(HttpSession session) {
-                String role = (String) session.getAttribute(SESSION_ROLE_KEY);
-                return role != null ? role : ROLE_ADMIN; // デフォルトはADMIN
-        }
-
-        private DashboardDto createMockDashboard(String role) {
-                // 最近の勤務記録（モック）
-                List<WorkRecordDto> recentWorkRecords = Arrays.asList(
-                                WorkRecordDto.builder()
-                                                .id("wr-001")
-                                                .employeeId("emp-001")
-                                                .employeeName("田中 太郎")
-                                                .workDate(LocalDate.now().minusDays(2))
-                                                .startTime(LocalDateTime.now().minusDays(2).withHour(9).withMinute(0))
-                                                .endTime(LocalDateTime.now().minusDays(2).withHour(18).withMinute(0))
-                                                .workHours(8.0)
-                                                .workTypeName("通常勤務")
-                                                .build(),
-                                WorkRecordDto.builder()
-                                                .id("wr-002")
-                                                .employeeId("emp-001")
-                                                .employeeName("田中 太郎")
-                                                .workDate(LocalDate.now().minusDays(1))
-                                                .startTime(LocalDateTime.now().minusDays(1).withHour(9).withMinute(0))
-                                                .endTime(LocalDateTime.now().minusDays(1).withHour(19).withMinute(30))
-                                                .workHours(9.5)
-                                                .workTypeName("通常勤務")
-                                                .build(),
-                                WorkRecordDto.builder()
-                                                .id("wr-003")
-                                                .employeeId("emp-001")
-                                                .employeeName("田中 太郎")
-                                                .workDate(LocalDate.now())
-                                                .startTime(LocalDateTime.now().withHour(9).withMinute(0))
-                                                .endTime(LocalDateTime.now().withHour(17).withMinute(30))
-                                                .workHours(7.5)
-                                                .workTypeName("通常勤務")
-                                                .build());
+        private DashboardDto createMockDashboard(CurrentUser currentUser) {
+                String role = currentUser.getRole();
+                boolean admin = currentUser.isAdmin();
+                // 最近の勤務記録 - ADMINは全員、USERは本人（勤務日の新しい順）
+                List<WorkRecordDto> recentWorkRecords = workRecordService.findLatest(
+                                admin ? null : currentUser.getEmployeeId(),
+                                RECENT_WORK_RECORD_COUNT);
 
                 // 通知（モック）
                 List<DashboardDto.NotificationDto> notifications = Arrays.asList(
@@ -117,31 +105,22 @@ public class HomeController {
                                                 .timestamp("5時間前")
                                                 .build());
 
-                // 月次統計（モック）- ADMINは全員合計、USERは個人
-                DashboardDto.MonthlyStats monthlyStats;
-                if (ROLE_ADMIN.equals(role)) {
-                        monthlyStats = DashboardDto.MonthlyStats.builder()
-                                        .totalWorkHours(672.0) // 全従業員合計
-                                        .totalWorkDays(84) // 全従業員合計
-                                        .estimatedPayment(1008000.0) // 全従業員合計
-                                        .month("2024年1月")
-                                        .build();
-                } else {
-                        monthlyStats = DashboardDto.MonthlyStats.builder()
-                                        .totalWorkHours(168.5) // 個人
-                                        .totalWorkDays(21)
-                                        .estimatedPayment(252750.0)
-                                        .month("2024年1月")
-                                        .build();
-                }
+                // 月次統計 - ADMINは全員合計、USERは個人（集計済みの値を参照）
+                YearMonth currentMonth = YearMonth.now();
+                DashboardDto.MonthlyStats monthlyStats = admin
+                                ? monthlyStatsService.findOrganizationStats(currentMonth)
+                                : monthlyStatsService.findEmployeeStats(
+                                                currentUser.getEmployeeId(), currentMonth);
 
                 return DashboardDto.builder()
-                                .userName(ROLE_ADMIN.equals(role) ? "管理者" : "田中 太郎")
+                                .userName(admin ? "管理者" : "田中 太郎")
                                 .userRole(role)
                                 .monthlyStats(monthlyStats)
                                 .recentWorkRecords(recentWorkRecords)
                                 .notifications(notifications)
-                                .employeeCount(ROLE_ADMIN.equals(role) ? 4 : null) // ADMINのみ表示
+                                .employeeCount(admin
+                                                ? employeeService.findAll().size()
+                                                : null) // ADMINのみ表示
                                 .build();
         }
 }
@@ -1,15 +1,23 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.dto.HourlyWageDto;
+import com.example.attendance.service.HourlyWageService;
+import com.example.attendance.service.MasterDataService;
+import com.example.attendance.view.FragmentRenderCache;
+import com.example.attendance.view.FragmentRenderCache.MasterListKey;
+import com.example.attendance.view.FragmentRenderCache.Region;
+import com.example.attendance.view.FragmentRenderer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,40 +25,65 @@ import java.util.Map;
  */
 @Controller
 @RequestMapping("/hourly-wages")
+@RequiredArgsConstructor
 public class HourlyWageController {
 
+    private static final String LIST_ROWS = "hourly-wages/list-rows";
+
+    private final HourlyWageService hourlyWageService;
+    private final MasterDataService masterDataService;
+    private final FragmentRenderCache fragmentRenderCache;
+    private final FragmentRenderer fragmentRenderer;
+
+    /**
+     * 一覧。行はマスタのスナップショットのバージョンごとに描画結果を保持する.
+     */
     @GetMapping
     public String list(Model model) {
-        List<Map<String, Object>> wages = createMockWages();
-        model.addAttribute("wages", wages);
+        MasterDataSnapshot snapshot = masterDataService.current();
+        model.addAttribute("rows", fragmentRenderCache.get(Region.MASTER_DATA,
+                new MasterListKey(LIST_ROWS, snapshot.getVersion()),
+                () -> fragmentRenderer.render(LIST_ROWS,
+                        Map.of("wages", snapshot.getHourlyWages()))));
         return "hourly-wages/list";
     }
 
     @GetMapping("/new")
     public String newForm(Model model) {
+        model.addAttribute("wage", new HourlyWageDto());
         model.addAttribute("isNew", true);
         return "hourly-wages/form";
     }
 
     @GetMapping("/{id}/edit")
-    public String editForm(@PathVariable String id, Model model) {
+    public String editForm(@PathVariable int id, Model model) {
+        HourlyWageDto wage = hourlyWageService.findById(id)
+                .map(w -> HourlyWageDto.builder()
+                        .id(w.getId())
+                        .workTypeId(w.getWorkTypeId())
+                        .studentLevelId(w.getStudentLevelId())
+                        .wage(w.getWage())
+                        .effectiveFrom(w.getEffectiveFrom())
+                        .effectiveTo(w.getEffectiveTo())
+                        .build())
+                .orElseGet(HourlyWageDto::new);
+        model.addAttribute("wage", wage);
         model.addAttribute("isNew", false);
         model.addAttribute("wageId", id);
         return "hourly-wages/form";
     }
 
+    /**
+     * 単価保存。保存後、給与計算用の単価インデックスが再構築される.
+     */
     @PostMapping
-    public String save(RedirectAttributes redirectAttributes) {
-        redirectAttributes.addFlashAttribute("message", "単価情報を保存しました（プロトタイプ）");
+    public String save(@ModelAttribute HourlyWageDto wage, RedirectAttributes redirectAttributes) {
+        try {
+            hourlyWageService.save(wage);
+            redirectAttributes.addFlashAttribute("message", "単価情報を保存しました");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "単価情報を保存できませんでした: " + e.getMessage());
+        }
         return "redirect:/hourly-wages";
     }
-
-    private List<Map<String, Object>> createMockWages() {
-        return Arrays.asList(
-                Map.of("id", "wage-001", "workType", "個別指導", "studentLevel", "中学生", "wage", 3000),
-                Map.of("id", "wage-002", "workType", "個別指導", "studentLevel", "高校生", "wage", 3500),
-                Map.of("id", "wage-003", "workType", "自習室", "studentLevel", "-", "wage", 1200),
-                Map.of("id", "wage-004", "workType", "グループ授業", "studentLevel", "中学生", "wage", 2500),
-                Map.of("id", "wage-005", "workType", "グループ授業", "studentLevel", "高校生", "wage", 2800));
-    }
 }
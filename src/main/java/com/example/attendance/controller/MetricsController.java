@@ -0,0 +1,29 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * メトリクス公開コントローラー（Prometheus のスクレイプ対象）.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final String PROMETHEUS_CONTENT_TYPE =
+            "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry metricsRegistry;
+
+    @GetMapping(value = "/actuator/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String prometheus() throws IOException {
+        StringWriter writer = new StringWriter();
+        metricsRegistry.writePrometheus(writer);
+        return writer.toString();
+    }
+}
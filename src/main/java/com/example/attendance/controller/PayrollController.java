@@ -1,7 +1,21 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.batch.JobSubmission;
+import com.example.attendance.batch.PayrollCalculationJob;
 import com.example.attendance.dto.PayrollDto;
 import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.service.PayrollCalculationResult;
+import com.example.attendance.service.PayrollCalculationService;
+import com.example.attendance.util.CsvWriter;
+import com.example.attendance.view.FragmentRenderCache;
+import com.example.attendance.view.FragmentRenderCache.PayrollDetailKey;
+import com.example.attendance.view.FragmentRenderCache.Region;
+import com.example.attendance.view.FragmentRenderer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,24 +23,50 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 給与計算コントローラー.
  */
 @Controller
 @RequestMapping("/payrolls")
+@RequiredArgsConstructor
 public class PayrollController {
 
+        private final PayrollCalculationService payrollCalculationService;
+        private final PayrollCalculationJob payrollCalculationJob;
+        private final FragmentRenderCache fragmentRenderCache;
+        private final FragmentRenderer fragmentRenderer;
+
         @GetMapping
         public String list(Model model) {
-                List<PayrollDto> payrolls = createMockPayrolls();
+                Optional<PayrollCalculationResult> latest =
+                                payrollCalculationService.findLatestResult();
+                List<PayrollDto> payrolls = latest
+                                .map(PayrollCalculationResult::getPayrolls)
+                                .orElseGet(this::createMockPayrolls);
                 model.addAttribute("payrolls", payrolls);
+                model.addAttribute("targetMonth", latest
+                                .map(PayrollCalculationResult::getTargetMonth)
+                                .orElse(YearMonth.of(2024, 1)));
+                model.addAttribute("staleCount", latest
+                                .map(result -> payrollCalculationService.countStaleEmployees(
+                                                result.getTargetMonth()))
+                                .orElse(0));
                 return "payrolls/list";
         }
 
@@ -36,22 +76,168 @@ public class PayrollController {
         }
 
         /**
-         * 給与計算実行（プロトタイプ用スタブ）.
+         * 給与計算実行.
+         *
+         * <p>計算はジョブ実行基盤で非同期に行い、リクエストは即座に返す。
+         * 同じ月の計算が待機中・実行中の場合はそちらに統合する。
          */
         @PostMapping("/calculate")
         public String calculate(@RequestParam String targetMonth, RedirectAttributes redirectAttributes) {
-                // プロトタイプ用: 実際には計算処理を実装
-                redirectAttributes.addFlashAttribute("message", targetMonth + "の給与計算を実行しました（プロトタイプ）");
+                try {
+                        JobSubmission submission =
+                                        payrollCalculationJob.start(YearMonth.parse(targetMonth));
+                        redirectAttributes.addFlashAttribute("message", submission.isCoalesced()
+                                        ? targetMonth + "の給与計算は既に実行中です"
+                                        : targetMonth + "の給与計算を開始しました");
+                } catch (DateTimeParseException e) {
+                        redirectAttributes.addFlashAttribute("error",
+                                        "対象月は yyyy-MM 形式で指定してください");
+                } catch (RejectedExecutionException e) {
+                        redirectAttributes.addFlashAttribute("error", "実行待ちのジョブが多いため"
+                                        + "開始できませんでした。しばらくしてから再実行してください");
+                }
+                return "redirect:/payrolls";
+        }
+
+        /**
+         * 勤務記録の変更が未反映の従業員分だけを再計算する（非同期）.
+         */
+        @PostMapping("/recalculate")
+        public String recalculateStale(@RequestParam String targetMonth,
+                        RedirectAttributes redirectAttributes) {
+                try {
+                        JobSubmission submission = payrollCalculationJob
+                                        .startStaleRecalculation(YearMonth.parse(targetMonth));
+                        redirectAttributes.addFlashAttribute("message", submission.isCoalesced()
+                                        ? targetMonth + "の給与の再計算は既に実行中です"
+                                        : targetMonth + "の給与の再計算を開始しました");
+                } catch (DateTimeParseException e) {
+                        redirectAttributes.addFlashAttribute("error",
+                                        "対象月は yyyy-MM 形式で指定してください");
+                } catch (RejectedExecutionException e) {
+                        redirectAttributes.addFlashAttribute("error", "実行待ちのジョブが多いため"
+                                        + "開始できませんでした。しばらくしてから再実行してください");
+                }
                 return "redirect:/payrolls";
         }
 
+        /**
+         * 給与計算結果のCSVエクスポート（期間内で計算済み・アーカイブ済みの月のみ）.
+         *
+         * <p>従業員ごとの集計行を1行ずつレスポンスに書き込む。
+         */
+        @GetMapping("/export")
+        public ResponseEntity<StreamingResponseBody> export(
+                        @RequestParam(name = "fromMonth") YearMonth from,
+                        @RequestParam(name = "toMonth", required = false) YearMonth toMonth) {
+                YearMonth to = toMonth != null ? toMonth : from;
+                String fileName = "payrolls_" + from + (to.equals(from) ? "" : "_" + to) + ".csv";
+
+                StreamingResponseBody body = out -> {
+                        try (CsvWriter csv = CsvWriter.withUtf8Bom(out)) {
+                                writePayrollCsv(csv, from, to);
+                        }
+                };
+                return ResponseEntity.ok()
+                                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                ContentDisposition.attachment()
+                                                                .filename(fileName)
+                                                                .build()
+                                                                .toString())
+                                .body(body);
+        }
+
+        /**
+         * 給与明細（対象月の指定がない場合は直近の計算結果。アーカイブ済みの月も参照できる）.
+         *
+         * <p>明細の本体は対象月の給与の版（計算日時・アーカイブの世代）をキーに描画結果を保持し、
+         * 締め済みの月はアーカイブの展開・テンプレートの描画を省く。対象月に従業員の給与がない場合は
+         * 該当なしを表示する（モックの明細は計算結果が1件もない場合だけ表示する）。
+         */
         @GetMapping("/{employeeId}")
-        public String detail(@PathVariable String employeeId, Model model) {
-                PayrollDto payroll = createMockPayroll(employeeId);
-                model.addAttribute("payroll", payroll);
+        public String detail(@PathVariable String employeeId,
+                        @RequestParam(name = "month", required = false) YearMonth targetMonth,
+                        Model model) {
+                Optional<YearMonth> month = targetMonth != null
+                                ? Optional.of(targetMonth)
+                                : payrollCalculationService.findLatestResult()
+                                                .map(PayrollCalculationResult::getTargetMonth);
+                Optional<String> version = month
+                                .flatMap(payrollCalculationService::findPayrollVersion);
+                String detailCard = null;
+                if (month.isEmpty()) {
+                        detailCard = renderDetailCard(createMockPayroll(employeeId));
+                } else if (version.isPresent()) {
+                        detailCard = fragmentRenderCache.get(Region.PAYROLL_DETAIL,
+                                        new PayrollDetailKey(month.get(), employeeId,
+                                                        version.get()),
+                                        () -> payrollCalculationService
+                                                        .findPayroll(employeeId, month.get())
+                                                        .map(this::renderDetailCard)
+                                                        .orElse(null));
+                }
+                model.addAttribute("detailCard", detailCard);
+                model.addAttribute("targetMonth", month.orElse(null));
                 return "payrolls/detail";
         }
 
+        private String renderDetailCard(PayrollDto payroll) {
+                return fragmentRenderer.render("payrolls/detail-card",
+                                Map.of("payroll", payroll));
+        }
+
+        private void writePayrollCsv(CsvWriter csv, YearMonth from, YearMonth to)
+                        throws IOException {
+                csv.value("対象月").value("従業員ID").value("従業員名").value("勤務日数")
+                                .value("総勤務時間").value("通常時間").value("残業時間")
+                                .value("休日時間").value("深夜時間")
+                                .value("通常給与").value("残業代").value("休日手当").value("深夜手当")
+                                .value("総支給額").endRow();
+                for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                        YearMonth targetMonth = month;
+                        try {
+                                payrollCalculationService.forEachPayroll(month, payroll -> {
+                                        try {
+                                                writePayrollRow(csv, targetMonth, payroll);
+                                        } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                        } catch (UncheckedIOException e) {
+                                throw e.getCause();
+                        }
+                        csv.flush();
+                }
+        }
+
+        private static void writePayrollRow(CsvWriter csv, YearMonth month, PayrollDto payroll)
+                        throws IOException {
+                PayrollDto.PayrollSummary summary = payroll.getSummary();
+                csv.value(month)
+                                .value(payroll.getEmployeeId())
+                                .value(payroll.getEmployeeName())
+                                .value(summary.getTotalWorkDays())
+                                .value(payroll.getTotalWorkHours())
+                                .value(summary.getRegularHours())
+                                .value(summary.getOvertimeHours())
+                                .value(summary.getHolidayHours())
+                                .value(summary.getLateNightHours())
+                                .value(summary.getRegularPayment().longValue())
+                                .value(summary.getOvertimePayment().longValue())
+                                .value(yen(summary.getHolidayPayment()))
+                                .value(yen(summary.getLateNightPayment()))
+                                .value(summary.getTotalPayment().longValue())
+                                .endRow();
+        }
+
+        /**
+         * 金額を円の整数で返す（休日・深夜の項目がない古いアーカイブの給与は null）.
+         */
+        private static Long yen(Double payment) {
+                return payment != null ? payment.longValue() : null;
+        }
+
         private List<PayrollDto> createMockPayrolls() {
                 return Arrays.asList(
                                 PayrollDto.builder()
@@ -1,5 +1,13 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.service.MasterDataService;
+import com.example.attendance.service.StudentService;
+import com.example.attendance.view.FragmentRenderCache;
+import com.example.attendance.view.FragmentRenderCache.MasterListKey;
+import com.example.attendance.view.FragmentRenderCache.Region;
+import com.example.attendance.view.FragmentRenderer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,8 +16,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,12 +23,26 @@ import java.util.Map;
  */
 @Controller
 @RequestMapping("/students")
+@RequiredArgsConstructor
 public class StudentController {
 
+    private static final String LIST_ROWS = "students/list-rows";
+
+    private final StudentService studentService;
+    private final MasterDataService masterDataService;
+    private final FragmentRenderCache fragmentRenderCache;
+    private final FragmentRenderer fragmentRenderer;
+
+    /**
+     * 一覧。行はマスタのスナップショットのバージョンごとに描画結果を保持する.
+     */
     @GetMapping
     public String list(Model model) {
-        List<Map<String, Object>> students = createMockStudents();
-        model.addAttribute("students", students);
+        MasterDataSnapshot snapshot = masterDataService.current();
+        model.addAttribute("rows", fragmentRenderCache.get(Region.MASTER_DATA,
+                new MasterListKey(LIST_ROWS, snapshot.getVersion()),
+                () -> fragmentRenderer.render(LIST_ROWS,
+                        Map.of("students", snapshot.getStudents()))));
         return "students/list";
     }
 
@@ -44,12 +64,4 @@ public class StudentController {
         redirectAttributes.addFlashAttribute("message", "生徒情報を保存しました（プロトタイプ）");
         return "redirect:/students";
     }
-
-    private List<Map<String, Object>> createMockStudents() {
-        return Arrays.asList(
-                Map.of("id", "stu-001", "name", "山田 花子", "level", "中学3年", "school", "第一中学校", "status", "ACTIVE"),
-                Map.of("id", "stu-002", "name", "佐藤 健太", "level", "高校2年", "school", "県立高校", "status", "ACTIVE"),
-                Map.of("id", "stu-003", "name", "鈴木 美咲", "level", "中学1年", "school", "第二中学校", "status", "ACTIVE"),
-                Map.of("id", "stu-004", "name", "高橋 翔太", "level", "高校3年", "school", "私立高校", "status", "INACTIVE"));
-    }
 }
@@ -1,6 +1,20 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.domain.WorkTime;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.dto.EmployeeDto;
+import com.example.attendance.dto.PageDto;
 import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.dto.WorkRecordFilter;
+import com.example.attendance.service.EmployeeService;
+import com.example.attendance.service.WorkRecordService;
+import com.example.attendance.service.WorkTypeService;
+import com.example.attendance.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,27 +22,116 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 勤務記録管理コントローラー.
  */
 @Controller
 @RequestMapping("/work-records")
+@RequiredArgsConstructor
 public class WorkRecordController {
 
+    private static final DateTimeFormatter CSV_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /** 1ページの既定件数. */
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final WorkRecordService workRecordService;
+    private final EmployeeService employeeService;
+    private final WorkTypeService workTypeService;
+
+    /**
+     * 勤務記録一覧（勤務日の新しい順、キーセット・ページネーション）.
+     *
+     * <p>ページは {@code after} / {@code before} のカーソルで指定するため、後方のページでも
+     * 取得時間は先頭ページと変わらない。
+     */
     @GetMapping
-    public String list(Model model) {
-        List<WorkRecordDto> workRecords = createMockWorkRecords();
-        model.addAttribute("workRecords", workRecords);
+    public String list(@ModelAttribute("filter") WorkRecordFilter filter,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            Model model) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageDto<WorkRecordDto> page;
+        try {
+            page = workRecordService.findPage(filter, after, before, pageSize);
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("error", "ページの指定が不正なため、先頭ページを表示しています");
+            page = workRecordService.findPage(filter, null, null, pageSize);
+        }
+        model.addAttribute("page", page);
+        model.addAttribute("workRecords", page.getItems());
+        model.addAttribute("pageSize", pageSize);
+        model.addAttribute("employees", employeeService.findAll());
+        model.addAttribute("workTypes", workTypeService.findAll());
         return "work-records/list";
     }
 
+    /**
+     * 勤務記録のCSVエクスポート（期間指定なしの場合は全件）.
+     *
+     * <p>勤務記録を1件ずつレスポンスに書き込むため、件数に関係なくヒープ使用量は一定。
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) YearMonth fromMonth,
+            @RequestParam(required = false) YearMonth toMonth) {
+        LocalDate from = fromMonth != null ? fromMonth.atDay(1) : LocalDate.MIN;
+        LocalDate to = toMonth != null ? toMonth.atEndOfMonth() : LocalDate.MAX;
+        String fileName = "work-records"
+                + (fromMonth != null ? "_" + fromMonth : "")
+                + (toMonth != null ? "_" + toMonth : "") + ".csv";
+
+        StreamingResponseBody body = out -> {
+            try (CsvWriter csv = CsvWriter.withUtf8Bom(out)) {
+                csv.value("ID").value("従業員ID").value("従業員名").value("勤務日")
+                        .value("開始日時").value("終了日時").value("勤務時間（分）")
+                        .value("勤務形態").value("生徒名").value("備考").endRow();
+                workRecordService.forEachInPeriod(from, to, workRecord -> {
+                    try {
+                        csv.value(workRecord.getId())
+                                .value(workRecord.getEmployeeId())
+                                .value(workRecord.getEmployeeName())
+                                .value(workRecord.getWorkDate())
+                                .value(CSV_DATE_TIME.format(workRecord.getStartTime()))
+                                .value(workRecord.getEndTime() != null
+                                        ? CSV_DATE_TIME.format(workRecord.getEndTime()) : null)
+                                .value(WorkTime.workMinutesOf(workRecord))
+                                .value(workRecord.getWorkTypeName())
+                                .value(workRecord.getStudentName())
+                                .value(workRecord.getNote())
+                                .endRow();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/new")
     public String newForm(Model model) {
         model.addAttribute("workRecord", new WorkRecordDto());
@@ -37,75 +140,91 @@ public class WorkRecordController {
     }
 
     @GetMapping("/{id}/edit")
-    public String editForm(@PathVariable String id, Model model) {
-        WorkRecordDto workRecord = createMockWorkRecords().stream()
-                .filter(w -> w.getId().equals(id))
-                .findFirst()
-                .orElse(createMockWorkRecords().get(0));
-        model.addAttribute("workRecord", workRecord);
+    public String editForm(@PathVariable String id, Model model,
+            RedirectAttributes redirectAttributes) {
+        Optional<WorkRecordDto> workRecord = workRecordService.findById(id);
+        if (workRecord.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "勤務記録が見つかりません: " + id);
+            return "redirect:/work-records";
+        }
+        model.addAttribute("workRecord", workRecord.get());
         model.addAttribute("isNew", false);
         return "work-records/form";
     }
 
     /**
-     * 勤務記録保存（プロトタイプ用スタブ）.
+     * 勤務記録保存.
+     *
+     * <p>編集の場合、フォームにない項目（カレンダー同期元のイベントID・生徒名等）は保存済みの値を
+     * 引き継ぐ。手入力の勤務時間は開始・終了時間を変更しなかった場合だけ引き継ぐ。
+     * 勤務日は開始日時の日付とする（期間の検索・給与計算は開始日時で行うため、異なる日付は受け付けない）。
+     * 給与計算済みの月の勤務記録を保存すると、その従業員の給与が未反映として再計算の対象になる。
      */
     @PostMapping
     public String save(@ModelAttribute WorkRecordDto workRecord, RedirectAttributes redirectAttributes) {
-        // プロトタイプ用: 実際には保存処理を実装
-        redirectAttributes.addFlashAttribute("message", "勤務記録を保存しました（プロトタイプ）");
+        String id = workRecord.getId() != null && !workRecord.getId().isBlank()
+                ? workRecord.getId()
+                : null;
+        if (workRecord.getEmployeeId() == null || workRecord.getEmployeeId().isBlank()
+                || workRecord.getStartTime() == null || workRecord.getEndTime() == null
+                || !workRecord.getEndTime().isAfter(workRecord.getStartTime())) {
+            redirectAttributes.addFlashAttribute("error",
+                    "従業員・開始時間・終了時間（開始より後）を入力してください");
+            return id != null
+                    ? "redirect:/work-records/" + id + "/edit"
+                    : "redirect:/work-records/new";
+        }
+        if (workRecord.getWorkDate() != null
+                && !workRecord.getWorkDate().equals(workRecord.getStartTime().toLocalDate())) {
+            redirectAttributes.addFlashAttribute("error", "勤務日と開始時間の日付を揃えてください");
+            return id != null
+                    ? "redirect:/work-records/" + id + "/edit"
+                    : "redirect:/work-records/new";
+        }
+        workRecord.setId(id);
+        WorkRecordDto stored = null;
+        if (id != null) {
+            Optional<WorkRecordDto> existing = workRecordService.findById(id);
+            if (existing.isEmpty()) {
+                redirectAttributes.addFlashAttribute("error", "勤務記録が見つかりません: " + id);
+                return "redirect:/work-records";
+            }
+            stored = existing.get();
+            workRecord.setGoogleEventId(stored.getGoogleEventId());
+            workRecord.setEventTitle(stored.getEventTitle());
+            workRecord.setStudentName(stored.getStudentName());
+            workRecord.setStudentLevelId(stored.getStudentLevelId());
+            workRecord.setCreatedAt(stored.getCreatedAt());
+            if (workRecord.getStartTime().equals(stored.getStartTime())
+                    && workRecord.getEndTime().equals(stored.getEndTime())) {
+                workRecord.setWorkHours(stored.getWorkHours());
+            }
+        } else {
+            workRecord.setCreatedAt(LocalDateTime.now());
+        }
+        if (workRecord.getWorkDate() == null) {
+            workRecord.setWorkDate(workRecord.getStartTime().toLocalDate());
+        }
+        resolveMasterFields(workRecord, stored);
+
+        workRecordService.save(workRecord);
+        redirectAttributes.addFlashAttribute("message", "勤務記録を保存しました");
         return "redirect:/work-records";
     }
 
-    private List<WorkRecordDto> createMockWorkRecords() {
-        return Arrays.asList(
-                WorkRecordDto.builder()
-                        .id("wr-001")
-                        .employeeId("emp-001")
-                        .employeeName("田中 太郎")
-                        .workDate(LocalDate.of(2024, 1, 15))
-                        .startTime(LocalDateTime.of(2024, 1, 15, 9, 0))
-                        .endTime(LocalDateTime.of(2024, 1, 15, 18, 0))
-                        .workHours(8.0)
-                        .workTypeName("通常勤務")
-                        .note("特になし")
-                        .createdAt(LocalDateTime.of(2024, 1, 15, 18, 5))
-                        .build(),
-                WorkRecordDto.builder()
-                        .id("wr-002")
-                        .employeeId("emp-001")
-                        .employeeName("田中 太郎")
-                        .workDate(LocalDate.of(2024, 1, 16))
-                        .startTime(LocalDateTime.of(2024, 1, 16, 9, 0))
-                        .endTime(LocalDateTime.of(2024, 1, 16, 20, 0))
-                        .workHours(10.0)
-                        .workTypeName("通常勤務")
-                        .note("残業対応")
-                        .createdAt(LocalDateTime.of(2024, 1, 16, 20, 5))
-                        .build(),
-                WorkRecordDto.builder()
-                        .id("wr-003")
-                        .employeeId("emp-002")
-                        .employeeName("佐藤 花子")
-                        .workDate(LocalDate.of(2024, 1, 15))
-                        .startTime(LocalDateTime.of(2024, 1, 15, 10, 0))
-                        .endTime(LocalDateTime.of(2024, 1, 15, 16, 0))
-                        .workHours(5.0)
-                        .workTypeName("時短勤務")
-                        .note("子育て対応")
-                        .createdAt(LocalDateTime.of(2024, 1, 15, 16, 5))
-                        .build(),
-                WorkRecordDto.builder()
-                        .id("wr-004")
-                        .employeeId("emp-003")
-                        .employeeName("鈴木 一郎")
-                        .workDate(LocalDate.of(2024, 1, 15))
-                        .startTime(LocalDateTime.of(2024, 1, 15, 22, 0))
-                        .endTime(LocalDateTime.of(2024, 1, 16, 6, 0))
-                        .workHours(8.0)
-                        .workTypeName("夜勤")
-                        .note("夜勤シフト")
-                        .createdAt(LocalDateTime.of(2024, 1, 16, 6, 5))
-                        .build());
+    /**
+     * 従業員名・勤務形態IDをマスタから設定する。マスタにない場合は保存済みの値を使う.
+     */
+    private void resolveMasterFields(WorkRecordDto workRecord, WorkRecordDto stored) {
+        workRecord.setEmployeeName(employeeService.findById(workRecord.getEmployeeId())
+                .map(EmployeeDto::getName)
+                .orElse(stored != null ? stored.getEmployeeName() : null));
+        Integer storedWorkTypeId = stored != null
+                && Objects.equals(stored.getWorkTypeName(), workRecord.getWorkTypeName())
+                ? stored.getWorkTypeId()
+                : null;
+        workRecord.setWorkTypeId(workTypeService.findByName(workRecord.getWorkTypeName())
+                .map(WorkType::getId)
+                .orElse(storedWorkTypeId));
     }
 }
@@ -1,15 +1,24 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.RateType;
+import com.example.attendance.dto.WorkTypeDto;
+import com.example.attendance.service.MasterDataService;
+import com.example.attendance.service.WorkTypeService;
+import com.example.attendance.view.FragmentRenderCache;
+import com.example.attendance.view.FragmentRenderCache.MasterListKey;
+import com.example.attendance.view.FragmentRenderCache.Region;
+import com.example.attendance.view.FragmentRenderer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,40 +26,72 @@ import java.util.Map;
  */
 @Controller
 @RequestMapping("/work-types")
+@RequiredArgsConstructor
 public class WorkTypeController {
 
+    private static final String LIST_ROWS = "work-types/list-rows";
+
+    private final WorkTypeService workTypeService;
+    private final MasterDataService masterDataService;
+    private final FragmentRenderCache fragmentRenderCache;
+    private final FragmentRenderer fragmentRenderer;
+
+    /**
+     * 一覧。行はマスタのスナップショットのバージョンごとに描画結果を保持する.
+     */
     @GetMapping
     public String list(Model model) {
-        List<Map<String, Object>> workTypes = createMockWorkTypes();
-        model.addAttribute("workTypes", workTypes);
+        MasterDataSnapshot snapshot = masterDataService.current();
+        model.addAttribute("rows", fragmentRenderCache.get(Region.MASTER_DATA,
+                new MasterListKey(LIST_ROWS, snapshot.getVersion()),
+                () -> fragmentRenderer.render(LIST_ROWS,
+                        Map.of("workTypes", snapshot.getWorkTypes()))));
         return "work-types/list";
     }
 
     @GetMapping("/new")
     public String newForm(Model model) {
+        model.addAttribute("workType", WorkTypeDto.builder()
+                .payrollTarget(true)
+                .rateType(RateType.STUDENT_LEVEL_BASED)
+                .active(true)
+                .build());
         model.addAttribute("isNew", true);
         return "work-types/form";
     }
 
     @GetMapping("/{id}/edit")
-    public String editForm(@PathVariable String id, Model model) {
+    public String editForm(@PathVariable int id, Model model) {
+        WorkTypeDto workType = workTypeService.findById(id)
+                .map(w -> WorkTypeDto.builder()
+                        .id(w.getId())
+                        .name(w.getName())
+                        .description(w.getDescription())
+                        .calendarKeyword(w.getCalendarKeyword())
+                        .payrollTarget(w.isPayrollTarget())
+                        .rateType(w.getRateType())
+                        .fixedWage(w.getFixedWage())
+                        .active(w.isActive())
+                        .build())
+                .orElseGet(WorkTypeDto::new);
+        model.addAttribute("workType", workType);
         model.addAttribute("isNew", false);
         model.addAttribute("workTypeId", id);
         return "work-types/form";
     }
 
+    /**
+     * 勤務形態保存。キーワードが変わった場合、カレンダー同期用のマッチャーが再構築される.
+     */
     @PostMapping
-    public String save(RedirectAttributes redirectAttributes) {
-        redirectAttributes.addFlashAttribute("message", "勤務形態を保存しました（プロトタイプ）");
+    public String save(@ModelAttribute WorkTypeDto workType,
+            RedirectAttributes redirectAttributes) {
+        try {
+            workTypeService.save(workType);
+            redirectAttributes.addFlashAttribute("message", "勤務形態を保存しました");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "勤務形態を保存できませんでした: " + e.getMessage());
+        }
         return "redirect:/work-types";
     }
-
-    private List<Map<String, Object>> createMockWorkTypes() {
-        return Arrays.asList(
-                Map.of("id", "wt-001", "name", "個別指導", "description", "1対1または1対2の個別指導", "isActive", true),
-                Map.of("id", "wt-002", "name", "グループ授業", "description", "3名以上のグループ授業", "isActive", true),
-                Map.of("id", "wt-003", "name", "自習室", "description", "自習室監督業務", "isActive", true),
-                Map.of("id", "wt-004", "name", "事務作業", "description", "教材準備・事務処理", "isActive", true),
-                Map.of("id", "wt-005", "name", "研修", "description", "社内研修・勉強会", "isActive", false));
-    }
 }
@@ -0,0 +1,64 @@
+package com.example.attendance.controller.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * REST API のレスポンス生成の共通処理.
+ */
+final class ApiResponses {
+
+    /**
+     * 起動ごとに変わる値（起動ごとに数え直す版を ETag に使う場合に付ける）.
+     */
+    static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private ApiResponses() {
+    }
+
+    /**
+     * JSON の本体を書き出す処理.
+     */
+    @FunctionalInterface
+    interface JsonBody {
+
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * 強い ETag（{@code "部分:部分:..."}）. 部分に null がある場合は {@code -} とする.
+     */
+    static String etag(Object... parts) {
+        StringBuilder etag = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                etag.append(':');
+            }
+            etag.append(parts[i] != null ? parts[i] : "-");
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * JSON をレスポンスに直接書き出す（一覧全体をメモリ上に作らない）.
+     *
+     * <p>キャッシュには毎回再検証させる（{@code If-None-Match} で 304 を返す）。
+     */
+    static ResponseEntity<StreamingResponseBody> json(ObjectMapper objectMapper, JsonBody body) {
+        StreamingResponseBody stream = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                body.write(generator);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .body(stream);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.attendance.controller.api;
+
+import com.example.attendance.dto.EmployeeDto;
+import com.example.attendance.security.CurrentUser;
+import com.example.attendance.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 従業員の REST API.
+ *
+ * <p>プロトタイプでは従業員は起動中に変わらない（モックデータ）ため、ETag は起動ごとの値から作る。
+ * 従業員の保存を実装する際は、保存ごとに進む版を ETag に含めること。
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+public class EmployeeApiController {
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+
+    public EmployeeApiController(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.employeeWriter = objectMapper.writerFor(EmployeeDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 従業員の一覧（一般ユーザーは自分だけ）.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(
+            @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+            WebRequest webRequest) {
+        String targetEmployeeId = currentUser.isAdmin() ? null : currentUser.getEmployeeId();
+        String etag = ApiResponses.etag("employees", ApiResponses.EPOCH, targetEmployeeId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ApiResponses.json(objectMapper, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            for (EmployeeDto employee : employeeService.findAll()) {
+                if (targetEmployeeId == null || targetEmployeeId.equals(employee.getId())) {
+                    employeeWriter.writeValue(generator, employee);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+    }
+}
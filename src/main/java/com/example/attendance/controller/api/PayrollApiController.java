@@ -0,0 +1,137 @@
+package com.example.attendance.controller.api;
+
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.security.CurrentUser;
+import com.example.attendance.service.PayrollCalculationResult;
+import com.example.attendance.service.PayrollCalculationService;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * 給与計算結果の REST API（計算済み・アーカイブ済みの月）.
+ *
+ * <p>ETag は計算結果の計算日時またはアーカイブの世代から作り、変更のない月への条件付きGETは
+ * 計算結果・アーカイブを読まずに 304 を返す。締め済み（アーカイブ済み）の月の ETag は
+ * 再計算しない限り再起動後も変わらない。
+ */
+@RestController
+@RequestMapping("/api/v1/payrolls")
+public class PayrollApiController {
+
+    private final PayrollCalculationService payrollCalculationService;
+    private final ObjectMapper objectMapper;
+    /** 一覧用（勤務記録を含めない）. */
+    private final ObjectWriter summaryWriter;
+    /** 明細用（勤務記録を含める）. */
+    private final ObjectWriter detailWriter;
+
+    public PayrollApiController(PayrollCalculationService payrollCalculationService,
+            ObjectMapper objectMapper) {
+        this.payrollCalculationService = payrollCalculationService;
+        this.objectMapper = objectMapper;
+        this.summaryWriter = objectMapper.copy()
+                .addMixIn(PayrollDto.class, WithoutWorkRecords.class)
+                .writerFor(PayrollDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.detailWriter = objectMapper.writerFor(PayrollDto.class);
+    }
+
+    @JsonIgnoreProperties("workRecords")
+    private abstract static class WithoutWorkRecords {
+    }
+
+    /**
+     * 対象月の給与の一覧（従業員ID順、勤務記録を含めない）.
+     *
+     * <p>対象月の指定がない場合は直近の計算結果の月。一般ユーザーは自分の給与だけを取得できる。
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(
+            @RequestParam(required = false) YearMonth month,
+            @RequestParam(required = false) String employeeId,
+            @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+            WebRequest webRequest) {
+        Optional<YearMonth> target = month != null
+                ? Optional.of(month)
+                : payrollCalculationService.findLatestResult()
+                        .map(PayrollCalculationResult::getTargetMonth);
+        Optional<String> version = target.flatMap(payrollCalculationService::findPayrollVersion);
+        if (version.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        YearMonth targetMonth = target.get();
+        String targetEmployeeId = currentUser.isAdmin() ? employeeId : currentUser.getEmployeeId();
+
+        String etag = ApiResponses.etag("payrolls", targetMonth, version.get(),
+                targetEmployeeId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ApiResponses.json(objectMapper, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("month", targetMonth.toString());
+            generator.writeArrayFieldStart("content");
+            try {
+                payrollCalculationService.forEachPayroll(targetMonth, payroll -> {
+                    if (targetEmployeeId != null
+                            && !targetEmployeeId.equals(payroll.getEmployeeId())) {
+                        return;
+                    }
+                    try {
+                        summaryWriter.writeValue(generator, payroll);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * 従業員1人・1か月分の給与（勤務記録を含める）.
+     */
+    @GetMapping("/{employeeId}")
+    public ResponseEntity<StreamingResponseBody> detail(@PathVariable String employeeId,
+            @RequestParam YearMonth month,
+            @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+            WebRequest webRequest) {
+        if (!currentUser.isAdmin() && !employeeId.equals(currentUser.getEmployeeId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Optional<String> version = payrollCalculationService.findPayrollVersion(month);
+        if (version.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        String etag = ApiResponses.etag("payroll", month, version.get(), employeeId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Optional<PayrollDto> payroll = payrollCalculationService.findPayroll(employeeId, month);
+        if (payroll.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ApiResponses.json(objectMapper,
+                generator -> detailWriter.writeValue(generator, payroll.get()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.attendance.controller.api;
+
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.security.CurrentUser;
+import com.example.attendance.service.WorkRecordService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 勤務記録の REST API（集計ツール等からの定期取得用）.
+ *
+ * <p>ETag は期間内の勤務記録の版から作り、変更のない期間への条件付きGETは勤務記録を読まずに
+ * 304 を返す。
+ */
+@RestController
+@RequestMapping("/api/v1/work-records")
+public class WorkRecordApiController {
+
+    private final WorkRecordService workRecordService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter workRecordWriter;
+
+    public WorkRecordApiController(WorkRecordService workRecordService,
+            ObjectMapper objectMapper) {
+        this.workRecordService = workRecordService;
+        this.objectMapper = objectMapper;
+        this.workRecordWriter = objectMapper.writerFor(WorkRecordDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 勤務日が期間内の勤務記録（従業員ID順、従業員ごとに開始日時順）.
+     *
+     * <p>期間の指定がない場合は今月。一般ユーザーは自分の勤務記録だけを取得できる。
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+            @RequestParam(required = false) String employeeId,
+            @RequestAttribute(CurrentUser.REQUEST_ATTRIBUTE) CurrentUser currentUser,
+            WebRequest webRequest) {
+        YearMonth currentMonth = YearMonth.now();
+        LocalDate periodFrom = from != null ? from : currentMonth.atDay(1);
+        LocalDate periodTo = to != null ? to : currentMonth.atEndOfMonth();
+        if (periodTo.isBefore(periodFrom)) {
+            return ResponseEntity.badRequest().build();
+        }
+        String targetEmployeeId = currentUser.isAdmin() ? employeeId : currentUser.getEmployeeId();
+
+        String etag = ApiResponses.etag("work-records", ApiResponses.EPOCH,
+                workRecordService.versionOf(periodFrom, periodTo), periodFrom, periodTo,
+                targetEmployeeId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ApiResponses.json(objectMapper, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("from", periodFrom.toString());
+            generator.writeStringField("to", periodTo.toString());
+            generator.writeStringField("employeeId", targetEmployeeId);
+            generator.writeArrayFieldStart("content");
+            if (targetEmployeeId != null) {
+                for (WorkRecordDto workRecord : workRecordService.findByEmployeeInPeriod(
+                        targetEmployeeId, periodFrom, periodTo)) {
+                    workRecordWriter.writeValue(generator, workRecord);
+                }
+            } else {
+                try {
+                    workRecordService.forEachInPeriod(periodFrom, periodTo, workRecord -> {
+                        try {
+                            workRecordWriter.writeValue(generator, workRecord);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.attendance.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 時給マスタ（hourly_wages）の1行.
+ */
+@Value
+@Builder(toBuilder = true)
+public class HourlyWage {
+    Integer id;
+    int workTypeId;
+    String workTypeName;
+    /** 学校種別ID（nullの場合は勤務形態のみで単価決定）. */
+    Integer studentLevelId;
+    String studentLevelName;
+    int wage;
+    LocalDate effectiveFrom;
+    /** 適用終了日（nullの場合は無期限）. */
+    LocalDate effectiveTo;
+}
@@ -0,0 +1,167 @@
+package com.example.attendance.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (勤務形態, 学校種別, 日付) から適用単価を引く不変インデックス.
+ *
+ * <p>キーは {@code long} のオープンアドレス法ハッシュで保持し、キーごとの適用期間は
+ * 適用開始日（エポック日）の昇順配列として二分探索する。検索は O(log n) でオブジェクトを生成しない。
+ * 時給マスタが更新された場合はインデックス全体を作り直して差し替える。
+ */
+public final class HourlyWageIndex {
+
+    /** 該当する単価が存在しない. */
+    public static final int NOT_FOUND = -1;
+
+    /** 学校種別を問わない単価のキー. */
+    public static final int NO_STUDENT_LEVEL = 0;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    private final long[] keys;
+    private final long[][] effectiveFromDays;
+    private final long[][] effectiveToDays;
+    private final int[][] wages;
+    private final int mask;
+    private final int wageCount;
+
+    private HourlyWageIndex(Map<Long, List<HourlyWage>> wagesByKey, int wageCount) {
+        int capacity = Integer.highestOneBit(Math.max(wagesByKey.size() * 2, 2) - 1) << 1;
+        this.keys = new long[capacity];
+        this.effectiveFromDays = new long[capacity][];
+        this.effectiveToDays = new long[capacity][];
+        this.wages = new int[capacity][];
+        this.mask = capacity - 1;
+        this.wageCount = wageCount;
+        Arrays.fill(keys, EMPTY_KEY);
+        for (Map.Entry<Long, List<HourlyWage>> entry : wagesByKey.entrySet()) {
+            putIntervals(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 時給マスタ全件からインデックスを構築する.
+     *
+     * @throws IllegalArgumentException 適用期間が不正、または同一キーで適用期間が重複する場合
+     */
+    public static HourlyWageIndex build(Collection<HourlyWage> hourlyWages) {
+        Map<Long, List<HourlyWage>> wagesByKey = new LinkedHashMap<>();
+        for (HourlyWage wage : hourlyWages) {
+            long key = keyOf(wage.getWorkTypeId(), levelOf(wage.getStudentLevelId()));
+            wagesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(wage);
+        }
+        return new HourlyWageIndex(wagesByKey, hourlyWages.size());
+    }
+
+    public static HourlyWageIndex empty() {
+        return build(List.of());
+    }
+
+    /**
+     * 適用単価を取得する。学校種別別の単価がなければ勤務形態のみの単価にフォールバックする.
+     *
+     * @param studentLevelId 学校種別ID（なしの場合は {@link #NO_STUDENT_LEVEL}）
+     * @return 時給（円）。該当なしの場合は {@link #NOT_FOUND}
+     */
+    public int findWage(int workTypeId, int studentLevelId, long epochDay) {
+        int wage = lookup(keyOf(workTypeId, studentLevelId), epochDay);
+        if (wage == NOT_FOUND && studentLevelId != NO_STUDENT_LEVEL) {
+            wage = lookup(keyOf(workTypeId, NO_STUDENT_LEVEL), epochDay);
+        }
+        return wage;
+    }
+
+    public int findWage(int workTypeId, int studentLevelId, LocalDate date) {
+        return findWage(workTypeId, studentLevelId, date.toEpochDay());
+    }
+
+    public int size() {
+        return wageCount;
+    }
+
+    private int lookup(long key, long epochDay) {
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY_KEY) {
+            return NOT_FOUND;
+        }
+        long[] fromDays = effectiveFromDays[slot];
+
+        // 適用開始日 <= epochDay となる最後の区間を二分探索
+        int low = 0;
+        int high = fromDays.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (fromDays[middle] <= epochDay) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (found < 0 || epochDay > effectiveToDays[slot][found]) {
+            return NOT_FOUND;
+        }
+        return wages[slot][found];
+    }
+
+    private void putIntervals(long key, List<HourlyWage> intervals) {
+        intervals.sort(Comparator.comparing(HourlyWage::getEffectiveFrom));
+        int count = intervals.size();
+        long[] fromDays = new long[count];
+        long[] toDays = new long[count];
+        int[] amounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            HourlyWage wage = intervals.get(i);
+            fromDays[i] = wage.getEffectiveFrom().toEpochDay();
+            toDays[i] = wage.getEffectiveTo() != null
+                    ? wage.getEffectiveTo().toEpochDay()
+                    : OPEN_END;
+            amounts[i] = wage.getWage();
+            if (toDays[i] < fromDays[i]) {
+                throw new IllegalArgumentException(
+                        "Invalid effective period: hourlyWageId=" + wage.getId());
+            }
+            if (i > 0 && fromDays[i] <= toDays[i - 1]) {
+                throw new IllegalArgumentException(
+                        "Overlapping effective period: hourlyWageId=" + wage.getId());
+            }
+        }
+
+        int slot = findSlot(key);
+        keys[slot] = key;
+        effectiveFromDays[slot] = fromDays;
+        effectiveToDays[slot] = toDays;
+        wages[slot] = amounts;
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long keyOf(int workTypeId, int studentLevelId) {
+        return ((long) workTypeId << 32) | (studentLevelId & 0xFFFFFFFFL);
+    }
+
+    private static int levelOf(Integer studentLevelId) {
+        return studentLevelId != null ? studentLevelId : NO_STUDENT_LEVEL;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.attendance.domain;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * マスタデータ（勤務形態・学校種別・時給・生徒）の不変スナップショット.
+ *
+ * <p>一覧・ID引き・派生インデックス（{@link WorkTypeMatcher}, {@link HourlyWageIndex},
+ * {@link StudentNameIndex}）を1つのオブジェクトにまとめ、どのマスタが保存されても全体を
+ * 新しいスナップショットに差し替える。変更のないマスタの部分は前のスナップショットと共有する。
+ * 読み込みはロックを取らず、1回の処理で同じスナップショットを使えば各マスタの整合が取れる。
+ *
+ * <p>{@code version} はインスタンス間の論理時計で、保存による差し替えで1増え、他のインスタンスでの変更を
+ * 読み込み直すと自分と通知のうち大きい方より1大きくなる。同じインスタンスでは内容が変わるたびに必ず増える。
+ */
+public final class MasterDataSnapshot {
+
+    private static final Comparator<HourlyWage> HOURLY_WAGE_ORDER =
+            Comparator.comparing(HourlyWage::getWorkTypeId)
+                    .thenComparing(HourlyWage::getStudentLevelId,
+                            Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(HourlyWage::getEffectiveFrom);
+
+    private final long version;
+    private final WorkTypes workTypes;
+    private final StudentLevels studentLevels;
+    private final HourlyWages hourlyWages;
+    private final Students students;
+
+    private MasterDataSnapshot(long version, WorkTypes workTypes, StudentLevels studentLevels,
+            HourlyWages hourlyWages, Students students) {
+        this.version = version;
+        this.workTypes = workTypes;
+        this.studentLevels = studentLevels;
+        this.hourlyWages = hourlyWages;
+        this.students = students;
+    }
+
+    /**
+     * 全マスタからスナップショットを構築する（起動時・他のインスタンスでの変更の読み込み時）.
+     *
+     * @throws IllegalArgumentException インデックスを構築できない場合（キーワード・適用期間の重複等）
+     */
+    public static MasterDataSnapshot build(long version, Collection<WorkType> workTypes,
+            Collection<StudentLevel> studentLevels, Collection<HourlyWage> hourlyWages,
+            Collection<Student> students) {
+        return new MasterDataSnapshot(version,
+                WorkTypes.of(workTypes, WorkTypeMatcher.build(workTypes)),
+                StudentLevels.of(studentLevels),
+                HourlyWages.of(hourlyWages, HourlyWageIndex.build(hourlyWages)),
+                Students.of(students, StudentNameIndex.build(students)));
+    }
+
+    /**
+     * 勤務形態マスタを差し替えた次のバージョンを返す.
+     *
+     * @param matcher {@code workTypes} から構築したマッチャー（変わらない場合は現在のもの）
+     */
+    public MasterDataSnapshot withWorkTypes(Collection<WorkType> workTypes,
+            WorkTypeMatcher matcher) {
+        return new MasterDataSnapshot(version + 1, WorkTypes.of(workTypes, matcher),
+                studentLevels, hourlyWages, students);
+    }
+
+    /**
+     * 時給マスタを差し替えた次のバージョンを返す.
+     *
+     * @param index {@code hourlyWages} から構築したインデックス
+     */
+    public MasterDataSnapshot withHourlyWages(Collection<HourlyWage> hourlyWages,
+            HourlyWageIndex index) {
+        return new MasterDataSnapshot(version + 1, workTypes, studentLevels,
+                HourlyWages.of(hourlyWages, index), students);
+    }
+
+    /**
+     * 生徒マスタを差し替えた次のバージョンを返す.
+     *
+     * @param nameIndex {@code students} から構築した生徒名インデックス
+     */
+    public MasterDataSnapshot withStudents(Collection<Student> students,
+            StudentNameIndex nameIndex) {
+        return new MasterDataSnapshot(version + 1, workTypes, studentLevels, hourlyWages,
+                Students.of(students, nameIndex));
+    }
+
+    /**
+     * 内容は同じでバージョンだけを付け替えたスナップショットを返す（読み込み直したスナップショット用）.
+     */
+    public MasterDataSnapshot withVersion(long version) {
+        return new MasterDataSnapshot(version, workTypes, studentLevels, hourlyWages, students);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 勤務形態（ID順）.
+     */
+    public List<WorkType> getWorkTypes() {
+        return workTypes.list();
+    }
+
+    public Optional<WorkType> findWorkType(int id) {
+        return Optional.ofNullable(workTypes.byId().get(id));
+    }
+
+    public Optional<WorkType> findWorkTypeByName(String name) {
+        return name != null ? Optional.ofNullable(workTypes.byName().get(name)) : Optional.empty();
+    }
+
+    public Map<Integer, WorkType> getWorkTypesById() {
+        return workTypes.byId();
+    }
+
+    public WorkTypeMatcher getWorkTypeMatcher() {
+        return workTypes.matcher();
+    }
+
+    /**
+     * 学校種別（ID順）.
+     */
+    public List<StudentLevel> getStudentLevels() {
+        return studentLevels.list();
+    }
+
+    public Optional<StudentLevel> findStudentLevel(int id) {
+        return Optional.ofNullable(studentLevels.byId().get(id));
+    }
+
+    /**
+     * 時給（勤務形態・学校種別・適用開始日の順）.
+     */
+    public List<HourlyWage> getHourlyWages() {
+        return hourlyWages.list();
+    }
+
+    public Optional<HourlyWage> findHourlyWage(int id) {
+        return Optional.ofNullable(hourlyWages.byId().get(id));
+    }
+
+    public HourlyWageIndex getHourlyWageIndex() {
+        return hourlyWages.index();
+    }
+
+    /**
+     * 生徒（ID順）.
+     */
+    public List<Student> getStudents() {
+        return students.list();
+    }
+
+    /**
+     * 在籍中の生徒（ID順）.
+     */
+    public List<Student> getActiveStudents() {
+        return students.active();
+    }
+
+    public Optional<Student> findStudent(String id) {
+        return id != null ? Optional.ofNullable(students.byId().get(id)) : Optional.empty();
+    }
+
+    public StudentNameIndex getStudentNameIndex() {
+        return students.nameIndex();
+    }
+
+    private static <K, V> Map<K, V> indexBy(List<V> values, Function<V, K> key) {
+        Map<K, V> index = new LinkedHashMap<>();
+        for (V value : values) {
+            K k = key.apply(value);
+            if (k != null) {
+                index.putIfAbsent(k, value);
+            }
+        }
+        return Map.copyOf(index);
+    }
+
+    private record WorkTypes(List<WorkType> list, Map<Integer, WorkType> byId,
+            Map<String, WorkType> byName, WorkTypeMatcher matcher) {
+
+        static WorkTypes of(Collection<WorkType> workTypes, WorkTypeMatcher matcher) {
+            List<WorkType> list = workTypes.stream()
+                    .sorted(Comparator.comparing(WorkType::getId))
+                    .toList();
+            return new WorkTypes(list, indexBy(list, WorkType::getId),
+                    indexBy(list, WorkType::getName), matcher);
+        }
+    }
+
+    private record StudentLevels(List<StudentLevel> list, Map<Integer, StudentLevel> byId) {
+
+        static StudentLevels of(Collection<StudentLevel> studentLevels) {
+            List<StudentLevel> list = studentLevels.stream()
+                    .sorted(Comparator.comparing(StudentLevel::getId))
+                    .toList();
+            return new StudentLevels(list, indexBy(list, StudentLevel::getId));
+        }
+    }
+
+    private record HourlyWages(List<HourlyWage> list, Map<Integer, HourlyWage> byId,
+            HourlyWageIndex index) {
+
+        static HourlyWages of(Collection<HourlyWage> hourlyWages, HourlyWageIndex index) {
+            List<HourlyWage> list = hourlyWages.stream()
+                    .sorted(HOURLY_WAGE_ORDER)
+                    .toList();
+            return new HourlyWages(list, indexBy(list, HourlyWage::getId), index);
+        }
+    }
+
+    private record Students(List<Student> list, List<Student> active,
+            Map<String, Student> byId, StudentNameIndex nameIndex) {
+
+        static Students of(Collection<Student> students, StudentNameIndex nameIndex) {
+            List<Student> list = students.stream()
+                    .sorted(Comparator.comparing(Student::getId))
+                    .toList();
+            return new Students(list, list.stream().filter(Student::isActive).toList(),
+                    indexBy(list, Student::getId), nameIndex);
+        }
+    }
+}
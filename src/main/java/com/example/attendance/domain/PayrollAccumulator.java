@@ -0,0 +1,206 @@
+package com.example.attendance.domain;
+
+import com.example.attendance.dto.DashboardDto;
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.dto.WorkRecordDto;
+
+/**
+ * 給与集計のアキュムレータ.
+ *
+ * <p>勤務時間を {@code int} の分、金額を {@code long} の円で保持し、集計ループ中はオブジェクトを生成しない。
+ * 金額は「分 × 時給」の合計として保持し、円への換算（端数処理）は取得時に1回だけ行う。
+ * DTOへの変換は画面表示の直前（{@link #toSummary()} など）でのみ行う。
+ *
+ * <p>勤務時間は保存時に算出した時間帯別の分（{@link WorkMinuteBuckets}）を合計するだけで、
+ * 集計中に日時の計算はしない。休日の時間は通常・残業と別に休日割増で、深夜の時間は
+ * 通常・残業・休日の支給に深夜割増分を加算する。
+ *
+ * <p>同一従業員の勤務記録を勤務日の昇順で投入すること。スレッドセーフではないため、
+ * スレッドごとに1インスタンスを {@link #reset()} して再利用する。
+ */
+public final class PayrollAccumulator {
+
+    private static final int PERCENT = 100;
+
+    private final int regularDailyMinutes;
+    private final int overtimePremiumPercent;
+    private final int lateNightPremiumPercent;
+    private final int holidayPremiumPercent;
+
+    private int regularMinutes;
+    private int overtimeMinutes;
+    private int holidayMinutes;
+    private int lateNightMinutes;
+    private int workDays;
+    private long regularWageMinutes;
+    private long overtimeWageMinutes;
+    private long holidayWageMinutes;
+    private long lateNightWageMinutes;
+
+    private long currentEpochDay = Long.MIN_VALUE;
+    private int currentDayMinutes;
+
+    /**
+     * @param regularDailyMinutes    1日の所定労働時間（分）。超過分は残業として扱う
+     * @param overtimePremiumPercent 残業の割増率（%）。125 で25%割増
+     * @param lateNightPremiumPercent 深夜の加算率（%）。25 で基本の支給に25%を加算
+     * @param holidayPremiumPercent  休日の割増率（%）。135 で35%割増
+     */
+    public PayrollAccumulator(int regularDailyMinutes, int overtimePremiumPercent,
+            int lateNightPremiumPercent, int holidayPremiumPercent) {
+        this.regularDailyMinutes = regularDailyMinutes;
+        this.overtimePremiumPercent = overtimePremiumPercent;
+        this.lateNightPremiumPercent = lateNightPremiumPercent;
+        this.holidayPremiumPercent = holidayPremiumPercent;
+    }
+
+    public void reset() {
+        regularMinutes = 0;
+        overtimeMinutes = 0;
+        holidayMinutes = 0;
+        lateNightMinutes = 0;
+        workDays = 0;
+        regularWageMinutes = 0;
+        overtimeWageMinutes = 0;
+        holidayWageMinutes = 0;
+        lateNightWageMinutes = 0;
+        currentEpochDay = Long.MIN_VALUE;
+        currentDayMinutes = 0;
+    }
+
+    /**
+     * 勤務記録1件を集計に加える.
+     *
+     * <p>時間帯別の分が未算出の勤務記録（保存前のもの）は、その場で算出する。
+     */
+    public void addRecord(WorkRecordDto record, int hourlyWage) {
+        Integer lateNight = record.getLateNightMinutes();
+        Integer holiday = record.getHolidayMinutes();
+        if (record.getWorkMinutes() == null || lateNight == null || holiday == null) {
+            int minutes = WorkTime.workMinutesOf(record);
+            add(record.getWorkDate().toEpochDay(), minutes,
+                    Math.min(WorkMinuteBuckets.lateNightMinutes(record.getStartTime(),
+                            record.getEndTime()), minutes),
+                    Math.min(WorkMinuteBuckets.holidayMinutes(record.getStartTime(),
+                            record.getEndTime()), minutes),
+                    hourlyWage);
+            return;
+        }
+        add(record.getWorkDate().toEpochDay(), record.getWorkMinutes(), lateNight, holiday,
+                hourlyWage);
+    }
+
+    /**
+     * 1勤務分の時間を集計に加える.
+     *
+     * <p>休日以外の時間は、その日の累計が所定時間を超えた分を残業とする。
+     *
+     * @param minutes          勤務時間（分）
+     * @param lateNightMinutes うち深夜の分
+     * @param holidayMinutes   うち休日の分
+     */
+    public void add(long epochDay, int minutes, int lateNightMinutes, int holidayMinutes,
+            int hourlyWage) {
+        if (epochDay != currentEpochDay) {
+            currentEpochDay = epochDay;
+            currentDayMinutes = 0;
+            workDays++;
+        }
+        int holiday = Math.min(holidayMinutes, minutes);
+        int nonHoliday = minutes - holiday;
+        int regularRoom = Math.max(regularDailyMinutes - currentDayMinutes, 0);
+        int regular = Math.min(nonHoliday, regularRoom);
+        int overtime = nonHoliday - regular;
+
+        currentDayMinutes += nonHoliday;
+        regularMinutes += regular;
+        overtimeMinutes += overtime;
+        this.holidayMinutes += holiday;
+        this.lateNightMinutes += lateNightMinutes;
+        regularWageMinutes += (long) regular * hourlyWage;
+        overtimeWageMinutes += (long) overtime * hourlyWage;
+        holidayWageMinutes += (long) holiday * hourlyWage;
+        lateNightWageMinutes += (long) lateNightMinutes * hourlyWage;
+    }
+
+    public int getRegularMinutes() {
+        return regularMinutes;
+    }
+
+    public int getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public int getHolidayMinutes() {
+        return holidayMinutes;
+    }
+
+    public int getLateNightMinutes() {
+        return lateNightMinutes;
+    }
+
+    public int getTotalMinutes() {
+        return regularMinutes + overtimeMinutes + holidayMinutes;
+    }
+
+    public int getWorkDays() {
+        return workDays;
+    }
+
+    public long getRegularPaymentYen() {
+        return WorkTime.divideRoundHalfUp(regularWageMinutes, WorkTime.MINUTES_PER_HOUR);
+    }
+
+    public long getOvertimePaymentYen() {
+        return WorkTime.divideRoundHalfUp(overtimeWageMinutes * overtimePremiumPercent,
+                (long) WorkTime.MINUTES_PER_HOUR * PERCENT);
+    }
+
+    public long getHolidayPaymentYen() {
+        return WorkTime.divideRoundHalfUp(holidayWageMinutes * holidayPremiumPercent,
+                (long) WorkTime.MINUTES_PER_HOUR * PERCENT);
+    }
+
+    /**
+     * 深夜の加算分（深夜の時間の基本の支給は通常・残業・休日の支給に含まれる）.
+     */
+    public long getLateNightPaymentYen() {
+        return WorkTime.divideRoundHalfUp(lateNightWageMinutes * lateNightPremiumPercent,
+                (long) WorkTime.MINUTES_PER_HOUR * PERCENT);
+    }
+
+    public long getTotalPaymentYen() {
+        return getRegularPaymentYen() + getOvertimePaymentYen() + getHolidayPaymentYen()
+                + getLateNightPaymentYen();
+    }
+
+    /**
+     * 画面表示用の給与サマリーを生成.
+     */
+    public PayrollDto.PayrollSummary toSummary() {
+        return PayrollDto.PayrollSummary.builder()
+                .totalWorkDays(workDays)
+                .regularHours(WorkTime.toHours(regularMinutes))
+                .overtimeHours(WorkTime.toHours(overtimeMinutes))
+                .holidayHours(WorkTime.toHours(holidayMinutes))
+                .lateNightHours(WorkTime.toHours(lateNightMinutes))
+                .regularPayment((double) getRegularPaymentYen())
+                .overtimePayment((double) getOvertimePaymentYen())
+                .holidayPayment((double) getHolidayPaymentYen())
+                .lateNightPayment((double) getLateNightPaymentYen())
+                .totalPayment((double) getTotalPaymentYen())
+                .build();
+    }
+
+    /**
+     * ダッシュボード表示用の月次統計を生成.
+     */
+    public DashboardDto.MonthlyStats toMonthlyStats(String month) {
+        return DashboardDto.MonthlyStats.builder()
+                .totalWorkHours(WorkTime.toHours(getTotalMinutes()))
+                .totalWorkDays(workDays)
+                .estimatedPayment((double) getTotalPaymentYen())
+                .month(month)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.attendance.domain;
+
+/**
+ * 単価タイプ（work_types.rate_type）.
+ */
+public enum RateType {
+    /** 勤務形態ごとの固定単価. */
+    FIXED,
+    /** 生徒の学校種別ごとの単価. */
+    STUDENT_LEVEL_BASED
+}
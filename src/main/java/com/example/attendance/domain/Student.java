@@ -0,0 +1,25 @@
+package com.example.attendance.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 生徒マスタ（students）の1行.
+ */
+@Value
+@Builder(toBuilder = true)
+public class Student {
+    /** 生徒ID（スプレッドシートの生徒IDと同じ値）. */
+    String id;
+    String name;
+    /** 学年（例: 中学3年）. */
+    String grade;
+    /** 学校種別ID（1: 小学生, 2: 中学生, 3: 高校生。学年から判定できない場合は null）. */
+    Integer studentLevelId;
+    String school;
+    String notes;
+    boolean active;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.example.attendance.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 学校種別マスタ（student_levels）の1行.
+ */
+@Value
+@Builder(toBuilder = true)
+public class StudentLevel {
+    /** 学校種別ID（1: 小学生, 2: 中学生, 3: 高校生）. */
+    Integer id;
+    String name;
+}
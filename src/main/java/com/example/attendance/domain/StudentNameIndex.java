@@ -0,0 +1,390 @@
+package com.example.attendance.domain;
+
+import lombok.Value;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 生徒名から生徒を引く不変インデックス.
+ *
+ * <p>名前は NFKC 正規化・空白除去・カタカナのひらがな化・英字の小文字化をしたうえで比較するため、
+ * 「山田 花子」「山田　花子」「山田花子」や「ヤマダ」「やまだ」は同じ名前として扱う。
+ * 完全一致はオープンアドレス法のハッシュで引き、入力が NFKC 正規化済みであれば
+ * オブジェクトを生成しない。完全一致しない場合は文字バイグラム（前後の境界を含む）の
+ * Dice 係数で候補を順位付けする。名簿が変わった場合はインデックス全体を作り直して差し替える。
+ */
+public final class StudentNameIndex {
+
+    private static final char BOUNDARY = '\u0000';
+    private static final int EMPTY_GRAM = -1;
+    private static final char KATAKANA_FIRST = 'ァ';
+    private static final char KATAKANA_LAST = 'ヶ';
+    private static final int KATAKANA_TO_HIRAGANA = 'ア' - 'あ';
+
+    /** 名前が同じ生徒が複数いるため、名前だけでは決められない. */
+    private static final Student AMBIGUOUS = Student.builder().build();
+
+    private final char[][] nameKeys;
+    private final int[] nameHashes;
+    private final Student[] nameValues;
+    private final int nameMask;
+
+    private final Student[] students;
+    /** 生徒ごとのバイグラム数（重複を除く）. */
+    private final int[] gramCounts;
+    private final int[] gramKeys;
+    private final int[][] postings;
+    private final int gramMask;
+
+    private StudentNameIndex(List<Student> students, List<String> normalizedNames) {
+        this.students = students.toArray(new Student[0]);
+        this.gramCounts = new int[students.size()];
+
+        int nameCapacity = capacityFor(students.size());
+        this.nameKeys = new char[nameCapacity][];
+        this.nameHashes = new int[nameCapacity];
+        this.nameValues = new Student[nameCapacity];
+        this.nameMask = nameCapacity - 1;
+
+        List<int[]> gramsByStudent = new ArrayList<>(students.size());
+        int gramTotal = 0;
+        for (int ordinal = 0; ordinal < students.size(); ordinal++) {
+            String name = normalizedNames.get(ordinal);
+            putName(name.toCharArray(), students.get(ordinal));
+            int[] grams = bigramsOf(name);
+            gramsByStudent.add(grams);
+            gramCounts[ordinal] = grams.length;
+            gramTotal += grams.length;
+        }
+
+        int gramCapacity = capacityFor(gramTotal);
+        this.gramKeys = new int[gramCapacity];
+        this.postings = new int[gramCapacity][];
+        this.gramMask = gramCapacity - 1;
+        Arrays.fill(gramKeys, EMPTY_GRAM);
+        int[] postingSizes = new int[gramCapacity];
+        for (int[] grams : gramsByStudent) {
+            for (int gram : grams) {
+                postingSizes[gramSlot(gram)]++;
+            }
+        }
+        for (int slot = 0; slot < gramCapacity; slot++) {
+            if (gramKeys[slot] != EMPTY_GRAM) {
+                postings[slot] = new int[postingSizes[slot]];
+                postingSizes[slot] = 0;
+            }
+        }
+        for (int ordinal = 0; ordinal < gramsByStudent.size(); ordinal++) {
+            for (int gram : gramsByStudent.get(ordinal)) {
+                int slot = gramSlot(gram);
+                postings[slot][postingSizes[slot]++] = ordinal;
+            }
+        }
+    }
+
+    /**
+     * 在籍中の生徒からインデックスを構築する.
+     */
+    public static StudentNameIndex build(Collection<Student> students) {
+        List<Student> active = new ArrayList<>(students.size());
+        List<String> names = new ArrayList<>(students.size());
+        for (Student student : students) {
+            String name = student.isActive() ? normalize(student.getName()) : "";
+            if (!name.isEmpty()) {
+                active.add(student);
+                names.add(name);
+            }
+        }
+        return new StudentNameIndex(active, names);
+    }
+
+    public static StudentNameIndex empty() {
+        return build(List.of());
+    }
+
+    /**
+     * 比較用に正規化した名前（NFKC・空白除去・カタカナのひらがな化・英字の小文字化）.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String source = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        StringBuilder normalized = new StringBuilder(source.length());
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(fold(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 正規化した名前が完全一致する生徒を取得する.
+     *
+     * @return 該当なし、または同じ名前の生徒が複数いる場合は null
+     */
+    public Student findExact(String name) {
+        if (name == null) {
+            return null;
+        }
+        String source = isNfkcStable(name)
+                ? name
+                : Normalizer.normalize(name, Normalizer.Form.NFKC);
+        int hash = foldedHash(source);
+        for (int slot = hash & nameMask; nameKeys[slot] != null; slot = (slot + 1) & nameMask) {
+            if (nameHashes[slot] == hash && foldedEquals(source, nameKeys[slot])) {
+                Student student = nameValues[slot];
+                return student != AMBIGUOUS ? student : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * バイグラムの Dice 係数が高い順に候補を返す（同点は構築時の順）.
+     *
+     * @param limit 返す候補の上限
+     */
+    public List<Candidate> findCandidates(String name, int limit) {
+        int[] grams = bigramsOf(normalize(name));
+        if (grams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        int[] shared = new int[students.length];
+        int[] touched = new int[Math.min(students.length, totalPostings(grams))];
+        int touchedCount = 0;
+        for (int gram : grams) {
+            int[] ordinals = postingsOf(gram);
+            if (ordinals == null) {
+                continue;
+            }
+            for (int ordinal : ordinals) {
+                if (shared[ordinal]++ == 0) {
+                    touched[touchedCount++] = ordinal;
+                }
+            }
+        }
+
+        // 上位 limit 件だけを挿入ソートで保持する
+        int size = Math.min(limit, touchedCount);
+        int[] topOrdinals = new int[size];
+        double[] topScores = new double[size];
+        int filled = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int ordinal = touched[t];
+            double score = 2.0 * shared[ordinal] / (grams.length + gramCounts[ordinal]);
+            if (filled == size && !isBetter(score, ordinal, topScores[size - 1],
+                    topOrdinals[size - 1])) {
+                continue;
+            }
+            int i = filled < size ? filled++ : size - 1;
+            while (i > 0 && isBetter(score, ordinal, topScores[i - 1], topOrdinals[i - 1])) {
+                topScores[i] = topScores[i - 1];
+                topOrdinals[i] = topOrdinals[i - 1];
+                i--;
+            }
+            topScores[i] = score;
+            topOrdinals[i] = ordinal;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(filled);
+        for (int i = 0; i < filled; i++) {
+            candidates.add(new Candidate(students[topOrdinals[i]], topScores[i]));
+        }
+        return candidates;
+    }
+
+    /**
+     * 完全一致する生徒、なければ Dice 係数が {@code minScore} 以上で単独1位の候補を返す.
+     *
+     * @return 決められない場合は null
+     */
+    public Student resolve(String name, double minScore) {
+        Student exact = findExact(name);
+        if (exact != null) {
+            return exact;
+        }
+        List<Candidate> candidates = findCandidates(name, 2);
+        if (candidates.isEmpty() || candidates.get(0).getScore() < minScore) {
+            return null;
+        }
+        if (candidates.size() > 1
+                && candidates.get(1).getScore() == candidates.get(0).getScore()) {
+            return null;
+        }
+        return candidates.get(0).getStudent();
+    }
+
+    public int size() {
+        return students.length;
+    }
+
+    private void putName(char[] key, Student student) {
+        int hash = hashOf(key);
+        int slot = hash & nameMask;
+        while (nameKeys[slot] != null) {
+            if (nameHashes[slot] == hash && Arrays.equals(nameKeys[slot], key)) {
+                nameValues[slot] = AMBIGUOUS;
+                return;
+            }
+            slot = (slot + 1) & nameMask;
+        }
+        nameKeys[slot] = key;
+        nameHashes[slot] = hash;
+        nameValues[slot] = student;
+    }
+
+    /**
+     * バイグラムのスロット（構築中は未登録なら登録する）.
+     */
+    private int gramSlot(int gram) {
+        int slot = mix(gram) & gramMask;
+        while (gramKeys[slot] != EMPTY_GRAM && gramKeys[slot] != gram) {
+            slot = (slot + 1) & gramMask;
+        }
+        gramKeys[slot] = gram;
+        return slot;
+    }
+
+    private int[] postingsOf(int gram) {
+        for (int slot = mix(gram) & gramMask; gramKeys[slot] != EMPTY_GRAM;
+                slot = (slot + 1) & gramMask) {
+            if (gramKeys[slot] == gram) {
+                return postings[slot];
+            }
+        }
+        return null;
+    }
+
+    private int totalPostings(int[] grams) {
+        int total = 0;
+        for (int gram : grams) {
+            int[] ordinals = postingsOf(gram);
+            total += ordinals != null ? ordinals.length : 0;
+        }
+        return total;
+    }
+
+    /**
+     * 前後に境界文字を付けた文字バイグラム（重複なし、昇順）.
+     */
+    private static int[] bigramsOf(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        int[] grams = new int[normalized.length() + 1];
+        char previous = BOUNDARY;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            grams[i] = gramOf(previous, c);
+            previous = c;
+        }
+        grams[normalized.length()] = gramOf(previous, BOUNDARY);
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static int gramOf(char first, char second) {
+        // EMPTY_GRAM(-1) になるのは非文字 U+FFFF が2つ続く場合だけで、名前には現れない
+        return (first << 16) | second;
+    }
+
+    private static boolean isBetter(double score, int ordinal, double otherScore,
+            int otherOrdinal) {
+        return score > otherScore || (score == otherScore && ordinal < otherOrdinal);
+    }
+
+    /**
+     * 空白を除き文字を畳み込みながら計算したハッシュ（{@link #hashOf(char[])} と一致する）.
+     */
+    private static int foldedHash(String source) {
+        int hash = 1;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                hash = 31 * hash + fold(c);
+            }
+        }
+        return mix(hash);
+    }
+
+    private static int hashOf(char[] key) {
+        return mix(Arrays.hashCode(key));
+    }
+
+    private static boolean foldedEquals(String source, char[] key) {
+        int k = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (k == key.length || fold(c) != key[k++]) {
+                return false;
+            }
+        }
+        return k == key.length;
+    }
+
+    /**
+     * NFKC 正規化で変わらない文字（ASCII・全角空白・ひらがな・全角カタカナ・CJK統合漢字）だけか.
+     *
+     * <p>人名のほとんどはこの範囲に収まるため、{@link Normalizer} を呼ばずに済む。
+     * 全角空白は NFKC で半角空白になるが、比較では空白を無視するため同じ扱いでよい。
+     */
+    private static boolean isNfkcStable(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean stable = c < 0x80
+                    || c == '\u3000'
+                    || (c >= 'ぁ' && c <= 'ゖ')
+                    || (c >= 'ァ' && c <= 'ヺ')
+                    || c == 'ー'
+                    || (c >= '\u4E00' && c <= '\u9FFF');
+            if (!stable) {
+                return Normalizer.isNormalized(name, Normalizer.Form.NFKC);
+            }
+        }
+        return true;
+    }
+
+    private static char fold(char c) {
+        if (c >= KATAKANA_FIRST && c <= KATAKANA_LAST) {
+            return (char) (c - KATAKANA_TO_HIRAGANA);
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return c;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int capacityFor(int entries) {
+        return Integer.highestOneBit(Math.max(entries * 2, 2) - 1) << 1;
+    }
+
+    /**
+     * 名前の候補.
+     */
+    @Value
+    public static class Candidate {
+        Student student;
+        /** バイグラムの Dice 係数（0〜1）. */
+        double score;
+    }
+}
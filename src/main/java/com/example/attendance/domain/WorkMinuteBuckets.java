@@ -0,0 +1,94 @@
+package com.example.attendance.domain;
+
+import com.example.attendance.dto.WorkRecordDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 勤務記録の時間帯別の勤務時間（分）の算出.
+ *
+ * <p>勤務記録の保存・同期時に1回だけ算出して {@link WorkRecordDto} に保持し、給与計算では
+ * 日時を扱わずに分を合計するだけにする。深夜は 22:00〜翌5:00、休日は日曜日（0:00〜24:00）と
+ * 重なる時間で、日付をまたぐ勤務は日ごとに分けて数える。
+ *
+ * <p>手入力の勤務時間（休憩控除後）が開始〜終了より短い場合、深夜・休日の時間は勤務時間を上限とする。
+ */
+public final class WorkMinuteBuckets {
+
+    /** 休日（法定休日）とする曜日. */
+    public static final DayOfWeek HOLIDAY = DayOfWeek.SUNDAY;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_DAY = 24 * WorkTime.MINUTES_PER_HOUR;
+    /** 深夜の終了（0:00 からの分）. */
+    private static final int LATE_NIGHT_END = 5 * WorkTime.MINUTES_PER_HOUR;
+    /** 深夜の開始（0:00 からの分）. */
+    private static final int LATE_NIGHT_START = 22 * WorkTime.MINUTES_PER_HOUR;
+
+    private WorkMinuteBuckets() {
+    }
+
+    /**
+     * 勤務記録の勤務時間・深夜時間・休日時間（分）を算出して設定する.
+     */
+    public static void apply(WorkRecordDto record) {
+        if (record.getStartTime() == null || record.getEndTime() == null) {
+            Double workHours = record.getWorkHours();
+            record.setWorkMinutes(workHours != null
+                    ? (int) Math.round(workHours * WorkTime.MINUTES_PER_HOUR)
+                    : 0);
+            record.setLateNightMinutes(0);
+            record.setHolidayMinutes(0);
+            return;
+        }
+        int workMinutes = WorkTime.workMinutesOf(record.getWorkHours(), record.getStartTime(),
+                record.getEndTime());
+        record.setWorkMinutes(workMinutes);
+        record.setLateNightMinutes(Math.min(
+                lateNightMinutes(record.getStartTime(), record.getEndTime()), workMinutes));
+        record.setHolidayMinutes(Math.min(
+                holidayMinutes(record.getStartTime(), record.getEndTime()), workMinutes));
+    }
+
+    /**
+     * 開始〜終了のうち深夜（22:00〜翌5:00）の時間（分）.
+     */
+    public static int lateNightMinutes(LocalDateTime startTime, LocalDateTime endTime) {
+        long start = epochMinute(startTime);
+        long end = epochMinute(endTime);
+        int minutes = 0;
+        for (long day = Math.floorDiv(start, MINUTES_PER_DAY); day * MINUTES_PER_DAY < end; day++) {
+            long dayStart = day * MINUTES_PER_DAY;
+            minutes += overlap(start, end, dayStart, dayStart + LATE_NIGHT_END);
+            minutes += overlap(start, end, dayStart + LATE_NIGHT_START, dayStart + MINUTES_PER_DAY);
+        }
+        return minutes;
+    }
+
+    /**
+     * 開始〜終了のうち休日（{@link #HOLIDAY}）の時間（分）.
+     */
+    public static int holidayMinutes(LocalDateTime startTime, LocalDateTime endTime) {
+        long start = epochMinute(startTime);
+        long end = epochMinute(endTime);
+        int minutes = 0;
+        for (long day = Math.floorDiv(start, MINUTES_PER_DAY); day * MINUTES_PER_DAY < end; day++) {
+            if (LocalDate.ofEpochDay(day).getDayOfWeek() == HOLIDAY) {
+                long dayStart = day * MINUTES_PER_DAY;
+                minutes += overlap(start, end, dayStart, dayStart + MINUTES_PER_DAY);
+            }
+        }
+        return minutes;
+    }
+
+    private static long epochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static int overlap(long start, long end, long from, long to) {
+        return (int) Math.max(Math.min(end, to) - Math.max(start, from), 0);
+    }
+}
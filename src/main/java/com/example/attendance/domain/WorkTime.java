@@ -0,0 +1,63 @@
+package com.example.attendance.domain;
+
+import com.example.attendance.dto.WorkRecordDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 勤務時間（分）の計算ユーティリティ.
+ *
+ * <p>{@code Duration} を生成せずに {@link LocalDateTime} のフィールドから直接計算する。
+ */
+public final class WorkTime {
+
+    public static final int MINUTES_PER_HOUR = 60;
+
+    private WorkTime() {
+    }
+
+    /**
+     * 開始・終了日時の差を分で返す（work_records.calculated_minutes と同じ定義）.
+     */
+    public static int minutesBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        long seconds = endTime.toEpochSecond(ZoneOffset.UTC) - startTime.toEpochSecond(ZoneOffset.UTC);
+        return (int) (seconds / 60);
+    }
+
+    /**
+     * 勤務記録の勤務時間（分）を取得。保存時に算出した値（{@link WorkMinuteBuckets}）があればそれを使う.
+     */
+    public static int workMinutesOf(WorkRecordDto record) {
+        Integer workMinutes = record.getWorkMinutes();
+        if (workMinutes != null) {
+            return workMinutes;
+        }
+        return workMinutesOf(record.getWorkHours(), record.getStartTime(), record.getEndTime());
+    }
+
+    /**
+     * 勤務時間（分）を算出。手入力の勤務時間（休憩控除後）があればそれを優先する.
+     */
+    public static int workMinutesOf(Double workHours, LocalDateTime startTime,
+            LocalDateTime endTime) {
+        if (workHours != null) {
+            return (int) Math.round(workHours * MINUTES_PER_HOUR);
+        }
+        return minutesBetween(startTime, endTime);
+    }
+
+    /**
+     * 分を画面表示用の時間数に変換.
+     */
+    public static double toHours(long minutes) {
+        return (double) minutes / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * 四捨五入付きの整数除算（円未満の端数処理に使用）.
+     */
+    public static long divideRoundHalfUp(long dividend, long divisor) {
+        return Math.floorDiv(dividend * 2 + divisor, divisor * 2);
+    }
+}
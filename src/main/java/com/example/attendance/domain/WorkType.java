@@ -0,0 +1,21 @@
+package com.example.attendance.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 勤務形態マスタ（work_types）の1行.
+ */
+@Value
+@Builder(toBuilder = true)
+public class WorkType {
+    Integer id;
+    String name;
+    String description;
+    /** カレンダーイベントタイトルの前方一致に使うキーワード. */
+    String calendarKeyword;
+    boolean payrollTarget;
+    RateType rateType;
+    Integer fixedWage;
+    boolean active;
+}
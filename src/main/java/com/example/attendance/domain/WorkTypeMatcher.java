@@ -0,0 +1,185 @@
+package com.example.attendance.domain;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * カレンダーイベントタイトルから勤務形態と生徒名を判定するマッチャー.
+ *
+ * <p>全勤務形態の {@code calendarKeyword} から構築したトライ（前方一致オートマトン）を1回たどるだけで
+ * 最長一致のキーワードを判定し、続けて括弧（全角・半角）内の生徒名を抽出する。
+ * 判定コストはタイトル長にのみ依存し、勤務形態の数には依存しない。構築後は不変。
+ */
+public final class WorkTypeMatcher {
+
+    /** 一致する勤務形態がない. */
+    public static final int NO_MATCH = -1;
+
+    private static final int ROOT = 0;
+
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] terminalWorkTypeIds;
+    private final int keywordCount;
+
+    private WorkTypeMatcher(char[][] labels, int[][] children, int[] terminalWorkTypeIds,
+            int keywordCount) {
+        this.labels = labels;
+        this.children = children;
+        this.terminalWorkTypeIds = terminalWorkTypeIds;
+        this.keywordCount = keywordCount;
+    }
+
+    /**
+     * 有効な勤務形態のキーワードからマッチャーを構築する.
+     *
+     * @throws IllegalArgumentException 同じキーワードが複数の勤務形態に設定されている場合
+     */
+    public static WorkTypeMatcher build(Collection<WorkType> workTypes) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        terminals.add(NO_MATCH);
+
+        int keywordCount = 0;
+        for (WorkType workType : workTypes) {
+            String keyword = workType.getCalendarKeyword();
+            if (!workType.isActive() || keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = edges.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    terminals.add(NO_MATCH);
+                    edges.get(node).put(keyword.charAt(i), next);
+                }
+                node = next;
+            }
+            if (terminals.get(node) != NO_MATCH) {
+                throw new IllegalArgumentException("Duplicate calendar keyword: " + keyword);
+            }
+            terminals.set(node, workType.getId());
+            keywordCount++;
+        }
+
+        int nodeCount = edges.size();
+        char[][] labels = new char[nodeCount][];
+        int[][] children = new int[nodeCount][];
+        int[] terminalWorkTypeIds = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> nodeEdges = edges.get(node);
+            labels[node] = new char[nodeEdges.size()];
+            children[node] = new int[nodeEdges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : nodeEdges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                children[node][i] = edge.getValue();
+                i++;
+            }
+            terminalWorkTypeIds[node] = terminals.get(node);
+        }
+        return new WorkTypeMatcher(labels, children, terminalWorkTypeIds, keywordCount);
+    }
+
+    /**
+     * タイトルを判定し、勤務形態IDと生徒名を返す.
+     *
+     * @return 一致しない場合は null
+     */
+    public Match match(String title) {
+        long scanned = scan(title);
+        if (scanned == NO_MATCH) {
+            return null;
+        }
+        int keywordEnd = (int) (scanned >>> 32);
+        return new Match((int) scanned, extractStudentName(title, keywordEnd));
+    }
+
+    /**
+     * 勤務形態IDのみを判定する（オブジェクトを生成しない）.
+     *
+     * @return 一致しない場合は {@link #NO_MATCH}
+     */
+    public int matchWorkTypeId(String title) {
+        long scanned = scan(title);
+        return scanned == NO_MATCH ? NO_MATCH : (int) scanned;
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    /**
+     * 最長一致キーワードの終了位置（上位32bit）と勤務形態ID（下位32bit）を返す.
+     */
+    private long scan(String title) {
+        if (title == null) {
+            return NO_MATCH;
+        }
+        long best = NO_MATCH;
+        int node = ROOT;
+        for (int i = skipWhitespace(title, 0); i < title.length(); i++) {
+            int index = Arrays.binarySearch(labels[node], title.charAt(i));
+            if (index < 0) {
+                break;
+            }
+            node = children[node][index];
+            if (terminalWorkTypeIds[node] != NO_MATCH) {
+                best = ((long) (i + 1) << 32) | (terminalWorkTypeIds[node] & 0xFFFFFFFFL);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * キーワード直後の括弧内を生徒名として抽出する（例:「個別（山田太郎）」→「山田太郎」）.
+     */
+    private static String extractStudentName(String title, int keywordEnd) {
+        int open = skipWhitespace(title, keywordEnd);
+        if (open >= title.length() || !isOpenBracket(title.charAt(open))) {
+            return null;
+        }
+        for (int i = open + 1; i < title.length(); i++) {
+            if (isCloseBracket(title.charAt(i))) {
+                String name = title.substring(open + 1, i).strip();
+                return name.isEmpty() ? null : name;
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String title, int from) {
+        int i = from;
+        while (i < title.length() && Character.isWhitespace(title.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isOpenBracket(char c) {
+        return c == '(' || c == '（';
+    }
+
+    private static boolean isCloseBracket(char c) {
+        return c == ')' || c == '）';
+    }
+
+    /**
+     * 判定結果.
+     */
+    @Value
+    public static class Match {
+        int workTypeId;
+        /** 抽出した生徒名（括弧がない場合は null）. */
+        String studentName;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 従業員一覧の検索条件（未指定の項目では絞り込まない）.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFilter {
+    /** 従業員番号・名前の部分一致. */
+    private String keyword;
+    private String status;
+}
@@ -0,0 +1,26 @@
+package com.example.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * キーセット・ページネーションの1ページ分.
+ *
+ * <p>前後のページはカーソル（{@code before} / {@code after} パラメータ）で取得する。
+ * カーソルが null の場合はその方向にページがない。
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+    private List<T> items;
+    /** 前のページ（{@code before} に指定する）. */
+    private String previousCursor;
+    /** 次のページ（{@code after} に指定する）. */
+    private String nextCursor;
+}
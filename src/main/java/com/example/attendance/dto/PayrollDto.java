@@ -33,8 +33,15 @@ public class PayrollDto {
         private Integer totalWorkDays;
         private Double regularHours;
         private Double overtimeHours;
+        /** 休日（日曜日）の勤務時間. */
+        private Double holidayHours;
+        /** 深夜（22:00〜翌5:00）の勤務時間（通常・残業・休日の時間の内数）. */
+        private Double lateNightHours;
         private Double regularPayment;
         private Double overtimePayment;
+        private Double holidayPayment;
+        /** 深夜の加算分. */
+        private Double lateNightPayment;
         private Double totalPayment;
     }
 }
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,11 +20,27 @@ public class WorkRecordDto {
     private String id;
     private String employeeId;
     private String employeeName;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate workDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime startTime;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime endTime;
     private Double workHours;
+    /** 勤務時間（分）。保存・同期時に算出する. */
+    private Integer workMinutes;
+    /** 勤務時間のうち深夜（22:00〜翌5:00）の分。保存・同期時に算出する. */
+    private Integer lateNightMinutes;
+    /** 勤務時間のうち休日（日曜日）の分。保存・同期時に算出する. */
+    private Integer holidayMinutes;
+    private Integer workTypeId;
     private String workTypeName;
+    private Integer studentLevelId;
+    /** カレンダー同期元のイベントID（手入力の場合は null）. */
+    private String googleEventId;
+    private String eventTitle;
+    /** イベントタイトルから抽出した生徒名. */
+    private String studentName;
     private String note;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,23 @@
+package com.example.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.YearMonth;
+
+/**
+ * 勤務記録一覧の検索条件（未指定の項目では絞り込まない）.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkRecordFilter {
+    private String employeeId;
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth month;
+    private Integer workTypeId;
+}
@@ -0,0 +1,25 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.domain.RateType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 勤務形態入力DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkTypeDto {
+    private Integer id;
+    private String name;
+    private String description;
+    private String calendarKeyword;
+    private boolean payrollTarget;
+    private RateType rateType;
+    private Integer fixedWage;
+    private boolean active;
+}
@@ -0,0 +1,26 @@
+package com.example.attendance.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 単調増加カウンタ.
+ */
+public final class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void increment(long amount) {
+        count.add(amount);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+}
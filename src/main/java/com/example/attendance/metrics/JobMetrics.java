@@ -0,0 +1,87 @@
+package com.example.attendance.metrics;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * バッチジョブ1種類分のメトリクス（実行時間・実行回数・失敗回数・処理件数・直近の実行結果）.
+ *
+ * <p>{@link MetricsRegistry#job(String)} で取得し、同じ名前に対しては同じインスタンスを返す。
+ */
+public final class JobMetrics {
+
+    private final Timer duration;
+    private final Counter runs;
+    private final Counter errors;
+    private final Counter items;
+    private volatile LastRun lastRun;
+
+    JobMetrics(MetricsRegistry registry, String name) {
+        this.duration = registry.timer(name + "_duration_seconds",
+                "Duration of " + name + " job runs");
+        this.runs = registry.counter(name + "_total", "Number of " + name + " job runs");
+        this.errors = registry.counter(name + "_error_total",
+                "Number of failed " + name + " job runs");
+        this.items = registry.counter(name + "_items_total",
+                "Number of items processed by " + name + " job runs");
+        registry.gauge(name + "_last_run_timestamp_seconds",
+                "Unix time the last " + name + " job run finished",
+                () -> lastRun != null ? lastRun.finishedAtEpochMillis / 1000.0 : 0);
+        registry.gauge(name + "_last_duration_seconds",
+                "Duration of the last " + name + " job run",
+                () -> lastRun != null ? lastRun.durationNanos / 1e9 : 0);
+        registry.gauge(name + "_last_items_per_second",
+                "Throughput of the last " + name + " job run",
+                () -> lastRun != null ? lastRun.getItemsPerSecond() : 0);
+    }
+
+    /**
+     * ジョブ1回分の実行結果を記録する.
+     */
+    public void record(long elapsedNanos, long itemCount, boolean succeeded) {
+        duration.record(elapsedNanos);
+        runs.increment();
+        items.increment(itemCount);
+        if (!succeeded) {
+            errors.increment();
+        }
+        lastRun = new LastRun(System.currentTimeMillis(), elapsedNanos, itemCount, succeeded);
+    }
+
+    public Optional<LastRun> lastRun() {
+        return Optional.ofNullable(lastRun);
+    }
+
+    public Timer duration() {
+        return duration;
+    }
+
+    /**
+     * 直近の実行結果.
+     */
+    @Value
+    public static class LastRun {
+        long finishedAtEpochMillis;
+        long durationNanos;
+        long items;
+        boolean succeeded;
+
+        public LocalDateTime getFinishedAt() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(finishedAtEpochMillis),
+                    ZoneId.systemDefault());
+        }
+
+        public Duration getDuration() {
+            return Duration.ofNanos(durationNanos);
+        }
+
+        public double getItemsPerSecond() {
+            return durationNanos > 0 ? items * 1e9 / durationNanos : 0;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.attendance.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * アプリケーション内のメトリクスレジストリ.
+ *
+ * <p>メトリクスは名前（Prometheus のメトリクス名）とラベルの組で識別し、同じ組に対しては
+ * 同じインスタンスを返す。ラベルは {@code "key", "value", ...} の順で渡し、同じ名前の
+ * メトリクスでは常に同じキー順にすること。{@link #writePrometheus} で Prometheus の
+ * テキスト形式（0.0.4）に出力する。
+ */
+@Component
+public class MetricsRegistry {
+
+    /** 時間系メトリクスに付加する分位点. */
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private static final String[] BUCKET_LABELS = bucketLabels();
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, JobMetrics> jobs = new ConcurrentHashMap<>();
+
+    public Timer timer(String name, String help, String... tags) {
+        return (Timer) family(name, Type.HISTOGRAM, help).series
+                .computeIfAbsent(labelsOf(tags), key -> new Timer());
+    }
+
+    public Counter counter(String name, String help, String... tags) {
+        return (Counter) family(name, Type.COUNTER, help).series
+                .computeIfAbsent(labelsOf(tags), key -> new Counter());
+    }
+
+    /**
+     * 値を都度取得するゲージを登録する（同じ名前・ラベルで再登録した場合は置き換える）.
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... tags) {
+        family(name, Type.GAUGE, help).series.put(labelsOf(tags), value);
+    }
+
+    /**
+     * バッチジョブのメトリクスを取得する（初回呼び出し時に登録する）.
+     */
+    public JobMetrics job(String name) {
+        return jobs.computeIfAbsent(name, key -> new JobMetrics(this, key));
+    }
+
+    /**
+     * 全メトリクスを Prometheus テキスト形式で出力する.
+     */
+    public void writePrometheus(Writer writer) throws IOException {
+        for (Map.Entry<String, Family> entry : new TreeMap<>(families).entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            Map<String, Object> series = new TreeMap<>(family.series);
+            if (series.isEmpty()) {
+                continue;
+            }
+            writeHeader(writer, name, family.type.text, family.help);
+            if (family.type == Type.HISTOGRAM) {
+                writeHistograms(writer, name, family.help, series);
+                continue;
+            }
+            for (Map.Entry<String, Object> sample : series.entrySet()) {
+                double value = family.type == Type.COUNTER
+                        ? ((Counter) sample.getValue()).count()
+                        : ((DoubleSupplier) sample.getValue()).getAsDouble();
+                writeSample(writer, name, sample.getKey(), value);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeHistograms(Writer writer, String name, String help,
+            Map<String, Object> series) throws IOException {
+        for (Map.Entry<String, Object> entry : series.entrySet()) {
+            String labels = entry.getKey();
+            String separator = labels.isEmpty() ? "" : labels + ",";
+            long[] counts = ((Timer) entry.getValue()).bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                writeSample(writer, name + "_bucket",
+                        separator + "le=\"" + BUCKET_LABELS[i] + "\"", cumulative);
+            }
+            writeSample(writer, name + "_count", labels, cumulative);
+            writeSample(writer, name + "_sum", labels, ((Timer) entry.getValue()).totalSeconds());
+        }
+
+        writeHeader(writer, name + "_max", "gauge", help + " (max)");
+        for (Map.Entry<String, Object> entry : series.entrySet()) {
+            writeSample(writer, name + "_max", entry.getKey(),
+                    ((Timer) entry.getValue()).maxSeconds());
+        }
+
+        writeHeader(writer, name + "_percentile", "gauge", help + " (recent percentiles)");
+        for (Map.Entry<String, Object> entry : series.entrySet()) {
+            String separator = entry.getKey().isEmpty() ? "" : entry.getKey() + ",";
+            for (double quantile : PERCENTILES) {
+                writeSample(writer, name + "_percentile",
+                        separator + "quantile=\"" + quantile + "\"",
+                        ((Timer) entry.getValue()).percentile(quantile));
+            }
+        }
+    }
+
+    private Family family(String name, Type type, String help) {
+        Family family = families.computeIfAbsent(name, key -> new Family(type, help));
+        if (family.type != type) {
+            throw new IllegalArgumentException(
+                    "Metric " + name + " is already registered as " + family.type);
+        }
+        return family;
+    }
+
+    private static void writeHeader(Writer writer, String name, String type, String help)
+            throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void writeSample(Writer writer, String name, String labels, double value)
+            throws IOException {
+        writer.write(name);
+        if (!labels.isEmpty()) {
+            writer.write('{');
+            writer.write(labels);
+            writer.write('}');
+        }
+        writer.write(' ');
+        writer.write(formatValue(value));
+        writer.write('\n');
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String labelsOf(String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be key-value pairs");
+        }
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < tags.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(tags[i]).append("=\"");
+            String value = tags[i + 1] != null ? tags[i + 1] : "";
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                switch (c) {
+                    case '\\' -> labels.append("\\\\");
+                    case '"' -> labels.append("\\\"");
+                    case '\n' -> labels.append("\\n");
+                    default -> labels.append(c);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String[] bucketLabels() {
+        String[] labels = new String[Timer.BUCKET_BOUNDS_NANOS.length + 1];
+        for (int i = 0; i < Timer.BUCKET_BOUNDS_NANOS.length; i++) {
+            labels[i] = BigDecimal.valueOf(Timer.BUCKET_BOUNDS_NANOS[i], 9)
+                    .stripTrailingZeros()
+                    .toPlainString();
+        }
+        labels[labels.length - 1] = "+Inf";
+        return labels;
+    }
+
+    private enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        private final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * 同じ名前のメトリクスの集まり（ラベル文字列 → メトリクス）.
+     */
+    private record Family(Type type, String help, ConcurrentMap<String, Object> series) {
+
+        Family(Type type, String help) {
+            this(type, help, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.attendance.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 画面・APIのリクエスト処理時間を計測するインターセプター.
+ *
+ * <p>{@code com.example.attendance.controller} 配下（サブパッケージを含む）のコントローラーが処理したリクエストを、
+ * メソッド・URIテンプレート・ステータスごとの {@code http_server_requests_seconds} に記録する。
+ * URIは実際のパスではなくマッピングのパターン（例: {@code /employees/{id}}）を使うため、
+ * 系列数はエンドポイント数で頭打ちになる。非同期処理（CSVエクスポート等）は完了までを計測する。
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    public static final String METRIC_NAME = "http_server_requests_seconds";
+
+    private static final String CONTROLLER_PACKAGE = "com.example.attendance.controller";
+    private static final String START_NANOS_ATTRIBUTE =
+            RequestMetricsInterceptor.class.getName() + ".startNanos";
+
+    private final MetricsRegistry metricsRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // 非同期処理の再ディスパッチでも開始時刻は最初のディスパッチのものを使う
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) == null) {
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+            Object handler, Exception ex) {
+        Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (!(startNanos instanceof Long) || !isApplicationController(handler)) {
+            return;
+        }
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        metricsRegistry.timer(METRIC_NAME, "HTTP server request latency",
+                        "method", request.getMethod(),
+                        "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                        "status", Integer.toString(status),
+                        "outcome", outcomeOf(status))
+                .record(System.nanoTime() - (Long) startNanos);
+    }
+
+    private static boolean isApplicationController(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        String packageName = handlerMethod.getBeanType().getPackageName();
+        return packageName.equals(CONTROLLER_PACKAGE)
+                || packageName.startsWith(CONTROLLER_PACKAGE + ".");
+    }
+
+    private static String outcomeOf(int status) {
+        return switch (status / 100) {
+            case 1 -> "INFORMATIONAL";
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+}
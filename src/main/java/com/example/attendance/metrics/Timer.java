@@ -0,0 +1,159 @@
+package com.example.attendance.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間の計測（固定バケットのヒストグラム）.
+ *
+ * <p>起動からの累積（件数・合計・最大・バケット別件数）に加えて、直近約1分間の分布を保持し、
+ * そこからパーセンタイルを推定する。記録はロックを取らず、カウンタへの加算のみで行う。
+ */
+public final class Timer {
+
+    /** バケットの上限値（ミリ秒）. リクエスト処理から長時間バッチまでを1つの目盛りで扱う. */
+    private static final long[] BUCKET_BOUNDS_MILLIS = {
+            1, 2, 5, 10, 25, 50, 100, 200, 300, 500, 750,
+            1_000, 2_000, 5_000, 10_000, 30_000, 60_000, 300_000, 900_000, 3_600_000};
+
+    static final long[] BUCKET_BOUNDS_NANOS = Arrays.stream(BUCKET_BOUNDS_MILLIS)
+            .map(TimeUnit.MILLISECONDS::toNanos)
+            .toArray();
+
+    /** パーセンタイル推定に使う期間と、その期間を分割するスロット数. */
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int WINDOW_SLOTS = 3;
+    private static final long SLOT_NANOS = WINDOW_NANOS / WINDOW_SLOTS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * 直近分布のリングバッファ. 記録は全スロットに加算し、最も古いスロット（{@link #windowIndex}）を
+     * 読み出すことで、常に (SLOTS-1)/SLOTS〜1 ウィンドウ分の分布を参照する。
+     */
+    private final AtomicLongArray[] window = new AtomicLongArray[WINDOW_SLOTS];
+    private volatile int windowIndex;
+    private volatile long windowRotatedAt;
+
+    Timer() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        for (int i = 0; i < WINDOW_SLOTS; i++) {
+            window[i] = new AtomicLongArray(buckets.length);
+        }
+        windowRotatedAt = System.nanoTime();
+    }
+
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    public void record(long elapsedNanos) {
+        long nanos = Math.max(elapsedNanos, 0L);
+        int bucket = bucketOf(nanos);
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+
+        rotateIfNeeded(System.nanoTime());
+        for (AtomicLongArray slot : window) {
+            slot.incrementAndGet(bucket);
+        }
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double totalSeconds() {
+        return totalNanos.sum() / 1e9;
+    }
+
+    public double maxSeconds() {
+        return maxNanos.get() / 1e9;
+    }
+
+    /**
+     * 直近約1分間の分布から分位点（秒）を推定する。バケット内は線形補間（最大値で頭打ち）、
+     * 記録がなければ 0.
+     */
+    public double percentile(double quantile) {
+        rotateIfNeeded(System.nanoTime());
+        AtomicLongArray slot = window[windowIndex];
+        long[] counts = new long[slot.length()];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = slot.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double rank = quantile * total;
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0 || cumulative + counts[i] < rank) {
+                cumulative += counts[i];
+                continue;
+            }
+            if (i == BUCKET_BOUNDS_NANOS.length) {
+                return maxSeconds();
+            }
+            long lower = i == 0 ? 0 : BUCKET_BOUNDS_NANOS[i - 1];
+            long upper = BUCKET_BOUNDS_NANOS[i];
+            double fraction = (rank - cumulative) / counts[i];
+            return Math.min((lower + (upper - lower) * fraction) / 1e9, maxSeconds());
+        }
+        return maxSeconds();
+    }
+
+    /**
+     * バケット別の件数（累積ではない。末尾は上限なしのバケット）.
+     */
+    long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    private static int bucketOf(long nanos) {
+        int index = Arrays.binarySearch(BUCKET_BOUNDS_NANOS, nanos);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void rotateIfNeeded(long now) {
+        if (now - windowRotatedAt < SLOT_NANOS) {
+            return;
+        }
+        synchronized (this) {
+            int rotations = 0;
+            while (now - windowRotatedAt >= SLOT_NANOS && rotations < WINDOW_SLOTS) {
+                AtomicLongArray oldest = window[windowIndex];
+                for (int i = 0; i < oldest.length(); i++) {
+                    oldest.set(i, 0);
+                }
+                windowIndex = (windowIndex + 1) % WINDOW_SLOTS;
+                windowRotatedAt += SLOT_NANOS;
+                rotations++;
+            }
+            if (now - windowRotatedAt >= SLOT_NANOS) {
+                // 長時間記録がなかった場合は全スロットをクリア済みなので、起点を現在に合わせる
+                windowRotatedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,577 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.domain.WorkMinuteBuckets;
+import com.example.attendance.dto.PageDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.dto.WorkRecordFilter;
+import com.example.attendance.util.KeysetPaging;
+import com.example.attendance.util.PageCursor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 勤務記録のインメモリ・リポジトリ（ファイルへのスナップショット付き）.
+ *
+ * <p>勤務記録を従業員ごとに分け、開始日時順に並べた配列として保持する。配列は書き込みのたびに
+ * 新しい配列に差し替える（コピーオンライト）ため、期間の検索は二分探索と配列の部分ビューだけで済み、
+ * 書き込み中も読み込みはロックを待たない。ID による検索と一覧画面の表示順の索引は
+ * スキップリスト（{@link ConcurrentSkipListMap}）で O(log n)。書き込みとスナップショットの書き出しは
+ * 仮想スレッドを固定しない {@link ReentrantLock} で直列化する。
+ *
+ * <p>勤務日は開始日時の日付とする（期間の検索は開始日時で行う）。
+ *
+ * <p>変更があった場合は定期的に（{@code app.work-records.snapshot-interval-millis}）と停止時に
+ * 全件をスナップショット（gzip 圧縮した1行1件の JSON）に書き出し、起動時に読み込む。
+ * 異常終了時は直近のスナップショット以降の変更が失われる。
+ */
+@Slf4j
+@Repository
+public class WorkRecordRepository {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("wr-(\\d+)");
+
+    private final Path snapshotFile;
+    private final ObjectWriter objectWriter;
+    private final ObjectReader objectReader;
+
+    /** ID → 保存した勤務記録と索引のキー. */
+    private final NavigableMap<String, Stored> byId = new ConcurrentSkipListMap<>();
+    /** 従業員ID → 従業員ごとの勤務記録. */
+    private final NavigableMap<String, Partition> partitions = new ConcurrentSkipListMap<>();
+    /** 表示順（勤務日の降順、同じ日はIDの降順）の索引. */
+    private final NavigableMap<DisplayKey, WorkRecordDto> byDisplayOrder =
+            new ConcurrentSkipListMap<>(DisplayKey.DISPLAY_ORDER);
+    private final Set<String> googleEventIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextSequence = new AtomicInteger(1);
+
+    /** 変更の回数（スナップショットの要否の判定用）. */
+    private final AtomicLong version = new AtomicLong();
+    private volatile long snapshotVersion;
+    /** 月（開始日時の年月）→ その月の勤務記録を最後に変更したときの {@link #version}. */
+    private final NavigableMap<YearMonth, Long> monthVersions = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    public WorkRecordRepository(
+            @Value("${app.work-records.snapshot-file:data/work-records/snapshot.jsonl.gz}")
+            Path snapshotFile) throws IOException {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.snapshotFile = snapshotFile;
+        this.objectWriter = mapper.writerFor(WorkRecordDto.class).withRootValueSeparator("\n");
+        this.objectReader = mapper.readerFor(WorkRecordDto.class);
+        load();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Optional<WorkRecordDto> findById(String id) {
+        Stored stored = byId.get(id);
+        return stored != null ? Optional.of(stored.record()) : Optional.empty();
+    }
+
+    /**
+     * 全件を ID 順に取得.
+     */
+    public List<WorkRecordDto> findAll() {
+        List<WorkRecordDto> records = new ArrayList<>(byId.size());
+        byId.values().forEach(stored -> records.add(stored.record()));
+        return records;
+    }
+
+    /**
+     * 従業員の勤務記録のうち、開始日時が期間内のものを開始日時順に取得する（変更不可のビュー）.
+     *
+     * @param from 開始日時の下限（含む）
+     * @param to   開始日時の上限（含む）
+     */
+    public List<WorkRecordDto> findByEmployee(String employeeId, LocalDateTime from,
+            LocalDateTime to) {
+        Partition partition = partitions.get(employeeId);
+        return partition != null ? partition.slice.range(from, to) : List.of();
+    }
+
+    public List<WorkRecordDto> findByEmployeeAndMonth(String employeeId, YearMonth month) {
+        return findByEmployee(employeeId, startOf(month), endOf(month));
+    }
+
+    /**
+     * 対象月の勤務記録を従業員ID順に、従業員ごとに開始日時順で取得する（勤務記録のない従業員は含まない）.
+     */
+    public Map<String, List<WorkRecordDto>> findByMonthGroupedByEmployee(YearMonth month) {
+        LocalDateTime from = startOf(month);
+        LocalDateTime to = endOf(month);
+        Map<String, List<WorkRecordDto>> grouped = new LinkedHashMap<>();
+        partitions.forEach((employeeId, partition) -> {
+            List<WorkRecordDto> records = partition.slice.range(from, to);
+            if (!records.isEmpty()) {
+                grouped.put(employeeId, records);
+            }
+        });
+        return grouped;
+    }
+
+    /**
+     * 勤務日が期間内の勤務記録を従業員ID順、従業員ごとに開始日時順で1件ずつ処理する.
+     *
+     * <p>従業員ごとに処理開始時点の配列を使うため、処理中の書き込みを待たず、書き込みにも影響しない。
+     *
+     * @param from 勤務日の開始（含む）
+     * @param to   勤務日の終了（含む）
+     */
+    public void forEachInPeriod(LocalDate from, LocalDate to, Consumer<WorkRecordDto> action) {
+        LocalDateTime fromTime = from.atStartOfDay();
+        LocalDateTime toTime = to.atTime(LocalTime.MAX);
+        for (Partition partition : partitions.values()) {
+            partition.slice.range(fromTime, toTime).forEach(action);
+        }
+    }
+
+    /**
+     * 全件を1件ずつ処理する（順序は不定）.
+     */
+    public void forEach(Consumer<WorkRecordDto> action) {
+        byId.values().forEach(stored -> action.accept(stored.record()));
+    }
+
+    /**
+     * 直近の勤務記録（表示順）.
+     *
+     * @param employeeId 従業員ID（null の場合は全従業員）
+     */
+    public List<WorkRecordDto> findLatest(String employeeId, int limit) {
+        NavigableMap<DisplayKey, WorkRecordDto> ordered = displayOrderOf(employeeId);
+        List<WorkRecordDto> latest = new ArrayList<>(limit);
+        for (WorkRecordDto workRecord : ordered.values()) {
+            if (latest.size() == limit) {
+                break;
+            }
+            latest.add(workRecord);
+        }
+        return latest;
+    }
+
+    /**
+     * 勤務記録を表示順に1ページ分取得する（キーセット・ページネーション）.
+     *
+     * <p>従業員・月の条件は索引の範囲で絞り込むため、ページの位置に関係なく読み飛ばす行数はページの件数と
+     * 条件に一致しない勤務形態の行だけになる。
+     *
+     * @param after  このカーソルの次から取得する
+     * @param before このカーソルの前までを取得する（after より優先）
+     * @throws IllegalArgumentException カーソルが不正な場合
+     */
+    public PageDto<WorkRecordDto> findPage(WorkRecordFilter filter, String after, String before,
+            int size) {
+        NavigableMap<DisplayKey, WorkRecordDto> ordered = displayOrderOf(filter.getEmployeeId());
+        if (filter.getMonth() != null) {
+            // 表示順は降順のため、月末から月初までの範囲
+            ordered = ordered.subMap(
+                    DisplayKey.lastOf(filter.getMonth().plusMonths(1).atDay(1)), false,
+                    DisplayKey.lastOf(filter.getMonth().atDay(1)), true);
+        }
+        Integer workTypeId = filter.getWorkTypeId();
+        return KeysetPaging.page(ordered,
+                workRecord -> workTypeId == null
+                        || workTypeId.equals(workRecord.getWorkTypeId()),
+                DisplayKey.fromCursor(after), DisplayKey.fromCursor(before), size,
+                DisplayKey::toCursor);
+    }
+
+    public boolean containsGoogleEventId(String googleEventId) {
+        return googleEventIds.contains(googleEventId);
+    }
+
+    public List<String> findAllGoogleEventIds() {
+        return List.copyOf(googleEventIds);
+    }
+
+    /**
+     * 新しい勤務記録のIDを採番する.
+     */
+    public String nextId() {
+        return String.format("wr-%03d", nextSequence.getAndIncrement());
+    }
+
+    /**
+     * 勤務記録を登録・更新する（同じIDの勤務記録は置き換える）.
+     *
+     * <p>時間帯別の勤務時間（{@link WorkMinuteBuckets}）はここで算出して勤務記録に設定する。
+     *
+     * @return 置き換えた勤務記録（新規の場合は null）
+     * @throws IllegalArgumentException ID・従業員ID・勤務日・開始日時が未設定の場合
+     */
+    public WorkRecordDto save(WorkRecordDto workRecord) {
+        if (workRecord.getId() == null || workRecord.getEmployeeId() == null
+                || workRecord.getWorkDate() == null || workRecord.getStartTime() == null) {
+            throw new IllegalArgumentException(
+                    "Work record requires id, employeeId, workDate and startTime");
+        }
+        writeLock.lock();
+        try {
+            return replace(workRecord);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private WorkRecordDto replace(WorkRecordDto workRecord) {
+        WorkMinuteBuckets.apply(workRecord);
+        Stored stored = new Stored(workRecord, workRecord.getEmployeeId(),
+                workRecord.getStartTime(), new DisplayKey(workRecord.getWorkDate(),
+                        workRecord.getId()));
+        Stored previous = byId.put(workRecord.getId(), stored);
+        if (previous != null) {
+            byDisplayOrder.remove(previous.displayKey());
+            Partition partition = partitions.get(previous.employeeId());
+            partition.remove(previous);
+        }
+        byDisplayOrder.put(stored.displayKey(), workRecord);
+        partitions.computeIfAbsent(stored.employeeId(), employeeId -> new Partition())
+                .add(stored);
+        if (workRecord.getGoogleEventId() != null) {
+            googleEventIds.add(workRecord.getGoogleEventId());
+        }
+        Matcher matcher = ID_PATTERN.matcher(workRecord.getId());
+        if (matcher.matches()) {
+            nextSequence.accumulateAndGet(Integer.parseInt(matcher.group(1)) + 1, Math::max);
+        }
+        // 索引の更新後に進める（版を読んでから勤務記録を読めば、版より古い内容は読まない）
+        long updated = version.incrementAndGet();
+        monthVersions.put(YearMonth.from(stored.startTime()), updated);
+        if (previous != null) {
+            monthVersions.put(YearMonth.from(previous.startTime()), updated);
+        }
+        return previous != null ? previous.record() : null;
+    }
+
+    /**
+     * 期間内の勤務記録の版（期間内のいずれかの月の勤務記録が変更されると大きくなる）.
+     *
+     * <p>勤務記録は読まず、月ごとの版だけを参照する。走査するのは勤務記録のある月だけのため、
+     * 期間の長さには比例しない。版は起動ごとに数え直す。
+     *
+     * @param from 開始月（含む）
+     * @param to   終了月（含む）
+     */
+    public long versionOf(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        long latest = 0;
+        for (long monthVersion : monthVersions.subMap(from, true, to, true).values()) {
+            latest = Math.max(latest, monthVersion);
+        }
+        return latest;
+    }
+
+    public void saveAll(Collection<WorkRecordDto> workRecords) {
+        writeLock.lock();
+        try {
+            workRecords.forEach(this::save);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 前回のスナップショット以降に変更があれば書き出す.
+     */
+    @Scheduled(fixedDelayString = "${app.work-records.snapshot-interval-millis:60000}")
+    public void snapshotIfChanged() {
+        long current = version.get();
+        if (current == snapshotVersion) {
+            return;
+        }
+        try {
+            snapshotLock.lock();
+            try {
+                snapshot(current);
+            } finally {
+                snapshotLock.unlock();
+            }
+        } catch (IOException e) {
+            log.error("Failed to write work record snapshot: file={}", snapshotFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshotIfChanged();
+    }
+
+    /**
+     * 全件を一時ファイルに書き出してから置き換える.
+     *
+     * <p>書き込みを止めずに走査するため、走査中の変更は含まれないことがある（次回のスナップショットで
+     * 書き出される）。
+     */
+    private void snapshot(long current) throws IOException {
+        long startNanos = System.nanoTime();
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve(snapshotFile.getFileName() + ".tmp");
+        int written = 0;
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporary)));
+                SequenceWriter writer = objectWriter.writeValues(out)) {
+            for (Stored stored : byId.values()) {
+                writer.write(stored.record());
+                written++;
+            }
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        snapshotVersion = current;
+        log.info("Work record snapshot written: records={}, bytes={}, elapsedMillis={}",
+                written, Files.size(snapshotFile), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            log.info("Work record snapshot not found, starting empty: file={}",
+                    snapshotFile.toAbsolutePath());
+            return;
+        }
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotFile)));
+                MappingIterator<WorkRecordDto> records = objectReader.readValues(in)) {
+            while (records.hasNextValue()) {
+                save(records.nextValue());
+            }
+        }
+        snapshotVersion = version.get();
+        log.info("Work record snapshot loaded: records={}, employees={}, file={}",
+                byId.size(), partitions.size(), snapshotFile.toAbsolutePath());
+    }
+
+    private NavigableMap<DisplayKey, WorkRecordDto> displayOrderOf(String employeeId) {
+        if (employeeId == null || employeeId.isEmpty()) {
+            return byDisplayOrder;
+        }
+        Partition partition = partitions.get(employeeId);
+        return partition != null
+                ? partition.displayOrder
+                : Collections.emptyNavigableMap();
+    }
+
+    private static LocalDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    private static LocalDateTime endOf(YearMonth month) {
+        return month.atEndOfMonth().atTime(LocalTime.MAX);
+    }
+
+    /**
+     * 保存した勤務記録と、保存時点の索引のキー（保存後に DTO が書き換えられても索引から外せるように保持）.
+     */
+    private record Stored(WorkRecordDto record, String employeeId, LocalDateTime startTime,
+            DisplayKey displayKey) {
+    }
+
+    /**
+     * 従業員1人分の勤務記録.
+     */
+    private static final class Partition {
+
+        /** 開始日時順の勤務記録。書き込みのたびに差し替える. */
+        volatile Slice slice = Slice.EMPTY;
+        /** 表示順の索引. */
+        final NavigableMap<DisplayKey, WorkRecordDto> displayOrder =
+                new ConcurrentSkipListMap<>(DisplayKey.DISPLAY_ORDER);
+
+        void add(Stored stored) {
+            slice = slice.with(stored);
+            displayOrder.put(stored.displayKey(), stored.record());
+        }
+
+        void remove(Stored stored) {
+            slice = slice.without(stored);
+            displayOrder.remove(stored.displayKey());
+        }
+    }
+
+    /**
+     * 開始日時順（同じ開始日時はID順）に並べた不変の配列.
+     */
+    private record Slice(LocalDateTime[] startTimes, String[] ids, WorkRecordDto[] records) {
+
+        static final Slice EMPTY =
+                new Slice(new LocalDateTime[0], new String[0], new WorkRecordDto[0]);
+
+        /**
+         * 開始日時が期間内の勤務記録（配列の部分ビューで、コピーしない）.
+         */
+        List<WorkRecordDto> range(LocalDateTime from, LocalDateTime to) {
+            int low = lowerBound(from, "");
+            int high = upperBound(to);
+            return low < high
+                    ? Collections.unmodifiableList(Arrays.asList(records).subList(low, high))
+                    : List.of();
+        }
+
+        Slice with(Stored stored) {
+            int index = lowerBound(stored.startTime(), stored.record().getId());
+            int length = records.length;
+            LocalDateTime[] newStartTimes = new LocalDateTime[length + 1];
+            String[] newIds = new String[length + 1];
+            WorkRecordDto[] newRecords = new WorkRecordDto[length + 1];
+            copyAround(index, 0, 1, newStartTimes, newIds, newRecords);
+            newStartTimes[index] = stored.startTime();
+            newIds[index] = stored.record().getId();
+            newRecords[index] = stored.record();
+            return new Slice(newStartTimes, newIds, newRecords);
+        }
+
+        Slice without(Stored stored) {
+            int index = lowerBound(stored.startTime(), stored.record().getId());
+            if (index >= records.length || !ids[index].equals(stored.record().getId())) {
+                return this;
+            }
+            int length = records.length;
+            LocalDateTime[] newStartTimes = new LocalDateTime[length - 1];
+            String[] newIds = new String[length - 1];
+            WorkRecordDto[] newRecords = new WorkRecordDto[length - 1];
+            copyAround(index, 1, 0, newStartTimes, newIds, newRecords);
+            return new Slice(newStartTimes, newIds, newRecords);
+        }
+
+        /**
+         * index より前をそのまま、index + skip 以降を index + gap の位置にコピーする.
+         */
+        private void copyAround(int index, int skip, int gap, LocalDateTime[] newStartTimes,
+                String[] newIds, WorkRecordDto[] newRecords) {
+            int tail = records.length - index - skip;
+            System.arraycopy(startTimes, 0, newStartTimes, 0, index);
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(records, 0, newRecords, 0, index);
+            System.arraycopy(startTimes, index + skip, newStartTimes, index + gap, tail);
+            System.arraycopy(ids, index + skip, newIds, index + gap, tail);
+            System.arraycopy(records, index + skip, newRecords, index + gap, tail);
+        }
+
+        /**
+         * (開始日時, ID) 以上の最初の位置.
+         */
+        private int lowerBound(LocalDateTime startTime, String id) {
+            int low = 0;
+            int high = startTimes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int compared = startTimes[mid].compareTo(startTime);
+                if (compared == 0) {
+                    compared = ids[mid].compareTo(id);
+                }
+                if (compared < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 開始日時が指定より後の最初の位置.
+         */
+        private int upperBound(LocalDateTime startTime) {
+            int low = 0;
+            int high = startTimes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (startTimes[mid].compareTo(startTime) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 表示順の索引のキー（勤務日・ID）.
+     */
+    private record DisplayKey(LocalDate workDate, String id) {
+
+        static final Comparator<DisplayKey> DISPLAY_ORDER = Comparator
+                .comparing(DisplayKey::workDate)
+                .thenComparing(DisplayKey::id)
+                .reversed();
+
+        /**
+         * 表示順でその日の勤務記録の後に並ぶキー（ID の降順のため空文字が最後）.
+         */
+        static DisplayKey lastOf(LocalDate workDate) {
+            return new DisplayKey(workDate, "");
+        }
+
+        static DisplayKey fromCursor(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return null;
+            }
+            String[] values = PageCursor.decode(cursor, 2);
+            try {
+                return new DisplayKey(LocalDate.parse(values[0]), values[1]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+            }
+        }
+
+        String toCursor() {
+            return PageCursor.encode(workDate.toString(), id);
+        }
+    }
+}
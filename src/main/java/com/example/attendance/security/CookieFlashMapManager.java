@@ -0,0 +1,125 @@
+package com.example.attendance.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.AbstractFlashMapManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * フラッシュ属性を署名付き Cookie に保持する {@link org.springframework.web.servlet.FlashMapManager}.
+ *
+ * <p>既定の実装は HttpSession に保持するため、リダイレクト先が別インスタンスだとメッセージが失われる。
+ * 画面のメッセージ（文字列）だけを運ぶ想定で、文字列以外の属性は保持しない。
+ */
+@Slf4j
+class CookieFlashMapManager extends AbstractFlashMapManager {
+
+    static final String COOKIE_NAME = "KINTAI_FLASH";
+
+    private static final TypeReference<List<Entry>> ENTRIES = new TypeReference<>() {
+    };
+
+    private final SessionTokenCodec sessionTokenCodec;
+    private final boolean secure;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    CookieFlashMapManager(SessionTokenCodec sessionTokenCodec, boolean secure) {
+        this.sessionTokenCodec = sessionTokenCodec;
+        this.secure = secure;
+    }
+
+    @Override
+    protected List<FlashMap> retrieveFlashMaps(HttpServletRequest request) {
+        String json = sessionTokenCodec.verify(cookieValue(request));
+        if (json == null) {
+            return null;
+        }
+        try {
+            List<FlashMap> flashMaps = new ArrayList<>();
+            for (Entry entry : objectMapper.readValue(json, ENTRIES)) {
+                FlashMap flashMap = new FlashMap();
+                flashMap.setTargetRequestPath(entry.path());
+                flashMap.addTargetRequestParams(new LinkedMultiValueMap<>(entry.params()));
+                flashMap.setExpirationTime(entry.expiresAt());
+                flashMap.putAll(entry.attributes());
+                flashMaps.add(flashMap);
+            }
+            return flashMaps;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void updateFlashMaps(List<FlashMap> flashMaps, HttpServletRequest request,
+            HttpServletResponse response) {
+        if (flashMaps.isEmpty()) {
+            writeCookie(response, "", 0);
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(flashMaps.size());
+        for (FlashMap flashMap : flashMaps) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            flashMap.forEach((name, value) -> {
+                if (value instanceof String text) {
+                    attributes.put(name, text);
+                } else {
+                    log.debug("Flash attribute not kept in cookie: name={}", name);
+                }
+            });
+            entries.add(new Entry(flashMap.getTargetRequestPath(),
+                    flashMap.getTargetRequestParams(), flashMap.getExpirationTime(),
+                    attributes));
+        }
+        try {
+            writeCookie(response, sessionTokenCodec.sign(objectMapper.writeValueAsString(entries)),
+                    getFlashMapTimeout());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to write flash attributes", e);
+        }
+    }
+
+    private static String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, long maxAgeSeconds) {
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .maxAge(maxAgeSeconds)
+                .build()
+                .toString());
+    }
+
+    /**
+     * Cookie に保持するフラッシュ属性1件分.
+     */
+    private record Entry(String path, Map<String, List<String>> params, long expiresAt,
+            Map<String, String> attributes) {
+    }
+}
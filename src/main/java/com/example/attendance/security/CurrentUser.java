@@ -0,0 +1,38 @@
+package com.example.attendance.security;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * ログイン中のユーザー（リクエストごとに {@link CurrentUserResolver} で解決する）.
+ */
+@Value
+public class CurrentUser implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ROLE_ADMIN = "ADMIN";
+    public static final String ROLE_USER = "USER";
+
+    /** 解決したユーザーを保持するリクエスト属性名. */
+    public static final String REQUEST_ATTRIBUTE = "currentUser";
+
+    /** ログインしていない場合のユーザー（プロトタイプ用: 管理者）. */
+    public static final CurrentUser DEFAULT = new CurrentUser(ROLE_ADMIN, null);
+
+    String role;
+    /** 従業員ID（管理者の場合は null）. */
+    String employeeId;
+
+    public boolean isAdmin() {
+        return ROLE_ADMIN.equals(role);
+    }
+
+    /**
+     * 監査ログの変更者として記録する値.
+     */
+    public String auditName() {
+        return employeeId != null ? employeeId : role;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.attendance.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * リクエストごとにログイン中のユーザーを1回だけ解決し、リクエスト属性
+ * （{@link CurrentUser#REQUEST_ATTRIBUTE}）に設定する.
+ *
+ * <p>コントローラーは {@code @RequestAttribute} で、監査ログはリクエスト属性から参照する。
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserInterceptor implements HandlerInterceptor {
+
+    private final CurrentUserResolver currentUserResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        if (request.getAttribute(CurrentUser.REQUEST_ATTRIBUTE) == null) {
+            request.setAttribute(CurrentUser.REQUEST_ATTRIBUTE,
+                    currentUserResolver.resolve(request, response));
+        }
+        return true;
+    }
+}
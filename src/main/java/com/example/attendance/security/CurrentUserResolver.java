@@ -0,0 +1,24 @@
+package com.example.attendance.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * リクエストからログイン中のユーザーを解決する.
+ *
+ * <p>実装は {@code app.session.mode} で切り替える（server: HttpSession、cookie: 署名付き Cookie）。
+ */
+public interface CurrentUserResolver {
+
+    /**
+     * ログイン中のユーザーを返す。ログインしていない場合は {@link CurrentUser#DEFAULT}.
+     *
+     * @param response 有効期限の延長等で Cookie を再発行する場合に使う
+     */
+    CurrentUser resolve(HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * ログイン中のユーザーを切り替える.
+     */
+    void store(CurrentUser user, HttpServletRequest request, HttpServletResponse response);
+}
@@ -0,0 +1,32 @@
+package com.example.attendance.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * HttpSession にユーザーを保持する（単一インスタンス構成用）.
+ *
+ * <p>セッションはサーバーのメモリにあるため、複数インスタンス構成ではスティッキーセッションが必要になる。
+ * 複数インスタンス構成では {@link SignedCookieCurrentUserResolver} に切り替える。
+ */
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "server", matchIfMissing = true)
+public class SessionCurrentUserResolver implements CurrentUserResolver {
+
+    private static final String SESSION_USER_KEY = "currentUser";
+
+    @Override
+    public CurrentUser resolve(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        Object user = session != null ? session.getAttribute(SESSION_USER_KEY) : null;
+        return user instanceof CurrentUser currentUser ? currentUser : CurrentUser.DEFAULT;
+    }
+
+    @Override
+    public void store(CurrentUser user, HttpServletRequest request, HttpServletResponse response) {
+        request.getSession().setAttribute(SESSION_USER_KEY, user);
+    }
+}
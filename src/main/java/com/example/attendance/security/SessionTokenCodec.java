@@ -0,0 +1,133 @@
+package com.example.attendance.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 署名付きセッショントークンの生成・検証（HMAC-SHA256）.
+ *
+ * <p>形式は {@code Base64URL(本文) + "." + Base64URL(HMAC)}。本文は
+ * {@code 版|ロール|従業員ID|有効期限（エポック秒）} で、署名の検証だけで完結する（サーバー側の参照なし）。
+ * 署名は本文を復号する前に Base64 の文字列のまま検証し、比較は一定時間で行う。
+ *
+ * <p>鍵を設定済みの {@link Mac} を複製して使うため、スレッドセーフで、スレッドごとの状態を持たない。
+ */
+public final class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '|';
+    /** 鍵の最小長（バイト）. */
+    public static final int MIN_KEY_LENGTH = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    /**
+     * @throws IllegalArgumentException 鍵が {@value #MIN_KEY_LENGTH} バイト未満の場合
+     */
+    public SessionTokenCodec(byte[] key) {
+        if (key.length < MIN_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Session key must be at least " + MIN_KEY_LENGTH + " bytes");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    /**
+     * ユーザーと有効期限からトークンを生成する.
+     */
+    public String encode(CurrentUser user, long expiresAtEpochSecond) {
+        String body = VERSION + SEPARATOR + user.getRole() + SEPARATOR
+                + (user.getEmployeeId() != null ? user.getEmployeeId() : "") + SEPARATOR
+                + expiresAtEpochSecond;
+        return sign(body);
+    }
+
+    /**
+     * トークンを検証する.
+     *
+     * @return 署名・形式が正しく有効期限内の場合はその内容、それ以外は null
+     */
+    public Token decode(String token, long nowEpochSecond) {
+        String body = verify(token);
+        if (body == null) {
+            return null;
+        }
+        String[] fields = body.split("\\|", -1);
+        if (fields.length != 4 || !VERSION.equals(fields[0]) || fields[1].isEmpty()) {
+            return null;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(fields[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (expiresAt <= nowEpochSecond) {
+            return null;
+        }
+        return new Token(new CurrentUser(fields[1], fields[2].isEmpty() ? null : fields[2]),
+                expiresAt);
+    }
+
+    /**
+     * 任意の文字列に署名する.
+     */
+    public String sign(String body) {
+        String encodedBody = ENCODER.encodeToString(body.getBytes(StandardCharsets.UTF_8));
+        return encodedBody + '.' + ENCODER.encodeToString(mac(encodedBody));
+    }
+
+    /**
+     * {@link #sign} で署名した文字列を検証する.
+     *
+     * @return 署名が正しい場合は元の文字列、それ以外は null
+     */
+    public String verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String encodedBody = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac(encodedBody))) {
+                return null;
+            }
+            return new String(DECODER.decode(encodedBody), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String encodedBody) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 implementation is not cloneable", e);
+        }
+        return mac.doFinal(encodedBody.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 検証済みのトークンの内容.
+     */
+    public record Token(CurrentUser user, long expiresAtEpochSecond) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.attendance.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 署名付き Cookie にユーザーを保持する（複数インスタンス構成用）.
+ *
+ * <p>ユーザーと有効期限を {@link SessionTokenCodec} で署名した Cookie に入れ、リクエストごとに
+ * 署名を検証する。サーバー側に状態を持たないため、ロードバランサーはどのインスタンスに振り分けてもよい。
+ * 有効期限の残りが半分を切ったリクエストで Cookie を再発行する（最終アクセスから {@code ttl} で失効）。
+ */
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "cookie")
+public class SignedCookieCurrentUserResolver implements CurrentUserResolver {
+
+    private final SessionTokenCodec sessionTokenCodec;
+    private final String cookieName;
+    private final long ttlSeconds;
+    private final boolean secure;
+
+    public SignedCookieCurrentUserResolver(
+            SessionTokenCodec sessionTokenCodec,
+            @Value("${app.session.cookie-name:KINTAI_SESSION}") String cookieName,
+            @Value("${app.session.ttl:8h}") Duration ttl,
+            @Value("${app.session.cookie-secure:false}") boolean secure) {
+        this.sessionTokenCodec = sessionTokenCodec;
+        this.cookieName = cookieName;
+        this.ttlSeconds = ttl.toSeconds();
+        this.secure = secure;
+    }
+
+    @Override
+    public CurrentUser resolve(HttpServletRequest request, HttpServletResponse response) {
+        String value = cookieValue(request);
+        if (value == null) {
+            return CurrentUser.DEFAULT;
+        }
+        long now = System.currentTimeMillis() / 1000;
+        SessionTokenCodec.Token token = sessionTokenCodec.decode(value, now);
+        if (token == null) {
+            // 改ざん・期限切れの Cookie は削除する
+            writeCookie(response, "", 0);
+            return CurrentUser.DEFAULT;
+        }
+        if (token.expiresAtEpochSecond() - now < ttlSeconds / 2) {
+            writeCookie(response, sessionTokenCodec.encode(token.user(), now + ttlSeconds),
+                    ttlSeconds);
+        }
+        return token.user();
+    }
+
+    @Override
+    public void store(CurrentUser user, HttpServletRequest request, HttpServletResponse response) {
+        long now = System.currentTimeMillis() / 1000;
+        writeCookie(response, sessionTokenCodec.encode(user, now + ttlSeconds), ttlSeconds);
+    }
+
+    private String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .maxAge(maxAgeSeconds)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.attendance.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.FlashMapManager;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 署名付き Cookie によるセッションレス構成（{@code app.session.mode=cookie}）.
+ *
+ * <p>ユーザーとフラッシュメッセージ（リダイレクト後のメッセージ）をどちらも署名付き Cookie で運び、
+ * HttpSession を作らない。どのインスタンスでも検証できるよう、全インスタンスで同じ鍵
+ * （{@code app.session.secret}）を設定すること。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "cookie")
+public class SignedCookieSessionConfig {
+
+    @Bean
+    public SessionTokenCodec sessionTokenCodec(@Value("${app.session.secret:}") String secret) {
+        if (secret.isBlank()) {
+            byte[] key = new byte[SessionTokenCodec.MIN_KEY_LENGTH];
+            new SecureRandom().nextBytes(key);
+            log.warn("app.session.secret is not set, using a random key: sessions will not be "
+                    + "valid across restarts or other instances");
+            return new SessionTokenCodec(key);
+        }
+        return new SessionTokenCodec(Base64.getDecoder().decode(secret.trim()));
+    }
+
+    @Bean(name = DispatcherServlet.FLASH_MAP_MANAGER_BEAN_NAME)
+    public FlashMapManager flashMapManager(SessionTokenCodec sessionTokenCodec,
+            @Value("${app.session.cookie-secure:false}") boolean secure) {
+        return new CookieFlashMapManager(sessionTokenCodec, secure);
+    }
+}
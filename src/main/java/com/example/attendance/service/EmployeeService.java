@@ -0,0 +1,128 @@
+package com.example.attendance.service;
+
+import com.example.attendance.dto.EmployeeDto;
+import com.example.attendance.dto.EmployeeFilter;
+import com.example.attendance.dto.PageDto;
+import com.example.attendance.util.KeysetPaging;
+import com.example.attendance.util.PageCursor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * 従業員サービス.
+ *
+ * <p>プロトタイプではモックデータを保持し、従業員管理画面とバッチから共通で参照する。
+ * 一覧画面のページ送り用に、従業員番号順の索引を保持する（{@link #findPage}）。
+ */
+@Service
+public class EmployeeService {
+
+    private static final String STATUS_ACTIVE = "ACTIVE";
+
+    private final List<EmployeeDto> employees = createMockEmployees();
+    /** 従業員番号 → 従業員. */
+    private final NavigableMap<String, EmployeeDto> byEmployeeNumber = indexByNumber(employees);
+
+    public List<EmployeeDto> findAll() {
+        return employees;
+    }
+
+    public Optional<EmployeeDto> findById(String id) {
+        return employees.stream()
+                .filter(e -> e.getId().equals(id))
+                .findFirst();
+    }
+
+    /**
+     * 従業員を従業員番号順に1ページ分取得する（キーセット・ページネーション）.
+     *
+     * @param after  このカーソルの次から取得する
+     * @param before このカーソルの前までを取得する（after より優先）
+     * @throws IllegalArgumentException カーソルが不正な場合
+     */
+    public PageDto<EmployeeDto> findPage(EmployeeFilter filter, String after, String before,
+            int size) {
+        return KeysetPaging.page(byEmployeeNumber, matcherOf(filter), numberOf(after),
+                numberOf(before), size, PageCursor::encode);
+    }
+
+    /**
+     * 在籍中（ACTIVE）の従業員を取得.
+     */
+    public List<EmployeeDto> findActive() {
+        return employees.stream()
+                .filter(e -> STATUS_ACTIVE.equals(e.getStatus()))
+                .toList();
+    }
+
+    private static Predicate<EmployeeDto> matcherOf(EmployeeFilter filter) {
+        String keyword = filter.getKeyword() != null && !filter.getKeyword().isBlank()
+                ? filter.getKeyword().strip()
+                : null;
+        String status = filter.getStatus() != null && !filter.getStatus().isEmpty()
+                ? filter.getStatus()
+                : null;
+        return employee -> (status == null || status.equals(employee.getStatus()))
+                && (keyword == null
+                        || employee.getEmployeeNumber().contains(keyword)
+                        || employee.getName().contains(keyword));
+    }
+
+    private static String numberOf(String cursor) {
+        return cursor != null && !cursor.isEmpty() ? PageCursor.decode(cursor, 1)[0] : null;
+    }
+
+    private static NavigableMap<String, EmployeeDto> indexByNumber(List<EmployeeDto> employees) {
+        NavigableMap<String, EmployeeDto> index = new TreeMap<>();
+        employees.forEach(employee -> index.put(employee.getEmployeeNumber(), employee));
+        return index;
+    }
+
+    private List<EmployeeDto> createMockEmployees() {
+        return Arrays.asList(
+                EmployeeDto.builder()
+                        .id("emp-001")
+                        .employeeNumber("EMP001")
+                        .name("田中 太郎")
+                        .email("tanaka@example.com")
+                        .status("ACTIVE")
+                        .createdAt(LocalDateTime.now().minusMonths(6))
+                        .updatedAt(LocalDateTime.now().minusDays(5))
+                        .build(),
+                EmployeeDto.builder()
+                        .id("emp-002")
+                        .employeeNumber("EMP002")
+                        .name("佐藤 花子")
+                        .email("sato@example.com")
+                        .status("ACTIVE")
+                        .createdAt(LocalDateTime.now().minusMonths(3))
+                        .updatedAt(LocalDateTime.now().minusDays(2))
+                        .build(),
+                EmployeeDto.builder()
+                        .id("emp-003")
+                        .employeeNumber("EMP003")
+                        .name("鈴木 一郎")
+                        .email("suzuki@example.com")
+                        .status("ACTIVE")
+                        .createdAt(LocalDateTime.now().minusMonths(1))
+                        .updatedAt(LocalDateTime.now().minusDays(1))
+                        .build(),
+                EmployeeDto.builder()
+                        .id("emp-004")
+                        .employeeNumber("EMP004")
+                        .name("高橋 美咲")
+                        .email("takahashi@example.com")
+                        .status("INACTIVE")
+                        .createdAt(LocalDateTime.now().minusMonths(12))
+                        .updatedAt(LocalDateTime.now().minusMonths(2))
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.attendance.service;
+
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.audit.AuditOperation;
+import com.example.attendance.domain.HourlyWage;
+import com.example.attendance.domain.HourlyWageIndex;
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.StudentLevel;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.dto.HourlyWageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 時給マスタサービス.
+ *
+ * <p>時給と {@link HourlyWageIndex} は {@link MasterDataService} のスナップショットに保持し、
+ * 保存時にインデックスを作り直して差し替える。給与計算は計算開始時に取得したインデックスを
+ * 使い続けるため、計算中に単価が混在することはない。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HourlyWageService {
+
+    private final AuditLog auditLog;
+    private final MasterDataService masterDataService;
+    /** 保存の排他（監査ログの記録で待機することがあるため、仮想スレッドを固定しない Lock を使う）. */
+    private final ReentrantLock saveLock = new ReentrantLock();
+
+    public List<HourlyWage> findAll() {
+        return masterDataService.current().getHourlyWages();
+    }
+
+    public Optional<HourlyWage> findById(int id) {
+        return masterDataService.current().findHourlyWage(id);
+    }
+
+    /**
+     * 現在の単価インデックスを取得.
+     */
+    public HourlyWageIndex currentIndex() {
+        return masterDataService.current().getHourlyWageIndex();
+    }
+
+    /**
+     * 時給を登録・更新し、単価インデックスを再構築する.
+     *
+     * <p>勤務形態名・学校種別名は保存時点のマスタから設定する。
+     *
+     * @throws IllegalArgumentException 入力不備、または適用期間が既存の単価と重複する場合
+     */
+    public HourlyWage save(HourlyWageDto form) {
+        saveLock.lock();
+        try {
+            if (form.getWorkTypeId() == null || form.getWage() == null || form.getWage() <= 0) {
+                throw new IllegalArgumentException("勤務形態と単価は必須です");
+            }
+            // 他のマスタの保存・他インスタンスからの再読み込みと競合して差し替えがやり直された場合は、
+            // 最後に差し替えた内容（最新のスナップショットから組み立て直したもの）を記録する
+            AtomicReference<Saved> saved = new AtomicReference<>();
+            masterDataService.update(current -> {
+                Saved applied = apply(current, form);
+                saved.set(applied);
+                return applied.snapshot();
+            });
+            Saved result = saved.get();
+            HourlyWage wage = result.wage();
+
+            auditLog.record("hourly_wages", wage.getId(),
+                    result.previous() != null ? AuditOperation.UPDATE : AuditOperation.INSERT,
+                    result.previous(), wage);
+            for (Map.Entry<HourlyWage, HourlyWage> change : result.superseded()) {
+                auditLog.record("hourly_wages", change.getKey().getId(), AuditOperation.UPDATE,
+                        change.getKey(), change.getValue());
+            }
+            log.info("Hourly wage saved: id={}, indexedWages={}", wage.getId(),
+                    result.snapshot().getHourlyWageIndex().size());
+            return wage;
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    /**
+     * スナップショットに時給を反映する（採番・名称・旧単価の終了も {@code current} を基準に行う）.
+     *
+     * <p>構築に失敗した場合は例外を投げ、現在のマスタ・インデックスをそのまま維持する。
+     */
+    private static Saved apply(MasterDataSnapshot current, HourlyWageDto form) {
+        List<HourlyWage> hourlyWages = current.getHourlyWages();
+        HourlyWage wage = HourlyWage.builder()
+                .id(form.getId() != null ? form.getId() : nextId(hourlyWages))
+                .workTypeId(form.getWorkTypeId())
+                .workTypeName(current.findWorkType(form.getWorkTypeId())
+                        .map(WorkType::getName)
+                        .orElse(null))
+                .studentLevelId(form.getStudentLevelId())
+                .studentLevelName(form.getStudentLevelId() != null
+                        ? current.findStudentLevel(form.getStudentLevelId())
+                                .map(StudentLevel::getName)
+                                .orElse(null)
+                        : null)
+                .wage(form.getWage())
+                .effectiveFrom(form.getEffectiveFrom() != null
+                        ? form.getEffectiveFrom()
+                        : LocalDate.now())
+                .effectiveTo(form.getEffectiveTo())
+                .build();
+
+        HourlyWage previous = current.findHourlyWage(wage.getId()).orElse(null);
+        List<HourlyWage> updated = new ArrayList<>(hourlyWages);
+        updated.removeIf(w -> w.getId().equals(wage.getId()));
+        // 単価改定: 同じ組み合わせの無期限の旧単価は、新単価の適用開始日の前日で終了させる
+        List<Map.Entry<HourlyWage, HourlyWage>> superseded = new ArrayList<>();
+        updated.replaceAll(w -> {
+            if (!isSupersededBy(w, wage)) {
+                return w;
+            }
+            HourlyWage ended = w.toBuilder()
+                    .effectiveTo(wage.getEffectiveFrom().minusDays(1))
+                    .build();
+            superseded.add(Map.entry(w, ended));
+            return ended;
+        });
+        updated.add(wage);
+
+        return new Saved(previous, wage, superseded,
+                current.withHourlyWages(updated, HourlyWageIndex.build(updated)));
+    }
+
+    private static boolean isSupersededBy(HourlyWage existing, HourlyWage revision) {
+        return existing.getWorkTypeId() == revision.getWorkTypeId()
+                && Objects.equals(existing.getStudentLevelId(), revision.getStudentLevelId())
+                && existing.getEffectiveTo() == null
+                && existing.getEffectiveFrom().isBefore(revision.getEffectiveFrom());
+    }
+
+    private static int nextId(List<HourlyWage> hourlyWages) {
+        return hourlyWages.stream().mapToInt(HourlyWage::getId).max().orElse(0) + 1;
+    }
+
+    /**
+     * 保存1回分の結果（superseded は終了させた旧単価の変更前・変更後）.
+     */
+    private record Saved(HourlyWage previous, HourlyWage wage,
+            List<Map.Entry<HourlyWage, HourlyWage>> superseded, MasterDataSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.attendance.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * プロセス内のマスタデータ変更通知（単一インスタンス構成用）.
+ *
+ * <p>通知は呼び出し元のスレッドでリスナーに渡す。複数インスタンス構成では、インスタンス間で
+ * 通知を配信する {@link MasterDataChangeBus} の実装（Redis の Pub/Sub 等）に差し替える。
+ */
+@Component
+@ConditionalOnProperty(name = "app.master-data.change-bus", havingValue = "local",
+        matchIfMissing = true)
+public class LocalMasterDataChangeBus implements MasterDataChangeBus {
+
+    private final List<Consumer<Change>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Change change) {
+        for (Consumer<Change> listener : listeners) {
+            listener.accept(change);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Change> listener) {
+        listeners.add(listener);
+    }
+}
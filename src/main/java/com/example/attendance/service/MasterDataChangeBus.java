@@ -0,0 +1,32 @@
+package com.example.attendance.service;
+
+import java.util.function.Consumer;
+
+/**
+ * マスタデータの変更通知.
+ *
+ * <p>マスタを保存したインスタンスが新しいスナップショットのバージョンを通知し、他のインスタンスは
+ * 通知を受けるたびにマスタを読み込み直す。通知はバージョン番号だけで、マスタの内容は含まない
+ * （内容は共有のデータベースから読む）。
+ */
+public interface MasterDataChangeBus {
+
+    /**
+     * 変更を通知する.
+     */
+    void publish(Change change);
+
+    /**
+     * 通知を受け取るリスナーを登録する（自分が通知した変更も受け取る）.
+     */
+    void subscribe(Consumer<Change> listener);
+
+    /**
+     * マスタの変更.
+     *
+     * @param instanceId 変更したインスタンス
+     * @param version    変更後のスナップショットのバージョン
+     */
+    record Change(String instanceId, long version) {
+    }
+}
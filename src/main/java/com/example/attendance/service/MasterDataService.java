@@ -0,0 +1,206 @@
+package com.example.attendance.service;
+
+import com.example.attendance.domain.HourlyWage;
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.RateType;
+import com.example.attendance.domain.Student;
+import com.example.attendance.domain.StudentLevel;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.metrics.Counter;
+import com.example.attendance.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * マスタデータのスナップショットの保持と差し替え.
+ *
+ * <p>画面・給与計算・同期ジョブは {@link #current()} でロックを取らずにスナップショットを取得する。
+ * マスタの保存は各マスタのサービスが {@link #update} で新しいスナップショットに差し替え（CAS）、
+ * 差し替え後のバージョンを {@link MasterDataChangeBus} で通知する。
+ *
+ * <p>他のインスタンスからの通知を受けた場合は、バージョンによらず全マスタを読み込み直す。
+ * 複数のインスタンスで同時に保存すると同じバージョンが通知され、また自分の保存でバージョンが
+ * 進んだ後に他のインスタンスの古いバージョンの通知が届くこともあり、どちらの場合も自分の
+ * スナップショットには相手の変更が含まれないため。読み込み直したスナップショットのバージョンは
+ * 自分と通知のうち大きい方より1大きくする（論理時計）。同じインスタンスでは内容が変わるたびに
+ * バージョンが増えるため、バージョンをキーにしたキャッシュが古い内容を返すことはない。
+ */
+@Slf4j
+@Service
+public class MasterDataService {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicReference<MasterDataSnapshot> current;
+    private final MasterDataChangeBus changeBus;
+    private final Counter swaps;
+    private final Counter reloads;
+    private final List<Consumer<MasterDataSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    public MasterDataService(MasterDataChangeBus changeBus, MetricsRegistry metricsRegistry) {
+        this.changeBus = changeBus;
+        this.current = new AtomicReference<>(load(1));
+        this.swaps = metricsRegistry.counter("master_data_swaps_total",
+                "Master data snapshots replaced by saves on this instance");
+        this.reloads = metricsRegistry.counter("master_data_reloads_total",
+                "Master data reloads triggered by changes on other instances");
+        metricsRegistry.gauge("master_data_version", "Current master data snapshot version",
+                () -> current.get().getVersion());
+        changeBus.subscribe(this::onChange);
+    }
+
+    /**
+     * 現在のスナップショット.
+     */
+    public MasterDataSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * スナップショットの差し替え（保存・他のインスタンスでの変更の読み込み）の通知先を登録する.
+     *
+     * <p>通知は差し替えたスレッドで同期的に行われるため、処理は軽量に保つこと。
+     */
+    public void subscribe(Consumer<MasterDataSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * スナップショットを差し替えて変更を通知する.
+     *
+     * <p>他のマスタの保存と競合した場合は最新のスナップショットに対して {@code change} をやり直すため、
+     * {@code change} は副作用を持たず、自分のマスタ以外の部分を変えないこと。保存内容は引数の
+     * スナップショットから組み立て、結果を呼び出し元に渡す場合は呼び出しのたびに上書きすること。
+     *
+     * @return 差し替え後のスナップショット
+     */
+    public MasterDataSnapshot update(UnaryOperator<MasterDataSnapshot> change) {
+        MasterDataSnapshot updated = current.updateAndGet(change);
+        swaps.increment();
+        listeners.forEach(listener -> listener.accept(updated));
+        changeBus.publish(new MasterDataChangeBus.Change(instanceId, updated.getVersion()));
+        return updated;
+    }
+
+    private void onChange(MasterDataChangeBus.Change change) {
+        if (instanceId.equals(change.instanceId())) {
+            return;
+        }
+        MasterDataSnapshot loaded = load(change.version());
+        MasterDataSnapshot reloaded = current.updateAndGet(snapshot ->
+                loaded.withVersion(Math.max(snapshot.getVersion(), change.version()) + 1));
+        reloads.increment();
+        listeners.forEach(listener -> listener.accept(reloaded));
+        log.info("Master data reloaded: version={}, changedBy={}, changedVersion={}",
+                reloaded.getVersion(), change.instanceId(), change.version());
+    }
+
+    /**
+     * 全マスタを読み込む.
+     *
+     * <p>プロトタイプではモックデータを返す。データベース導入後はここで全マスタを読み込む。
+     */
+    private static MasterDataSnapshot load(long version) {
+        List<WorkType> workTypes = createMockWorkTypes();
+        List<StudentLevel> studentLevels = createMockStudentLevels();
+        return MasterDataSnapshot.build(version, workTypes, studentLevels,
+                createMockWages(workTypes, studentLevels), createMockStudents());
+    }
+
+    private static List<WorkType> createMockWorkTypes() {
+        return List.of(
+                mockWorkType(1, "個別指導", "1対1または1対2の個別指導", "個別", true),
+                mockWorkType(2, "グループ授業", "3名以上のグループ授業", "集団", true),
+                mockWorkType(3, "自習室", "自習室監督業務", "自習", true),
+                mockWorkType(4, "事務作業", "教材準備・事務処理", "事務", true),
+                mockWorkType(5, "研修", "社内研修・勉強会", "研修", false));
+    }
+
+    private static WorkType mockWorkType(int id, String name, String description,
+            String calendarKeyword, boolean active) {
+        return WorkType.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .calendarKeyword(calendarKeyword)
+                .payrollTarget(true)
+                .rateType(RateType.STUDENT_LEVEL_BASED)
+                .active(active)
+                .build();
+    }
+
+    private static List<StudentLevel> createMockStudentLevels() {
+        return List.of(
+                StudentLevel.builder().id(1).name("小学生").build(),
+                StudentLevel.builder().id(2).name("中学生").build(),
+                StudentLevel.builder().id(3).name("高校生").build());
+    }
+
+    private static List<HourlyWage> createMockWages(List<WorkType> workTypes,
+            List<StudentLevel> studentLevels) {
+        Map<Integer, String> workTypeNames = workTypes.stream()
+                .collect(Collectors.toMap(WorkType::getId, WorkType::getName));
+        Map<Integer, String> studentLevelNames = studentLevels.stream()
+                .collect(Collectors.toMap(StudentLevel::getId, StudentLevel::getName));
+        Function<HourlyWage, HourlyWage> named = wage -> wage.toBuilder()
+                .workTypeName(workTypeNames.get(wage.getWorkTypeId()))
+                .studentLevelName(wage.getStudentLevelId() != null
+                        ? studentLevelNames.get(wage.getStudentLevelId())
+                        : null)
+                .build();
+        return List.of(
+                mockWage(1, 1, 2, 2800, LocalDate.of(2022, 4, 1), LocalDate.of(2023, 3, 31)),
+                mockWage(2, 1, 2, 3000, LocalDate.of(2023, 4, 1), null),
+                mockWage(3, 1, 3, 3500, LocalDate.of(2023, 4, 1), null),
+                mockWage(4, 3, null, 1200, LocalDate.of(2023, 4, 1), null),
+                mockWage(5, 2, 2, 2500, LocalDate.of(2023, 4, 1), null),
+                mockWage(6, 2, 3, 2800, LocalDate.of(2023, 4, 1), null))
+                .stream()
+                .map(named)
+                .toList();
+    }
+
+    private static HourlyWage mockWage(int id, int workTypeId, Integer studentLevelId, int wage,
+            LocalDate effectiveFrom, LocalDate effectiveTo) {
+        return HourlyWage.builder()
+                .id(id)
+                .workTypeId(workTypeId)
+                .studentLevelId(studentLevelId)
+                .wage(wage)
+                .effectiveFrom(effectiveFrom)
+                .effectiveTo(effectiveTo)
+                .build();
+    }
+
+    private static List<Student> createMockStudents() {
+        return List.of(
+                mockStudent("stu-001", "山田 花子", "中学3年", 2, "第一中学校", true),
+                mockStudent("stu-002", "佐藤 健太", "高校2年", 3, "県立高校", true),
+                mockStudent("stu-003", "鈴木 美咲", "中学1年", 2, "第二中学校", true),
+                mockStudent("stu-004", "高橋 翔太", "高校3年", 3, "私立高校", false));
+    }
+
+    private static Student mockStudent(String id, String name, String grade,
+            int studentLevelId, String school, boolean active) {
+        return Student.builder()
+                .id(id)
+                .name(name)
+                .grade(grade)
+                .studentLevelId(studentLevelId)
+                .school(school)
+                .active(active)
+                .updatedAt(LocalDateTime.now().minusDays(7))
+                .build();
+    }
+}
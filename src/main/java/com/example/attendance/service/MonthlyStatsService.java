@@ -0,0 +1,142 @@
+package com.example.attendance.service;
+
+import com.example.attendance.domain.WorkTime;
+import com.example.attendance.dto.DashboardDto;
+import com.example.attendance.dto.WorkRecordDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ダッシュボード用の月次統計サービス.
+ *
+ * <p>従業員×月、および全社×月の集計値を保持し、勤務記録の登録・編集・同期のたびに
+ * その1件分の差分（旧値を減算・新値を加算）だけを O(1) で反映する。ダッシュボードは
+ * 集計済みの値を読むだけなので、勤務記録の件数に関係なく一定時間で表示できる。
+ * 概算支給額は割増を含まない基本給（勤務時間×適用時給）とする。
+ */
+@Service
+@RequiredArgsConstructor
+public class MonthlyStatsService implements WorkRecordService.Listener {
+
+    private final WorkRecordService workRecordService;
+    private final HourlyWageService hourlyWageService;
+    private final PayrollCalculationService payrollCalculationService;
+
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final Map<EmployeeMonth, MonthTotals> employeeTotals = new HashMap<>();
+    private final Map<YearMonth, MonthTotals> organizationTotals = new HashMap<>();
+
+    @PostConstruct
+    void initialize() {
+        workRecordService.subscribe(this);
+    }
+
+    @Override
+    public synchronized void onSaved(WorkRecordDto previous, WorkRecordDto workRecord) {
+        // 旧値の寄与は保存時の時給で減算するため、previous ではなく保持している寄与を使う
+        Contribution replaced = contributions.remove(workRecord.getId());
+        if (replaced != null) {
+            apply(replaced, -1);
+        }
+        Contribution current = contributionOf(workRecord);
+        contributions.put(workRecord.getId(), current);
+        apply(current, 1);
+    }
+
+    /**
+     * 従業員個人の月次統計を取得.
+     */
+    public synchronized DashboardDto.MonthlyStats findEmployeeStats(String employeeId,
+            YearMonth month) {
+        return toMonthlyStats(employeeTotals.get(new EmployeeMonth(employeeId, month)), month);
+    }
+
+    /**
+     * 全従業員合計の月次統計を取得.
+     */
+    public synchronized DashboardDto.MonthlyStats findOrganizationStats(YearMonth month) {
+        return toMonthlyStats(organizationTotals.get(month), month);
+    }
+
+    private Contribution contributionOf(WorkRecordDto workRecord) {
+        int minutes = WorkTime.workMinutesOf(workRecord);
+        int hourlyWage = payrollCalculationService.resolveHourlyWage(workRecord,
+                hourlyWageService.currentIndex());
+        return new Contribution(workRecord.getEmployeeId(),
+                YearMonth.from(workRecord.getWorkDate()),
+                workRecord.getWorkDate().getDayOfMonth(),
+                minutes,
+                (long) minutes * hourlyWage);
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        MonthTotals employee = employeeTotals.computeIfAbsent(
+                new EmployeeMonth(contribution.employeeId(), contribution.month()),
+                key -> new MonthTotals());
+        int workDaysDelta = employee.add(contribution.dayOfMonth(),
+                sign * contribution.minutes(), sign * contribution.wageMinutes());
+        organizationTotals.computeIfAbsent(contribution.month(), key -> new MonthTotals())
+                .addTotals(sign * contribution.minutes(), sign * contribution.wageMinutes(),
+                        workDaysDelta);
+    }
+
+    private static DashboardDto.MonthlyStats toMonthlyStats(MonthTotals totals, YearMonth month) {
+        long minutes = totals != null ? totals.minutes : 0;
+        long wageMinutes = totals != null ? totals.wageMinutes : 0;
+        return DashboardDto.MonthlyStats.builder()
+                .totalWorkHours(WorkTime.toHours(minutes))
+                .totalWorkDays(totals != null ? totals.workDays : 0)
+                .estimatedPayment((double) WorkTime.divideRoundHalfUp(wageMinutes,
+                        WorkTime.MINUTES_PER_HOUR))
+                .month(month.getYear() + "年" + month.getMonthValue() + "月")
+                .build();
+    }
+
+    /**
+     * 勤務記録1件分の集計への寄与（編集時に旧値を減算するために保持する）.
+     */
+    private record Contribution(String employeeId, YearMonth month, int dayOfMonth, int minutes,
+            long wageMinutes) {
+    }
+
+    private record EmployeeMonth(String employeeId, YearMonth month) {
+    }
+
+    /**
+     * 1か月分の集計値.
+     */
+    private static final class MonthTotals {
+
+        private long minutes;
+        private long wageMinutes;
+        private int workDays;
+        /** 日ごとの勤務時間（分）。従業員単位の集計でのみ使い、勤務日数の増減判定に用いる. */
+        private int[] dayMinutes;
+
+        /**
+         * 日別の勤務時間を加減算し、勤務日数の増減（-1, 0, 1）を返す.
+         */
+        int add(int dayOfMonth, int minutesDelta, long wageMinutesDelta) {
+            if (dayMinutes == null) {
+                dayMinutes = new int[32];
+            }
+            int before = dayMinutes[dayOfMonth];
+            int after = before + minutesDelta;
+            dayMinutes[dayOfMonth] = after;
+            int workDaysDelta = Integer.signum(after) - Integer.signum(before);
+            addTotals(minutesDelta, wageMinutesDelta, workDaysDelta);
+            return workDaysDelta;
+        }
+
+        void addTotals(long minutesDelta, long wageMinutesDelta, int workDaysDelta) {
+            minutes += minutesDelta;
+            wageMinutes += wageMinutesDelta;
+            workDays += workDaysDelta;
+        }
+    }
+}
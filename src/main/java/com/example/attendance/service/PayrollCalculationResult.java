@@ -0,0 +1,25 @@
+package com.example.attendance.service;
+
+import com.example.attendance.dto.PayrollDto;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 月次給与計算の実行結果.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PayrollCalculationResult {
+    YearMonth targetMonth;
+    List<PayrollDto> payrolls;
+    int employeeCount;
+    int recordCount;
+    int parallelism;
+    long elapsedMillis;
+    double employeesPerSecond;
+    LocalDateTime calculatedAt;
+}
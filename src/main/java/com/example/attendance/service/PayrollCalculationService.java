@@ -0,0 +1,497 @@
+package com.example.attendance.service;
+
+import com.example.attendance.archive.PayrollArchive;
+import com.example.attendance.domain.HourlyWageIndex;
+import com.example.attendance.domain.PayrollAccumulator;
+import com.example.attendance.domain.WorkTime;
+import com.example.attendance.dto.PayrollDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.metrics.JobMetrics;
+import com.example.attendance.metrics.MetricsRegistry;
+import com.example.attendance.metrics.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * 月次給与計算サービス.
+ *
+ * <p>対象月の勤務記録を従業員単位に分割し、専用の {@link ForkJoinPool} 上で並列に計算する。
+ * 計算結果は対象月ごとに保持し、給与一覧・明細画面から参照する。締め済みの古い月は
+ * {@link PayrollArchive} に移して保持対象から外し、参照時はアーカイブから読み出す。
+ *
+ * <p>計算後に勤務記録が登録・編集された場合は、その（従業員, 月）を未反映として記録し、
+ * {@link #recalculateStale} で該当する従業員の給与だけを再計算して計算結果に反映する。
+ */
+@Slf4j
+@Service
+public class PayrollCalculationService implements WorkRecordService.Listener {
+
+    /** メトリクス名の接頭辞. */
+    public static final String METRICS_NAME = "payroll_calculation";
+
+    /** 1タスクで逐次計算する従業員数の上限（これを超えると分割する）. */
+    private static final int EMPLOYEES_PER_TASK = 32;
+
+    private final WorkRecordService workRecordService;
+    private final HourlyWageService hourlyWageService;
+    private final PayrollArchive payrollArchive;
+    private final ForkJoinPool payrollPool;
+    private final JobMetrics jobMetrics;
+    private final int defaultHourlyWage;
+    private final int regularDailyMinutes;
+    private final int overtimePremiumPercent;
+    private final int lateNightPremiumPercent;
+    private final int holidayPremiumPercent;
+    private final Timer staleRecalculationTimer;
+    private final Map<YearMonth, PayrollCalculationResult> results = new ConcurrentHashMap<>();
+    private volatile YearMonth latestMonth;
+    private final List<ResultListener> resultListeners = new CopyOnWriteArrayList<>();
+
+    /** 計算後に勤務記録が変更され、給与が未反映の従業員（月ごと）. */
+    private final Map<YearMonth, Set<String>> staleEmployees = new ConcurrentHashMap<>();
+    /** 全従業員分を計算中の月（計算中の変更も未反映として記録する）. */
+    private final Set<YearMonth> calculating = ConcurrentHashMap.newKeySet();
+
+    public PayrollCalculationService(
+            WorkRecordService workRecordService,
+            HourlyWageService hourlyWageService,
+            PayrollArchive payrollArchive,
+            MetricsRegistry metricsRegistry,
+            @Value("${app.payroll.parallelism:0}") int parallelism,
+            @Value("${app.payroll.default-hourly-wage:1500}") int defaultHourlyWage,
+            @Value("${app.payroll.regular-daily-minutes:480}") int regularDailyMinutes,
+            @Value("${app.payroll.overtime-premium-percent:125}") int overtimePremiumPercent,
+            @Value("${app.payroll.late-night-premium-percent:25}") int lateNightPremiumPercent,
+            @Value("${app.payroll.holiday-premium-percent:135}") int holidayPremiumPercent) {
+        this.workRecordService = workRecordService;
+        this.hourlyWageService = hourlyWageService;
+        this.payrollArchive = payrollArchive;
+        this.payrollPool = new ForkJoinPool(parallelism > 0
+                ? parallelism
+                : Runtime.getRuntime().availableProcessors());
+        this.jobMetrics = metricsRegistry.job(METRICS_NAME);
+        metricsRegistry.gauge("payroll_pool_active_threads",
+                "Active threads in the payroll calculation pool",
+                payrollPool::getActiveThreadCount);
+        metricsRegistry.gauge("payroll_pool_parallelism",
+                "Parallelism of the payroll calculation pool", payrollPool::getParallelism);
+        this.staleRecalculationTimer = metricsRegistry.timer("payroll_stale_recalculation_seconds",
+                "Duration of recalculating stale payrolls of one month");
+        metricsRegistry.gauge("payroll_stale_employees",
+                "Employee payrolls not yet reflecting work record changes",
+                () -> staleEmployees.values().stream().mapToInt(Set::size).sum());
+        this.defaultHourlyWage = defaultHourlyWage;
+        this.regularDailyMinutes = regularDailyMinutes;
+        this.overtimePremiumPercent = overtimePremiumPercent;
+        this.lateNightPremiumPercent = lateNightPremiumPercent;
+        this.holidayPremiumPercent = holidayPremiumPercent;
+    }
+
+    @PostConstruct
+    void initialize() {
+        workRecordService.subscribe(this);
+    }
+
+    /**
+     * 計算結果の差し替え（計算・再計算・アーカイブ後の保持対象からの除外）の通知先.
+     *
+     * <p>通知は差し替えたスレッドで同期的に行われるため、処理は軽量に保つこと。
+     */
+    public interface ResultListener {
+
+        void onResultChanged(YearMonth targetMonth);
+    }
+
+    public void subscribe(ResultListener listener) {
+        resultListeners.add(listener);
+    }
+
+    /**
+     * 対象月の全従業員の給与を計算する.
+     */
+    public PayrollCalculationResult calculate(YearMonth targetMonth) {
+        long startNanos = System.nanoTime();
+        calculating.add(targetMonth);
+        try {
+            PayrollCalculationResult result = calculate(targetMonth, startNanos);
+            jobMetrics.record(System.nanoTime() - startNanos, result.getEmployeeCount(), true);
+            return result;
+        } catch (RuntimeException e) {
+            jobMetrics.record(System.nanoTime() - startNanos, 0, false);
+            throw e;
+        } finally {
+            calculating.remove(targetMonth);
+        }
+    }
+
+    private PayrollCalculationResult calculate(YearMonth targetMonth, long startNanos) {
+        // 勤務記録を読む前に未反映の記録を消す（読んだ後の変更は改めて記録される）
+        staleEmployees.remove(targetMonth);
+        // 従業員ごとに開始日時順の勤務記録（リポジトリの配列の部分ビューで、コピーしない）
+        Map<String, List<WorkRecordDto>> recordsByEmployee =
+                workRecordService.findByMonthGroupedByEmployee(targetMonth);
+        int recordCount = 0;
+        for (List<WorkRecordDto> employeeRecords : recordsByEmployee.values()) {
+            recordCount += employeeRecords.size();
+        }
+
+        // 計算中にマスタが更新されても、1回の計算では同じ単価インデックスを使う
+        HourlyWageIndex wageIndex = hourlyWageService.currentIndex();
+        String[] employeeIds = recordsByEmployee.keySet().toArray(new String[0]);
+        PayrollDto[] payrolls = new PayrollDto[employeeIds.length];
+        payrollPool.invoke(new EmployeeRangeTask(targetMonth, wageIndex, employeeIds,
+                recordsByEmployee, payrolls, 0, employeeIds.length));
+
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1L);
+        double employeesPerSecond = employeeIds.length * 1_000_000_000.0 / elapsedNanos;
+
+        PayrollCalculationResult result = PayrollCalculationResult.builder()
+                .targetMonth(targetMonth)
+                .payrolls(Arrays.asList(payrolls))
+                .employeeCount(employeeIds.length)
+                .recordCount(recordCount)
+                .parallelism(payrollPool.getParallelism())
+                .elapsedMillis(Duration.ofNanos(elapsedNanos).toMillis())
+                .employeesPerSecond(employeesPerSecond)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+        results.put(targetMonth, result);
+        latestMonth = targetMonth;
+        notifyResultChanged(targetMonth);
+
+        log.info("Payroll calculated: targetMonth={}, employees={}, records={}, parallelism={}, "
+                        + "elapsedMs={}, employeesPerSecond={}",
+                targetMonth, result.getEmployeeCount(), result.getRecordCount(),
+                result.getParallelism(), result.getElapsedMillis(),
+                String.format("%.1f", employeesPerSecond));
+        return result;
+    }
+
+    /**
+     * 未反映の従業員の給与だけを再計算し、計算結果の該当従業員分を差し替える.
+     *
+     * <p>他の従業員の給与は計算結果のものをそのまま使う。再計算中に同じ月の計算結果が
+     * 差し替えられた場合（全従業員分の計算の完了等）は反映せず、未反映の記録を戻す。
+     *
+     * @return 再計算した従業員数（計算結果のない月・未反映の従業員がいない場合は 0）
+     */
+    public int recalculateStale(YearMonth targetMonth) {
+        PayrollCalculationResult current = results.get(targetMonth);
+        if (current == null) {
+            return 0;
+        }
+        Set<String> stale = staleEmployees.remove(targetMonth);
+        if (stale == null || stale.isEmpty()) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        HourlyWageIndex wageIndex = hourlyWageService.currentIndex();
+        PayrollAccumulator accumulator = newAccumulator();
+        // 計算結果は従業員ID順のため、二分探索で差し替え位置を求める
+        List<PayrollDto> payrolls = new ArrayList<>(current.getPayrolls());
+        int recordCount = current.getRecordCount();
+        for (String employeeId : new TreeSet<>(stale)) {
+            List<WorkRecordDto> records =
+                    workRecordService.findByEmployeeAndMonth(employeeId, targetMonth);
+            int index = indexOf(payrolls, employeeId);
+            if (index >= 0) {
+                recordCount -= payrolls.get(index).getWorkRecords().size();
+                if (records.isEmpty()) {
+                    payrolls.remove(index);
+                    continue;
+                }
+            } else if (records.isEmpty()) {
+                continue;
+            }
+            PayrollDto payroll = calculateEmployee(employeeId, records, targetMonth, wageIndex,
+                    accumulator);
+            recordCount += records.size();
+            if (index >= 0) {
+                payrolls.set(index, payroll);
+            } else {
+                payrolls.add(-index - 1, payroll);
+            }
+        }
+
+        PayrollCalculationResult updated = current.toBuilder()
+                .payrolls(payrolls)
+                .employeeCount(payrolls.size())
+                .recordCount(recordCount)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+        if (!results.replace(targetMonth, current, updated)) {
+            stale.forEach(employeeId -> markStale(targetMonth, employeeId));
+            log.info("Stale payroll recalculation superseded: targetMonth={}, employees={}",
+                    targetMonth, stale.size());
+            return 0;
+        }
+        notifyResultChanged(targetMonth);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        staleRecalculationTimer.record(elapsedNanos);
+        log.info("Stale payrolls recalculated: targetMonth={}, employees={}, elapsedMicros={}",
+                targetMonth, stale.size(), elapsedNanos / 1_000);
+        return stale.size();
+    }
+
+    /**
+     * 未反映の従業員がいる月（計算結果を保持している月のみ、昇順）.
+     */
+    public NavigableSet<YearMonth> findStaleMonths() {
+        NavigableSet<YearMonth> months = new TreeSet<>();
+        staleEmployees.forEach((month, employeeIds) -> {
+            if (!employeeIds.isEmpty() && results.containsKey(month)) {
+                months.add(month);
+            }
+        });
+        return months;
+    }
+
+    /**
+     * 対象月の未反映の従業員数.
+     */
+    public int countStaleEmployees(YearMonth targetMonth) {
+        Set<String> employeeIds = staleEmployees.get(targetMonth);
+        return employeeIds != null ? employeeIds.size() : 0;
+    }
+
+    /**
+     * 勤務記録の保存時に、変更前後の（従業員, 月）の給与を未反映として記録する.
+     *
+     * <p>計算結果がない（計算中でもない）月は、計算時に全件を読むため記録しない。
+     */
+    @Override
+    public void onSaved(WorkRecordDto previous, WorkRecordDto workRecord) {
+        if (previous != null) {
+            markStale(YearMonth.from(previous.getStartTime()), previous.getEmployeeId());
+        }
+        markStale(YearMonth.from(workRecord.getStartTime()), workRecord.getEmployeeId());
+    }
+
+    private void markStale(YearMonth month, String employeeId) {
+        if (!results.containsKey(month) && !calculating.contains(month)) {
+            return;
+        }
+        // compute で追加し、recalculateStale の remove と競合しても記録を失わない
+        staleEmployees.compute(month, (key, employeeIds) -> {
+            Set<String> target = employeeIds != null ? employeeIds : ConcurrentHashMap.newKeySet();
+            target.add(employeeId);
+            return target;
+        });
+    }
+
+    private static int indexOf(List<PayrollDto> payrolls, String employeeId) {
+        int low = 0;
+        int high = payrolls.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compared = payrolls.get(middle).getEmployeeId().compareTo(employeeId);
+            if (compared < 0) {
+                low = middle + 1;
+            } else if (compared > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public Optional<PayrollCalculationResult> findResult(YearMonth targetMonth) {
+        return Optional.ofNullable(results.get(targetMonth));
+    }
+
+    public Optional<PayrollCalculationResult> findLatestResult() {
+        YearMonth month = latestMonth;
+        return month != null ? findResult(month) : Optional.empty();
+    }
+
+    /**
+     * 対象月の給与の版（条件付きGETの ETag 用。計算結果・アーカイブの中身は読まない）.
+     *
+     * @return 計算結果があればその計算日時、なければアーカイブの世代から作った値。
+     *         どちらにもない月は空
+     */
+    public Optional<String> findPayrollVersion(YearMonth month) {
+        PayrollCalculationResult result = results.get(month);
+        if (result != null) {
+            return Optional.of("calculated-" + result.getCalculatedAt());
+        }
+        int generation = payrollArchive.generationOf(month);
+        return generation > 0 ? Optional.of("archived-" + generation) : Optional.empty();
+    }
+
+    /**
+     * 計算結果を保持している月（昇順）.
+     */
+    public NavigableSet<YearMonth> findCalculatedMonths() {
+        return new TreeSet<>(results.keySet());
+    }
+
+    /**
+     * アーカイブ済みの計算結果を保持対象から外す。アーカイブ後に再計算されていた場合は外さない.
+     *
+     * @return 外した場合は true
+     */
+    public boolean evictArchived(PayrollCalculationResult archived) {
+        if (!results.remove(archived.getTargetMonth(), archived)) {
+            return false;
+        }
+        notifyResultChanged(archived.getTargetMonth());
+        return true;
+    }
+
+    private void notifyResultChanged(YearMonth targetMonth) {
+        resultListeners.forEach(listener -> listener.onResultChanged(targetMonth));
+    }
+
+    /**
+     * 従業員1人・1か月分の給与を、計算結果になければアーカイブから取得する.
+     */
+    public Optional<PayrollDto> findPayroll(String employeeId, YearMonth month) {
+        PayrollCalculationResult result = results.get(month);
+        if (result == null) {
+            return payrollArchive.find(employeeId, month);
+        }
+        return result.getPayrolls().stream()
+                .filter(p -> p.getEmployeeId().equals(employeeId))
+                .findFirst();
+    }
+
+    /**
+     * 1か月分の給与を、計算結果になければアーカイブから順に渡す.
+     *
+     * @return 計算結果・アーカイブのどちらにもない月の場合は false
+     */
+    public boolean forEachPayroll(YearMonth month, Consumer<PayrollDto> consumer) {
+        PayrollCalculationResult result = results.get(month);
+        if (result == null) {
+            return payrollArchive.forEach(month, consumer);
+        }
+        result.getPayrolls().forEach(consumer);
+        return true;
+    }
+
+    /**
+     * 集計用アキュムレータを生成（計算スレッドごとに1つを使い回す）.
+     */
+    public PayrollAccumulator newAccumulator() {
+        return new PayrollAccumulator(regularDailyMinutes, overtimePremiumPercent,
+                lateNightPremiumPercent, holidayPremiumPercent);
+    }
+
+    /**
+     * 1従業員分の給与を計算する.
+     *
+     * <p>集計は {@link PayrollAccumulator} 上で整数（分・円）のまま行い、DTOは最後に1回だけ生成する。
+     *
+     * @param records 開始日時順の勤務記録（{@link WorkRecordService} の取得結果の順。並び替えない）。
+     *                明細の勤務記録としてそのまま保持するため、変更しないこと
+     */
+    public PayrollDto calculateEmployee(String employeeId, List<WorkRecordDto> records,
+            YearMonth targetMonth, HourlyWageIndex wageIndex, PayrollAccumulator accumulator) {
+        accumulator.reset();
+        for (int i = 0; i < records.size(); i++) {
+            WorkRecordDto record = records.get(i);
+            accumulator.addRecord(record, resolveHourlyWage(record, wageIndex));
+        }
+
+        PayrollDto.PayrollSummary summary = accumulator.toSummary();
+        return PayrollDto.builder()
+                .employeeId(employeeId)
+                .employeeName(records.get(0).getEmployeeName())
+                .startDate(targetMonth.atDay(1))
+                .endDate(targetMonth.atEndOfMonth())
+                .totalWorkHours(WorkTime.toHours(accumulator.getTotalMinutes()))
+                .totalPayment(summary.getTotalPayment())
+                .workRecords(records)
+                .summary(summary)
+                .build();
+    }
+
+    /**
+     * 勤務記録の勤務日に有効な時給を取得。単価マスタに該当がなければデフォルト単価を適用する.
+     */
+    int resolveHourlyWage(WorkRecordDto record, HourlyWageIndex wageIndex) {
+        if (record.getWorkTypeId() == null) {
+            return defaultHourlyWage;
+        }
+        int studentLevelId = record.getStudentLevelId() != null
+                ? record.getStudentLevelId()
+                : HourlyWageIndex.NO_STUDENT_LEVEL;
+        int wage = wageIndex.findWage(record.getWorkTypeId(), studentLevelId,
+                record.getWorkDate().toEpochDay());
+        return wage != HourlyWageIndex.NOT_FOUND ? wage : defaultHourlyWage;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        payrollPool.shutdownNow();
+    }
+
+    /**
+     * 従業員インデックスの範囲を二分割しながら並列計算するタスク.
+     */
+    private final class EmployeeRangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final YearMonth targetMonth;
+        private final HourlyWageIndex wageIndex;
+        private final String[] employeeIds;
+        private final Map<String, List<WorkRecordDto>> recordsByEmployee;
+        private final PayrollDto[] payrolls;
+        private final int from;
+        private final int to;
+
+        EmployeeRangeTask(YearMonth targetMonth, HourlyWageIndex wageIndex, String[] employeeIds,
+                Map<String, List<WorkRecordDto>> recordsByEmployee, PayrollDto[] payrolls,
+                int from, int to) {
+            this.targetMonth = targetMonth;
+            this.wageIndex = wageIndex;
+            this.employeeIds = employeeIds;
+            this.recordsByEmployee = recordsByEmployee;
+            this.payrolls = payrolls;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= EMPLOYEES_PER_TASK) {
+                PayrollAccumulator accumulator = newAccumulator();
+                for (int i = from; i < to; i++) {
+                    String employeeId = employeeIds[i];
+                    payrolls[i] = calculateEmployee(employeeId, recordsByEmployee.get(employeeId),
+                            targetMonth, wageIndex, accumulator);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new EmployeeRangeTask(targetMonth, wageIndex, employeeIds, recordsByEmployee,
+                            payrolls, from, middle),
+                    new EmployeeRangeTask(targetMonth, wageIndex, employeeIds, recordsByEmployee,
+                            payrolls, middle, to));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.attendance.service;
+
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.audit.AuditOperation;
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.Student;
+import com.example.attendance.domain.StudentNameIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 生徒サービス.
+ *
+ * <p>生徒とカレンダー同期で使う {@link StudentNameIndex} は {@link MasterDataService} の
+ * スナップショットに保持し、生徒マスタ画面とスプレッドシート同期から共通で参照する。
+ * 同期による変更は {@link #applyChanges} でまとめて反映し、変更のあった生徒だけを更新する。
+ * 生徒名インデックスは変更の反映時に作り直し、スナップショットの差し替えで一括公開する。
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentService {
+
+    private final AuditLog auditLog;
+    private final MasterDataService masterDataService;
+    /** 保存の排他（監査ログの記録で待機することがあるため、仮想スレッドを固定しない Lock を使う）. */
+    private final ReentrantLock saveLock = new ReentrantLock();
+
+    public List<Student> findAll() {
+        return masterDataService.current().getStudents();
+    }
+
+    public List<Student> findActive() {
+        return masterDataService.current().getActiveStudents();
+    }
+
+    public Optional<Student> findById(String id) {
+        return masterDataService.current().findStudent(id);
+    }
+
+    /**
+     * 現在の生徒名インデックスを取得.
+     */
+    public StudentNameIndex currentNameIndex() {
+        return masterDataService.current().getStudentNameIndex();
+    }
+
+    /**
+     * 追加・更新と無効化を1回で反映する.
+     *
+     * @param upserts       追加または更新する生徒（無効化されていた生徒は在籍中に戻る）
+     * @param deactivateIds 無効化する生徒ID
+     * @return 実際に無効化した件数（既に無効の生徒・存在しない生徒は数えない）
+     */
+    public int applyChanges(Collection<Student> upserts, Collection<String> deactivateIds) {
+        saveLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 他のマスタの保存・他インスタンスからの再読み込みと競合して差し替えがやり直された場合は、
+            // 最後に差し替えた内容（最新のスナップショットから組み立て直したもの）を記録する
+            AtomicReference<Applied> applied = new AtomicReference<>();
+            masterDataService.update(current -> {
+                Applied result = apply(current, upserts, deactivateIds, now);
+                applied.set(result);
+                return result.snapshot();
+            });
+            for (Change change : applied.get().changes()) {
+                auditLog.record("students", change.saved().getId(),
+                        change.previous() != null ? AuditOperation.UPDATE : AuditOperation.INSERT,
+                        change.previous(), change.saved());
+            }
+            return applied.get().deactivated();
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    /**
+     * スナップショットに追加・更新と無効化を反映し、生徒名インデックスを作り直す.
+     */
+    private static Applied apply(MasterDataSnapshot current, Collection<Student> upserts,
+            Collection<String> deactivateIds, LocalDateTime now) {
+        Map<String, Student> students = new TreeMap<>();
+        for (Student student : current.getStudents()) {
+            students.put(student.getId(), student);
+        }
+        List<Change> changes = new ArrayList<>();
+        for (Student student : upserts) {
+            Student saved = student.toBuilder()
+                    .active(true)
+                    .updatedAt(now)
+                    .build();
+            changes.add(new Change(students.put(saved.getId(), saved), saved));
+        }
+        int deactivated = 0;
+        for (String id : deactivateIds) {
+            Student student = students.get(id);
+            if (student != null && student.isActive()) {
+                Student saved = student.toBuilder()
+                        .active(false)
+                        .updatedAt(now)
+                        .build();
+                students.put(id, saved);
+                changes.add(new Change(student, saved));
+                deactivated++;
+            }
+        }
+        StudentNameIndex nameIndex = StudentNameIndex.build(students.values());
+        return new Applied(current.withStudents(students.values(), nameIndex), changes,
+                deactivated);
+    }
+
+    /**
+     * 反映1回分の結果.
+     */
+    private record Applied(MasterDataSnapshot snapshot, List<Change> changes, int deactivated) {
+    }
+
+    /**
+     * 生徒1人の変更前（追加の場合は null）・変更後.
+     */
+    private record Change(Student previous, Student saved) {
+    }
+}
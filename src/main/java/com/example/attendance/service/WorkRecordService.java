@@ -0,0 +1,281 @@
+package com.example.attendance.service;
+
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.audit.AuditOperation;
+import com.example.attendance.dto.PageDto;
+import com.example.attendance.dto.WorkRecordDto;
+import com.example.attendance.dto.WorkRecordFilter;
+import com.example.attendance.repository.WorkRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 勤務記録サービス.
+ *
+ * <p>勤務記録は {@link WorkRecordRepository} に保持し、コントローラー・給与計算・ダッシュボードから
+ * 共通で参照する。カレンダー同期のワーカーから並行して書き込まれるため、書き込み（イベントIDの重複判定・
+ * 通知・監査ログを含む）はロックで直列化する。監査ログの記録は書き込み待ちで待機することがあるため、
+ * 仮想スレッドを固定しない {@link ReentrantLock} を使う。読み込みはロックを取らない。
+ */
+@Slf4j
+@Service
+public class WorkRecordService {
+
+    /** 監査ログの対象テーブル名. */
+    private static final String TABLE_NAME = "work_records";
+
+    private final WorkRecordRepository workRecordRepository;
+    private final AuditLog auditLog;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public WorkRecordService(WorkRecordRepository workRecordRepository, AuditLog auditLog) {
+        this.workRecordRepository = workRecordRepository;
+        this.auditLog = auditLog;
+        if (workRecordRepository.size() == 0) {
+            workRecordRepository.saveAll(createMockWorkRecords());
+            log.info("Work record repository seeded with mock records");
+        }
+    }
+
+    /**
+     * 勤務記録の登録・更新の通知先.
+     *
+     * <p>通知は勤務記録の更新と同じロック内で同期的に行われるため、処理は軽量に保つこと。
+     */
+    public interface Listener {
+
+        /**
+         * @param previous   更新前の勤務記録（新規登録・購読開始時の既存分の通知では null）
+         * @param workRecord 保存した勤務記録
+         */
+        void onSaved(WorkRecordDto previous, WorkRecordDto workRecord);
+    }
+
+    /**
+     * 通知先を登録し、既存の勤務記録を全件通知する（登録と既存分の通知の間に更新は割り込まない）.
+     */
+    public void subscribe(Listener listener) {
+        writeLock.lock();
+        try {
+            workRecordRepository.forEach(workRecord -> listener.onSaved(null, workRecord));
+            listeners.add(listener);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<WorkRecordDto> findAll() {
+        return workRecordRepository.findAll();
+    }
+
+    public Optional<WorkRecordDto> findById(String id) {
+        return workRecordRepository.findById(id);
+    }
+
+    /**
+     * 従業員1人・1か月分の勤務記録を開始日時順に取得.
+     */
+    public List<WorkRecordDto> findByEmployeeAndMonth(String employeeId, YearMonth month) {
+        return workRecordRepository.findByEmployeeAndMonth(employeeId, month);
+    }
+
+    /**
+     * 指定月の勤務記録を従業員ごとに開始日時順で取得.
+     */
+    public Map<String, List<WorkRecordDto>> findByMonthGroupedByEmployee(YearMonth month) {
+        return workRecordRepository.findByMonthGroupedByEmployee(month);
+    }
+
+    /**
+     * 直近の勤務記録（勤務日の新しい順）.
+     *
+     * @param employeeId 従業員ID（null の場合は全従業員）
+     */
+    public List<WorkRecordDto> findLatest(String employeeId, int limit) {
+        return workRecordRepository.findLatest(employeeId, limit);
+    }
+
+    /**
+     * 勤務記録を表示順（勤務日の新しい順）に1ページ分取得する（キーセット・ページネーション）.
+     *
+     * @param after  このカーソルの次から取得する
+     * @param before このカーソルの前までを取得する（after より優先）
+     * @throws IllegalArgumentException カーソルが不正な場合
+     */
+    public PageDto<WorkRecordDto> findPage(WorkRecordFilter filter, String after, String before,
+            int size) {
+        return workRecordRepository.findPage(filter, after, before, size);
+    }
+
+    /**
+     * 指定のカレンダーイベントIDのうち、同期済みの勤務記録が存在するものを一括で取得する.
+     */
+    public Set<String> findExistingGoogleEventIds(Collection<String> googleEventIds) {
+        Set<String> existing = new HashSet<>();
+        for (String googleEventId : googleEventIds) {
+            if (workRecordRepository.containsGoogleEventId(googleEventId)) {
+                existing.add(googleEventId);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 同期済みのカレンダーイベントIDを全件取得.
+     */
+    public List<String> findAllGoogleEventIds() {
+        return workRecordRepository.findAllGoogleEventIds();
+    }
+
+    /**
+     * 勤務記録を登録する。IDが未採番の場合は採番する.
+     */
+    public WorkRecordDto save(WorkRecordDto workRecord) {
+        writeLock.lock();
+        try {
+            if (workRecord.getId() == null) {
+                workRecord.setId(workRecordRepository.nextId());
+            }
+            WorkRecordDto previous = workRecordRepository.save(workRecord);
+            auditLog.record(TABLE_NAME, workRecord.getId(),
+                    previous != null ? AuditOperation.UPDATE : AuditOperation.INSERT,
+                    previous, workRecord);
+            listeners.forEach(listener -> listener.onSaved(previous, workRecord));
+            return workRecord;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 同期した勤務記録を一括登録する.
+     *
+     * <p>同じカレンダーイベントIDの勤務記録が既に存在する場合は登録しない（google_event_id の一意制約相当）。
+     *
+     * @return 登録した勤務記録
+     */
+    public List<WorkRecordDto> saveAllSynced(List<WorkRecordDto> syncedRecords) {
+        List<WorkRecordDto> inserted = new ArrayList<>(syncedRecords.size());
+        writeLock.lock();
+        try {
+            for (WorkRecordDto workRecord : syncedRecords) {
+                if (workRecordRepository.containsGoogleEventId(workRecord.getGoogleEventId())) {
+                    continue;
+                }
+                workRecord.setId(workRecordRepository.nextId());
+                workRecordRepository.save(workRecord);
+                inserted.add(workRecord);
+                auditLog.record(TABLE_NAME, workRecord.getId(), AuditOperation.INSERT, null,
+                        workRecord);
+                listeners.forEach(listener -> listener.onSaved(null, workRecord));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return inserted;
+    }
+
+    /**
+     * 勤務日が期間内の勤務記録を従業員ごとに開始日時順で1件ずつ処理する（一覧を生成しない）.
+     *
+     * <p>ロックを取らないため、{@code action} の実行中（レスポンスへの書き込み等）も書き込みを妨げない。
+     *
+     * @param from 勤務日の開始（含む）
+     * @param to   勤務日の終了（含む）
+     */
+    public void forEachInPeriod(LocalDate from, LocalDate to, Consumer<WorkRecordDto> action) {
+        workRecordRepository.forEachInPeriod(from, to, action);
+    }
+
+    /**
+     * 従業員の勤務日が期間内の勤務記録を開始日時順に取得する（リポジトリの配列の部分ビューで、コピーしない）.
+     *
+     * @param from 勤務日の開始（含む）
+     * @param to   勤務日の終了（含む）
+     */
+    public List<WorkRecordDto> findByEmployeeInPeriod(String employeeId, LocalDate from,
+            LocalDate to) {
+        return workRecordRepository.findByEmployee(employeeId, from.atStartOfDay(),
+                to.atTime(LocalTime.MAX));
+    }
+
+    /**
+     * 期間内の勤務記録の版（条件付きGETの ETag 用。勤務記録は読まない）.
+     *
+     * @param from 勤務日の開始（含む）
+     * @param to   勤務日の終了（含む）
+     */
+    public long versionOf(LocalDate from, LocalDate to) {
+        return workRecordRepository.versionOf(YearMonth.from(from), YearMonth.from(to));
+    }
+
+    private static List<WorkRecordDto> createMockWorkRecords() {
+        return Arrays.asList(
+                WorkRecordDto.builder()
+                        .id("wr-001")
+                        .employeeId("emp-001")
+                        .employeeName("田中 太郎")
+                        .workDate(LocalDate.of(2024, 1, 15))
+                        .startTime(LocalDateTime.of(2024, 1, 15, 9, 0))
+                        .endTime(LocalDateTime.of(2024, 1, 15, 18, 0))
+                        .workHours(8.0)
+                        .workTypeName("通常勤務")
+                        .note("特になし")
+                        .createdAt(LocalDateTime.of(2024, 1, 15, 18, 5))
+                        .build(),
+                WorkRecordDto.builder()
+                        .id("wr-002")
+                        .employeeId("emp-001")
+                        .employeeName("田中 太郎")
+                        .workDate(LocalDate.of(2024, 1, 16))
+                        .startTime(LocalDateTime.of(2024, 1, 16, 9, 0))
+                        .endTime(LocalDateTime.of(2024, 1, 16, 20, 0))
+                        .workHours(10.0)
+                        .workTypeName("通常勤務")
+                        .note("残業対応")
+                        .createdAt(LocalDateTime.of(2024, 1, 16, 20, 5))
+                        .build(),
+                WorkRecordDto.builder()
+                        .id("wr-003")
+                        .employeeId("emp-002")
+                        .employeeName("佐藤 花子")
+                        .workDate(LocalDate.of(2024, 1, 15))
+                        .startTime(LocalDateTime.of(2024, 1, 15, 10, 0))
+                        .endTime(LocalDateTime.of(2024, 1, 15, 16, 0))
+                        .workHours(5.0)
+                        .workTypeName("時短勤務")
+                        .note("子育て対応")
+                        .createdAt(LocalDateTime.of(2024, 1, 15, 16, 5))
+                        .build(),
+                WorkRecordDto.builder()
+                        .id("wr-004")
+                        .employeeId("emp-003")
+                        .employeeName("鈴木 一郎")
+                        .workDate(LocalDate.of(2024, 1, 15))
+                        .startTime(LocalDateTime.of(2024, 1, 15, 22, 0))
+                        .endTime(LocalDateTime.of(2024, 1, 16, 6, 0))
+                        .workHours(8.0)
+                        .workTypeName("夜勤")
+                        .note("夜勤シフト")
+                        .createdAt(LocalDateTime.of(2024, 1, 16, 6, 5))
+                        .build());
+    }
+
+}
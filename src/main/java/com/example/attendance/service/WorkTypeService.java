@@ -0,0 +1,153 @@
+package com.example.attendance.service;
+
+import com.example.attendance.audit.AuditLog;
+import com.example.attendance.audit.AuditOperation;
+import com.example.attendance.domain.MasterDataSnapshot;
+import com.example.attendance.domain.RateType;
+import com.example.attendance.domain.WorkType;
+import com.example.attendance.domain.WorkTypeMatcher;
+import com.example.attendance.dto.WorkTypeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 勤務形態マスタサービス.
+ *
+ * <p>勤務形態とカレンダー同期で使う {@link WorkTypeMatcher} は {@link MasterDataService} の
+ * スナップショットに保持し、読み込みはロックを取らない。マッチャーは保存によって有効なキーワードの
+ * 集合が変わった場合のみ再構築する。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkTypeService {
+
+    private final AuditLog auditLog;
+    private final MasterDataService masterDataService;
+    /** 保存の排他（監査ログの記録で待機することがあるため、仮想スレッドを固定しない Lock を使う）. */
+    private final ReentrantLock saveLock = new ReentrantLock();
+
+    public List<WorkType> findAll() {
+        return masterDataService.current().getWorkTypes();
+    }
+
+    public Optional<WorkType> findById(int id) {
+        return masterDataService.current().findWorkType(id);
+    }
+
+    public Optional<WorkType> findByName(String name) {
+        return masterDataService.current().findWorkTypeByName(name);
+    }
+
+    /**
+     * 現在のキーワードマッチャーを取得.
+     */
+    public WorkTypeMatcher currentMatcher() {
+        return masterDataService.current().getWorkTypeMatcher();
+    }
+
+    /**
+     * 勤務形態を登録・更新する。キーワードの集合が変わった場合はマッチャーを再構築する.
+     *
+     * @throws IllegalArgumentException 入力不備、またはキーワードが他の勤務形態と重複する場合
+     */
+    public WorkType save(WorkTypeDto form) {
+        saveLock.lock();
+        try {
+            if (form.getName() == null || form.getName().isBlank()) {
+                throw new IllegalArgumentException("勤務形態名は必須です");
+            }
+            if (form.getRateType() == RateType.FIXED
+                    && (form.getFixedWage() == null || form.getFixedWage() <= 0)) {
+                throw new IllegalArgumentException("固定単価の勤務形態は単価が必須です");
+            }
+            // 他のマスタの保存・他インスタンスからの再読み込みと競合して差し替えがやり直された場合は、
+            // 最後に差し替えた内容（最新のスナップショットから組み立て直したもの）を記録する
+            AtomicReference<Saved> saved = new AtomicReference<>();
+            masterDataService.update(current -> {
+                Saved applied = apply(current, form);
+                saved.set(applied);
+                return applied.snapshot();
+            });
+            Saved result = saved.get();
+            if (result.matcherRebuilt()) {
+                log.info("Work type matcher rebuilt: keywords={}",
+                        result.snapshot().getWorkTypeMatcher().keywordCount());
+            }
+
+            auditLog.record("work_types", result.workType().getId(),
+                    result.previous() != null ? AuditOperation.UPDATE : AuditOperation.INSERT,
+                    result.previous(), result.workType());
+            log.info("Work type saved: id={}", result.workType().getId());
+            return result.workType();
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    /**
+     * スナップショットに勤務形態を反映する（採番・マッチャーの再構築も {@code current} を基準に行う）.
+     *
+     * <p>構築に失敗した場合は例外を投げ、現在のマスタ・マッチャーをそのまま維持する。
+     */
+    private static Saved apply(MasterDataSnapshot current, WorkTypeDto form) {
+        List<WorkType> workTypes = current.getWorkTypes();
+        WorkType workType = WorkType.builder()
+                .id(form.getId() != null ? form.getId() : nextId(workTypes))
+                .name(form.getName().strip())
+                .description(form.getDescription())
+                .calendarKeyword(form.getCalendarKeyword() != null
+                        && !form.getCalendarKeyword().isBlank()
+                        ? form.getCalendarKeyword().strip()
+                        : null)
+                .payrollTarget(form.isPayrollTarget())
+                .rateType(form.getRateType() != null
+                        ? form.getRateType()
+                        : RateType.STUDENT_LEVEL_BASED)
+                .fixedWage(form.getRateType() == RateType.FIXED ? form.getFixedWage() : null)
+                .active(form.isActive())
+                .build();
+
+        WorkType previous = current.findWorkType(workType.getId()).orElse(null);
+        List<WorkType> updated = new ArrayList<>(workTypes);
+        updated.removeIf(w -> w.getId().equals(workType.getId()));
+        updated.add(workType);
+
+        WorkTypeMatcher matcher = current.getWorkTypeMatcher();
+        WorkTypeMatcher rebuilt = activeKeywordsOf(updated).equals(activeKeywordsOf(workTypes))
+                ? matcher
+                : WorkTypeMatcher.build(updated);
+        return new Saved(previous, workType, current.withWorkTypes(updated, rebuilt),
+                rebuilt != matcher);
+    }
+
+    private static Map<String, Integer> activeKeywordsOf(List<WorkType> workTypes) {
+        Map<String, Integer> keywords = new TreeMap<>();
+        for (WorkType workType : workTypes) {
+            if (workType.isActive() && workType.getCalendarKeyword() != null) {
+                keywords.put(workType.getCalendarKeyword(), workType.getId());
+            }
+        }
+        return keywords;
+    }
+
+    private static int nextId(List<WorkType> workTypes) {
+        return workTypes.stream().mapToInt(WorkType::getId).max().orElse(0) + 1;
+    }
+
+    /**
+     * 保存1回分の結果.
+     */
+    private record Saved(WorkType previous, WorkType workType, MasterDataSnapshot snapshot,
+            boolean matcherRebuilt) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.attendance.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 逐次読み込み型のCSVリーダー（RFC 4180、改行は CRLF / LF）.
+ *
+ * <p>1行ずつ読み込むため、件数に関係なくメモリ使用量は一定。先頭のBOMは読み飛ばす。
+ * 引用符で囲まれた値は区切り文字・改行を含んでよい。
+ */
+public final class CsvReader implements Closeable {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final StringBuilder value = new StringBuilder();
+    private boolean started;
+    private int lineNumber;
+
+    private CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public static CsvReader open(InputStream in, Charset charset) {
+        return new CsvReader(new BufferedReader(new InputStreamReader(in, charset), BUFFER_SIZE));
+    }
+
+    /**
+     * 次の1行を読み込む。空行は読み飛ばし、終端に達した場合は null を返す.
+     */
+    public List<String> nextRow() throws IOException {
+        List<String> row = new ArrayList<>();
+        value.setLength(0);
+        boolean quoted = false;
+        boolean hasValue = false;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c != '"') {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    value.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    value.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+                hasValue = true;
+            } else if (c == ',') {
+                row.add(value.toString());
+                value.setLength(0);
+                hasValue = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                lineNumber++;
+                if (hasValue || value.length() > 0) {
+                    row.add(value.toString());
+                    return row;
+                }
+            } else {
+                value.append((char) c);
+                hasValue = true;
+            }
+        }
+        if (hasValue || value.length() > 0) {
+            lineNumber++;
+            row.add(value.toString());
+            return row;
+        }
+        return null;
+    }
+
+    /** 直前に読み込んだ行の終端の行番号（1始まり）. */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == UTF8_BOM) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
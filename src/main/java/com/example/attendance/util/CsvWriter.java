@@ -0,0 +1,123 @@
+package com.example.attendance.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 逐次書き込み型のCSVライター（RFC 4180、改行は CRLF）.
+ *
+ * <p>行を保持せずに出力先へ直接書き込むため、件数に関係なくメモリ使用量は一定。
+ * Excel で開いたときに数式として解釈されないよう、{@code = + - @}・タブ・CR で始まる文字列には
+ * シングルクォートを前置する（OWASP の CSV Injection 対策の対象文字）。
+ */
+public final class CsvWriter implements Flushable, Closeable {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private boolean firstValue = true;
+
+    private CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Excel向けにUTF-8のBOMを書き込んだうえでライターを生成する.
+     */
+    public static CsvWriter withUtf8Bom(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(UTF8_BOM);
+        return new CsvWriter(writer);
+    }
+
+    public CsvWriter value(String value) throws IOException {
+        separate();
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        boolean formula = isFormulaPrefix(value.charAt(0));
+        if (formula || needsQuote(value)) {
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+        return this;
+    }
+
+    public CsvWriter value(long value) throws IOException {
+        separate();
+        writer.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * 数値・日付などの値を書き込む（null は空欄）.
+     */
+    public CsvWriter value(Object value) throws IOException {
+        if (value == null || value instanceof String) {
+            return value((String) value);
+        }
+        separate();
+        writer.write(value.toString());
+        return this;
+    }
+
+    public CsvWriter endRow() throws IOException {
+        writer.write("\r\n");
+        firstValue = true;
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * バッファを書き出す。出力ストリーム自体はフレームワーク側で閉じるため閉じない.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void separate() throws IOException {
+        if (!firstValue) {
+            writer.write(',');
+        }
+        firstValue = false;
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
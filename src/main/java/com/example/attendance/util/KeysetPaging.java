@@ -0,0 +1,81 @@
+package com.example.attendance.util;
+
+import com.example.attendance.dto.PageDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 並び替えキーの索引（{@link NavigableMap}）からのキーセット・ページネーション.
+ *
+ * <p>カーソルのキーから索引を辿り、条件に一致する行をページの件数だけ取り出す。読み飛ばす行数は
+ * ページ番号によらないため、先頭ページと後方のページで取得時間は変わらない。
+ */
+public final class KeysetPaging {
+
+    private KeysetPaging() {
+    }
+
+    /**
+     * 1ページ分を取得する.
+     *
+     * @param ordered  表示順に並んだ索引
+     * @param filter   索引の範囲で絞り込めない条件
+     * @param after    このキーの次の行から取得する（前ページからの「次へ」）
+     * @param before   このキーの前の行までを取得する（次ページからの「前へ」）。after より優先
+     * @param size     1ページの件数
+     * @param cursorOf キーからカーソル文字列を作る
+     */
+    public static <K, V> PageDto<V> page(NavigableMap<K, V> ordered, Predicate<V> filter,
+            K after, K before, int size, Function<K, String> cursorOf) {
+        if (before != null) {
+            List<Map.Entry<K, V>> entries = collect(
+                    ordered.headMap(before, false).descendingMap(), filter, size + 1);
+            boolean hasPrevious = entries.size() > size;
+            if (hasPrevious) {
+                entries.remove(size);
+            }
+            Collections.reverse(entries);
+            return toPage(entries, hasPrevious, !entries.isEmpty(), cursorOf);
+        }
+        List<Map.Entry<K, V>> entries = collect(
+                after != null ? ordered.tailMap(after, false) : ordered, filter, size + 1);
+        boolean hasNext = entries.size() > size;
+        if (hasNext) {
+            entries.remove(size);
+        }
+        return toPage(entries, after != null && !entries.isEmpty(), hasNext, cursorOf);
+    }
+
+    private static <K, V> List<Map.Entry<K, V>> collect(NavigableMap<K, V> view,
+            Predicate<V> filter, int limit) {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(limit);
+        for (Map.Entry<K, V> entry : view.entrySet()) {
+            if (filter.test(entry.getValue())) {
+                entries.add(entry);
+                if (entries.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static <K, V> PageDto<V> toPage(List<Map.Entry<K, V>> entries, boolean hasPrevious,
+            boolean hasNext, Function<K, String> cursorOf) {
+        List<V> items = new ArrayList<>(entries.size());
+        entries.forEach(entry -> items.add(entry.getValue()));
+        return PageDto.<V>builder()
+                .items(items)
+                .previousCursor(hasPrevious ? cursorOf.apply(entries.get(0).getKey()) : null)
+                .nextCursor(hasNext
+                        ? cursorOf.apply(entries.get(entries.size() - 1).getKey())
+                        : null)
+                .build();
+    }
+}
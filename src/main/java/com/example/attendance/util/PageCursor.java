@@ -0,0 +1,39 @@
+package com.example.attendance.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * キーセット・ページネーションのカーソル（ページ境界の行の並び替えキーを Base64URL で符号化した文字列）.
+ *
+ * <p>件数の位置ではなくキーの値を持つため、ページ間で行が追加・削除されても行の重複・欠落が起きない。
+ * キーの値は {@code |} で連結するため、値に {@code |} を含めないこと。
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private PageCursor() {
+    }
+
+    public static String encode(String... values) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソルを並び替えキーの値に戻す.
+     *
+     * @throws IllegalArgumentException 形式が不正、または値の数が異なる場合
+     */
+    public static String[] decode(String cursor, int valueCount) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] values = SEPARATOR_PATTERN.split(decoded, -1);
+        if (values.length != valueCount) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        return values;
+    }
+}
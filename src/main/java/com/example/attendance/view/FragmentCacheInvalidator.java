@@ -0,0 +1,35 @@
+package com.example.attendance.view;
+
+import com.example.attendance.service.MasterDataService;
+import com.example.attendance.service.PayrollCalculationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 元データの保存に合わせて {@link FragmentRenderCache} の古い断片を削除する.
+ *
+ * <p>給与明細は計算結果の差し替え（計算・再計算・アーカイブ）時にその月の分を、マスタ一覧は
+ * スナップショットの差し替え時（他のインスタンスでの保存による読み込み直しを含む）に
+ * 差し替え後より古いバージョンの分を削除する。
+ */
+@Component
+@RequiredArgsConstructor
+public class FragmentCacheInvalidator {
+
+    private final FragmentRenderCache fragmentRenderCache;
+    private final PayrollCalculationService payrollCalculationService;
+    private final MasterDataService masterDataService;
+
+    @PostConstruct
+    void initialize() {
+        payrollCalculationService.subscribe(targetMonth -> fragmentRenderCache.invalidate(
+                FragmentRenderCache.Region.PAYROLL_DETAIL,
+                id -> ((FragmentRenderCache.PayrollDetailKey) id).targetMonth()
+                        .equals(targetMonth)));
+        masterDataService.subscribe(snapshot -> fragmentRenderCache.invalidate(
+                FragmentRenderCache.Region.MASTER_DATA,
+                id -> ((FragmentRenderCache.MasterListKey) id).version()
+                        < snapshot.getVersion()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.attendance.view;
+
+import com.example.attendance.metrics.Counter;
+import com.example.attendance.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 描画済みHTML断片のキャッシュ（LRU、合計サイズで上限）.
+ *
+ * <p>締め済み月の給与明細・マスタ一覧のように、変更が少なく描画の重い部分を対象にする。
+ * キーには元データのバージョン（計算日時・スナップショットのバージョン等）を含め、
+ * 元データが差し替わった後に古い断片を返さないようにする。古いバージョンの断片は
+ * 保存処理からの {@link #invalidate} で削除し、削除漏れもLRUで追い出される。
+ *
+ * <p>{@code app.view.fragment-cache.max-kilobytes} が 0 の場合（開発時の既定）は保持せず毎回描画する。
+ */
+@Slf4j
+@Component
+public class FragmentRenderCache {
+
+    /**
+     * 断片の種類（無効化の単位）.
+     */
+    public enum Region {
+        /** 給与明細（キーは対象月・従業員ID・計算結果のバージョン）. */
+        PAYROLL_DETAIL,
+        /** マスタ一覧（キーは一覧の種類・スナップショットのバージョン）. */
+        MASTER_DATA
+    }
+
+    /**
+     * 給与明細のキー.
+     *
+     * @param version 対象月の給与の版（{@code PayrollCalculationService#findPayrollVersion}）
+     */
+    public record PayrollDetailKey(YearMonth targetMonth, String employeeId, String version) {
+    }
+
+    /**
+     * マスタ一覧のキー.
+     *
+     * @param list    一覧の種類（テンプレート名）
+     * @param version 描画に使ったスナップショットのバージョン
+     */
+    public record MasterListKey(String list, long version) {
+    }
+
+    private record Key(Region region, Object id) {
+    }
+
+    private final long maxChars;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalChars;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    public FragmentRenderCache(
+            @Value("${app.view.fragment-cache.max-kilobytes:0}") long maxKilobytes,
+            MetricsRegistry metricsRegistry) {
+        // 文字数で概算する（1文字を1バイトとして数える）
+        this.maxChars = maxKilobytes * 1024;
+        this.hits = metricsRegistry.counter("fragment_cache_hits_total",
+                "Rendered fragments served from the cache");
+        this.misses = metricsRegistry.counter("fragment_cache_misses_total",
+                "Fragments rendered because they were not cached");
+        this.evictions = metricsRegistry.counter("fragment_cache_evictions_total",
+                "Cached fragments evicted to stay within the size limit");
+        this.invalidations = metricsRegistry.counter("fragment_cache_invalidations_total",
+                "Cached fragments removed because their source data changed");
+        metricsRegistry.gauge("fragment_cache_entries", "Fragments held in the cache",
+                this::size);
+        metricsRegistry.gauge("fragment_cache_chars", "Total characters of cached fragments",
+                this::chars);
+        log.info("Fragment render cache: maxKilobytes={}", maxKilobytes);
+    }
+
+    /**
+     * キャッシュ済みの断片を返す。なければ {@code render} で描画して保持する.
+     *
+     * <p>描画はロックの外で行うため、同じキーを同時に描画することがある（どちらも同じ内容になる）。
+     *
+     * @param render 描画処理。元データがない場合は null を返す（保持しない）
+     * @return 断片のHTML（{@code render} が null を返した場合は null）
+     */
+    public String get(Region region, Object id, Supplier<String> render) {
+        if (maxChars <= 0) {
+            return render.get();
+        }
+        Key key = new Key(region, id);
+        lock.lock();
+        try {
+            String cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        String html = render.get();
+        if (html != null && html.length() <= maxChars) {
+            put(key, html);
+        }
+        return html;
+    }
+
+    private void put(Key key, String html) {
+        lock.lock();
+        try {
+            String previous = entries.put(key, html);
+            totalChars += html.length() - (previous != null ? previous.length() : 0);
+            Iterator<String> eldest = entries.values().iterator();
+            while (totalChars > maxChars && eldest.hasNext()) {
+                totalChars -= eldest.next().length();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 種類の断片をすべて削除する.
+     */
+    public void invalidate(Region region) {
+        invalidate(region, id -> true);
+    }
+
+    /**
+     * 種類の断片のうち、キーが条件に一致するものを削除する.
+     */
+    public void invalidate(Region region, Predicate<Object> id) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Key, String>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, String> entry = iterator.next();
+                if (entry.getKey().region() == region && id.test(entry.getKey().id())) {
+                    totalChars -= entry.getValue().length();
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long chars() {
+        lock.lock();
+        try {
+            return totalChars;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
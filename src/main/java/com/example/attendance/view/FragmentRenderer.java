@@ -0,0 +1,51 @@
+package com.example.attendance.view;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.Map;
+
+/**
+ * テンプレートを断片のHTMLとして描画する（{@link FragmentRenderCache} に保持する断片用）.
+ *
+ * <p>断片は利用者をまたいで使い回すため、リンクにセッションIDを埋め込まない（URL書き換えをしない）。
+ * 描画中のリクエストのスレッドから呼び出すこと。
+ */
+@Component
+@RequiredArgsConstructor
+public class FragmentRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+
+    public String render(String template, Map<String, Object> variables) {
+        ServletRequestAttributes attributes =
+                (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = new HttpServletResponseWrapper(attributes.getResponse()) {
+            @Override
+            public String encodeURL(String url) {
+                return url;
+            }
+        };
+        WebContext context = new WebContext(
+                JakartaServletWebApplication.buildApplication(request.getServletContext())
+                        .buildExchange(request, response),
+                LocaleContextHolder.getLocale(), variables);
+        context.setVariable(
+                ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+        return templateEngine.process(template, context);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.attendance.archive;
+
+import com.example.attendance.dto.PayrollDto;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link PayrollSegmentWriter} で書き出したセグメントを {@link PayrollSegment} で読み込む往復テスト.
+ */
+class PayrollSegmentTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 6);
+
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("セグメント_正常系_書き出した全従業員の給与を検索できる")
+    void find_正常系_往復() throws IOException {
+        // Given
+        List<PayrollDto> payrolls = List.of(payroll("emp-003"), payroll("emp-001"),
+                payroll("emp-002"));
+        Path file = write(1024, payrolls);
+
+        // When
+        PayrollSegment segment = PayrollSegment.open(file, MAPPER.readerFor(PayrollDto.class));
+
+        // Then
+        assertThat(segment.getMonth()).isEqualTo(MONTH);
+        assertThat(segment.size()).isEqualTo(3);
+        for (PayrollDto payroll : payrolls) {
+            assertThat(segment.find(payroll.getEmployeeId())).contains(payroll);
+        }
+    }
+
+    @Test
+    @DisplayName("セグメント_正常系_複数ブロックにまたがっても従業員ID順に全件を渡す")
+    void forEach_正常系_複数ブロック() throws IOException {
+        // Given: 1件ごとにブロックが切り替わる大きさ
+        List<PayrollDto> payrolls = new ArrayList<>();
+        for (int i = 20; i >= 1; i--) {
+            payrolls.add(payroll(String.format("emp-%03d", i)));
+        }
+        Path file = write(64, payrolls);
+        PayrollSegment segment = PayrollSegment.open(file, MAPPER.readerFor(PayrollDto.class));
+
+        // When
+        List<String> employeeIds = new ArrayList<>();
+        segment.forEach(payroll -> employeeIds.add(payroll.getEmployeeId()));
+
+        // Then
+        assertThat(blockCount(file)).isGreaterThan(1);
+        assertThat(employeeIds).hasSize(20).isSorted();
+        assertThat(segment.find("emp-017")).contains(payroll("emp-017"));
+    }
+
+    @Test
+    @DisplayName("セグメント_正常系_含まれない従業員は空")
+    void find_正常系_該当なし() throws IOException {
+        // Given
+        Path file = write(1024, List.of(payroll("emp-001"), payroll("emp-003")));
+        PayrollSegment segment = PayrollSegment.open(file, MAPPER.readerFor(PayrollDto.class));
+
+        // When & Then
+        assertThat(segment.find("emp-002")).isEmpty();
+        assertThat(segment.find("emp-999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("セグメント_異常系_ブロックが壊れている場合は検索時に例外")
+    void find_異常系_ブロックの破損() throws IOException {
+        // Given: 先頭ブロックの中ほどの1バイトを書き換える
+        Path file = write(1024, List.of(payroll("emp-001"), payroll("emp-002")));
+        byte[] bytes = Files.readAllBytes(file);
+        int target = PayrollSegmentWriter.HEADER_SIZE + 10;
+        bytes[target] = (byte) ~bytes[target];
+        Files.write(file, bytes);
+        PayrollSegment segment = PayrollSegment.open(file, MAPPER.readerFor(PayrollDto.class));
+
+        // When & Then
+        assertThatThrownBy(() -> segment.find("emp-001")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("セグメント_異常系_途中で切れたファイルは開けない")
+    void open_異常系_切り詰め() throws IOException {
+        // Given
+        Path file = write(1024, List.of(payroll("emp-001"), payroll("emp-002")));
+        byte[] bytes = Files.readAllBytes(file);
+        Path headerOnly = directory.resolve("header-only.seg");
+        Files.write(headerOnly, Arrays.copyOf(bytes, 16));
+        Path indexCut = directory.resolve("index-cut.seg");
+        Files.write(indexCut, Arrays.copyOf(bytes, bytes.length - 5));
+
+        // When & Then
+        assertThatThrownBy(() -> PayrollSegment.open(headerOnly,
+                MAPPER.readerFor(PayrollDto.class))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> PayrollSegment.open(indexCut,
+                MAPPER.readerFor(PayrollDto.class))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("セグメント_異常系_ヘッダーが書き込まれていないファイルは開けない")
+    void open_異常系_ヘッダーなし() throws IOException {
+        // Given: ヘッダーは最後に書き込むため、書き込み途中のファイルはヘッダーが0のまま
+        Path file = write(1024, List.of(payroll("emp-001")));
+        byte[] bytes = Files.readAllBytes(file);
+        Arrays.fill(bytes, 0, PayrollSegmentWriter.HEADER_SIZE, (byte) 0);
+        Files.write(file, bytes);
+
+        // When & Then
+        assertThatThrownBy(() -> PayrollSegment.open(file, MAPPER.readerFor(PayrollDto.class)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("セグメント_異常系_同じ従業員の給与が複数ある場合は書き出さない")
+    void write_異常系_従業員の重複() {
+        PayrollSegmentWriter writer = new PayrollSegmentWriter(
+                MAPPER.writerFor(PayrollDto.class), 1024);
+
+        assertThatThrownBy(() -> writer.write(directory.resolve("dup.seg"), MONTH,
+                List.of(payroll("emp-001"), payroll("emp-001"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(int blockBytes, List<PayrollDto> payrolls) throws IOException {
+        Path file = directory.resolve("payroll-" + MONTH + ".seg");
+        new PayrollSegmentWriter(MAPPER.writerFor(PayrollDto.class), blockBytes)
+                .write(file, MONTH, payrolls);
+        return file;
+    }
+
+    private static int blockCount(Path file) throws IOException {
+        // magic(8) version(4) month(4) の次
+        return ByteBuffer.wrap(Files.readAllBytes(file)).getInt(16);
+    }
+
+    private static PayrollDto payroll(String employeeId) {
+        return PayrollDto.builder()
+                .employeeId(employeeId)
+                .employeeName("従業員 " + employeeId)
+                .startDate(MONTH.atDay(1))
+                .endDate(MONTH.atEndOfMonth())
+                .totalWorkHours(80.5)
+                .totalPayment(96600.0)
+                .summary(PayrollDto.PayrollSummary.builder()
+                        .totalWorkDays(10)
+                        .regularHours(80.5)
+                        .build())
+                .build();
+    }
+}
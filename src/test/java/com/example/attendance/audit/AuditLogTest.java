@@ -0,0 +1,108 @@
+package com.example.attendance.audit;
+
+import com.example.attendance.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AuditLog} の単体テスト（書き込み失敗時の再試行）.
+ */
+class AuditLogTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 6, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 6, 3);
+
+    @TempDir
+    Path directory;
+
+    private AuditLog auditLog;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (auditLog != null) {
+            auditLog.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("監査ログ_異常系_2つ目のバケットの書き込み途中で失敗しても重複・書きかけの行を残さない")
+    void commit_異常系_バケット間で失敗() throws IOException {
+        // Given: 2回目の書き込み（2日目のバケット）だけ、半分書いたところで失敗する
+        auditLog = auditLog(new AuditBucketStore(directory, false) {
+            private int writes;
+
+            @Override
+            void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+                if (++writes == 2) {
+                    buffer.limit(buffer.position() + buffer.remaining() / 2);
+                    super.write(channel, buffer);
+                    throw new IOException("disk full");
+                }
+                super.write(channel, buffer);
+            }
+        });
+
+        // When
+        auditLog.commit(List.of(entry(DAY1, "a"), entry(DAY1, "b"), entry(DAY2, "c"),
+                entry(DAY2, "d")));
+
+        // Then
+        assertThat(lines(DAY1)).containsExactly("{\"id\":\"a\"}", "{\"id\":\"b\"}");
+        assertThat(lines(DAY2)).containsExactly("{\"id\":\"c\"}", "{\"id\":\"d\"}");
+    }
+
+    @Test
+    @DisplayName("監査ログ_異常系_再試行で書き込んだ後も同じバケットに続けて追記できる")
+    void commit_異常系_再試行後の追記() throws IOException {
+        // Given: 最初の書き込みだけ失敗する
+        auditLog = auditLog(new AuditBucketStore(directory, false) {
+            private boolean failed;
+
+            @Override
+            void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+                if (!failed) {
+                    failed = true;
+                    buffer.limit(buffer.position() + 3);
+                    super.write(channel, buffer);
+                    throw new IOException("disk full");
+                }
+                super.write(channel, buffer);
+            }
+        });
+
+        // When
+        auditLog.commit(List.of(entry(DAY1, "a")));
+        auditLog.commit(List.of(entry(DAY1, "b")));
+
+        // Then
+        assertThat(lines(DAY1)).containsExactly("{\"id\":\"a\"}", "{\"id\":\"b\"}");
+    }
+
+    private static AuditLog auditLog(AuditBucketStore store) {
+        return new AuditLog(store, 100, 10, 50, 50, ZoneId.of("Asia/Tokyo"),
+                new MetricsRegistry());
+    }
+
+    private static AuditLog.Entry entry(LocalDate day, String id) {
+        return new AuditLog.Entry(day,
+                ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> lines(LocalDate day) throws IOException {
+        return Files.readAllLines(directory.resolve("audit-" + day + ".jsonl"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.attendance.domain;
+
+import com.example.attendance.dto.WorkRecordDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link PayrollAccumulator} の単体テスト（所定8時間・残業125%・深夜加算25%・休日135%、
+ * 2025-06-02 は月曜日、2025-06-08 は日曜日）.
+ */
+class PayrollAccumulatorTest {
+
+    private final PayrollAccumulator accumulator = new PayrollAccumulator(480, 125, 25, 135);
+
+    @Test
+    @DisplayName("給与集計_正常系_所定時間を超えた分は残業")
+    void addRecord_正常系_残業() {
+        // When: 9:00〜20:00（11時間）
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 9, 0),
+                LocalDateTime.of(2025, 6, 2, 20, 0)), 1000);
+
+        // Then
+        assertThat(accumulator.getRegularMinutes()).isEqualTo(480);
+        assertThat(accumulator.getOvertimeMinutes()).isEqualTo(180);
+        assertThat(accumulator.getWorkDays()).isEqualTo(1);
+        assertThat(accumulator.getRegularPaymentYen()).isEqualTo(8000);
+        assertThat(accumulator.getOvertimePaymentYen()).isEqualTo(3750);
+        assertThat(accumulator.getTotalPaymentYen()).isEqualTo(11750);
+    }
+
+    @Test
+    @DisplayName("給与集計_正常系_同じ日の複数の勤務は合計で所定時間を判定する")
+    void addRecord_正常系_同日の複数勤務() {
+        // When: 9:00〜13:00 と 14:00〜20:00（計10時間）、翌日 9:00〜17:00（8時間）
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 9, 0),
+                LocalDateTime.of(2025, 6, 2, 13, 0)), 1000);
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 14, 0),
+                LocalDateTime.of(2025, 6, 2, 20, 0)), 1000);
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 3, 9, 0),
+                LocalDateTime.of(2025, 6, 3, 17, 0)), 1000);
+
+        // Then
+        assertThat(accumulator.getRegularMinutes()).isEqualTo(480 + 480);
+        assertThat(accumulator.getOvertimeMinutes()).isEqualTo(120);
+        assertThat(accumulator.getWorkDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("給与集計_正常系_日曜の勤務は所定時間を超えても休日のみ")
+    void addRecord_正常系_休日() {
+        // When: 日曜 9:00〜20:00（11時間）
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 8, 9, 0),
+                LocalDateTime.of(2025, 6, 8, 20, 0)), 1000);
+
+        // Then
+        assertThat(accumulator.getHolidayMinutes()).isEqualTo(660);
+        assertThat(accumulator.getRegularMinutes()).isZero();
+        assertThat(accumulator.getOvertimeMinutes()).isZero();
+        assertThat(accumulator.getTotalMinutes()).isEqualTo(660);
+        assertThat(accumulator.getHolidayPaymentYen()).isEqualTo(14850);
+        assertThat(accumulator.getTotalPaymentYen()).isEqualTo(14850);
+    }
+
+    @Test
+    @DisplayName("給与集計_正常系_土曜から日曜への勤務は日曜の分だけ休日で、深夜は加算")
+    void addRecord_正常系_休日にまたがる深夜勤務() {
+        // When: 土曜 20:00〜日曜 2:00（休日2時間・深夜4時間）
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 7, 20, 0),
+                LocalDateTime.of(2025, 6, 8, 2, 0)), 1200);
+
+        // Then
+        assertThat(accumulator.getRegularMinutes()).isEqualTo(240);
+        assertThat(accumulator.getHolidayMinutes()).isEqualTo(120);
+        assertThat(accumulator.getLateNightMinutes()).isEqualTo(240);
+        assertThat(accumulator.getTotalMinutes()).isEqualTo(360);
+        assertThat(accumulator.getRegularPaymentYen()).isEqualTo(4800);
+        assertThat(accumulator.getHolidayPaymentYen()).isEqualTo(3240);
+        assertThat(accumulator.getLateNightPaymentYen()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("給与集計_正常系_22:00〜翌5:00の深夜は通常・残業の支給に加算する")
+    void addRecord_正常系_深夜勤務() {
+        // When: 月曜 21:00〜火曜 6:00（9時間、うち深夜7時間）
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 21, 0),
+                LocalDateTime.of(2025, 6, 3, 6, 0)), 1000);
+
+        // Then: 深夜の時間は通常・残業の時間にも含まれ、合計には数えない
+        assertThat(accumulator.getRegularMinutes()).isEqualTo(480);
+        assertThat(accumulator.getOvertimeMinutes()).isEqualTo(60);
+        assertThat(accumulator.getLateNightMinutes()).isEqualTo(420);
+        assertThat(accumulator.getTotalMinutes()).isEqualTo(540);
+        assertThat(accumulator.getWorkDays()).isEqualTo(1);
+        assertThat(accumulator.getRegularPaymentYen()).isEqualTo(8000);
+        assertThat(accumulator.getOvertimePaymentYen()).isEqualTo(1250);
+        assertThat(accumulator.getLateNightPaymentYen()).isEqualTo(1750);
+        assertThat(accumulator.getTotalPaymentYen()).isEqualTo(11000);
+    }
+
+    @Test
+    @DisplayName("給与集計_境界値_端数は区分ごとの合計に対して1回だけ四捨五入する")
+    void add_境界値_区分ごとに1回の端数処理() {
+        // When: 時給1001円で1分ずつ3日（1件ずつ丸めると 17円 × 3 = 51円）
+        for (int day = 0; day < 3; day++) {
+            accumulator.add(day, 1, 0, 0, 1001);
+        }
+
+        // Then: 3003 / 60 = 50.05円
+        assertThat(accumulator.getRegularPaymentYen()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("給与集計_境界値_0.5円ちょうどは切り上げ、未満は切り捨て")
+    void add_境界値_四捨五入() {
+        // Given
+        PayrollAccumulator halfUp = new PayrollAccumulator(480, 125, 25, 135);
+        PayrollAccumulator roundDown = new PayrollAccumulator(480, 125, 25, 135);
+
+        // When: 1050 / 60 = 17.5円、1049 / 60 = 17.48円
+        halfUp.add(0, 1, 0, 0, 1050);
+        roundDown.add(0, 1, 0, 0, 1049);
+
+        // Then
+        assertThat(halfUp.getRegularPaymentYen()).isEqualTo(18);
+        assertThat(roundDown.getRegularPaymentYen()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("給与集計_正常系_リセット後は別の従業員として集計できる")
+    void reset_正常系_再利用() {
+        // Given
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 9, 0),
+                LocalDateTime.of(2025, 6, 2, 20, 0)), 1000);
+
+        // When: 同じ日の勤務でも前の従業員の時間は引き継がない
+        accumulator.reset();
+        accumulator.addRecord(workRecord(LocalDateTime.of(2025, 6, 2, 9, 0),
+                LocalDateTime.of(2025, 6, 2, 13, 0)), 1000);
+
+        // Then
+        assertThat(accumulator.getRegularMinutes()).isEqualTo(240);
+        assertThat(accumulator.getOvertimeMinutes()).isZero();
+        assertThat(accumulator.getWorkDays()).isEqualTo(1);
+        assertThat(accumulator.getTotalPaymentYen()).isEqualTo(4000);
+    }
+
+    private static WorkRecordDto workRecord(LocalDateTime startTime, LocalDateTime endTime) {
+        return WorkRecordDto.builder()
+                .id("wr-001")
+                .employeeId("emp-001")
+                .workDate(startTime.toLocalDate())
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.attendance.domain;
+
+import com.example.attendance.dto.WorkRecordDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link WorkMinuteBuckets} の単体テスト（2025-06-02 は月曜日、2025-06-08 は日曜日）.
+ */
+class WorkMinuteBucketsTest {
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_平日の日中は通常時間のみ")
+    void apply_正常系_平日の日中() {
+        // Given
+        WorkRecordDto record = workRecord(LocalDateTime.of(2025, 6, 2, 9, 0),
+                LocalDateTime.of(2025, 6, 2, 18, 0), null);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(540);
+        assertThat(record.getLateNightMinutes()).isZero();
+        assertThat(record.getHolidayMinutes()).isZero();
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_日付をまたぐ深夜勤務は日ごとに分けて数える")
+    void apply_正常系_日付をまたぐ深夜勤務() {
+        // Given: 月曜 21:00〜火曜 6:00（深夜は 22:00〜24:00 と 0:00〜5:00）
+        WorkRecordDto record = workRecord(LocalDateTime.of(2025, 6, 2, 21, 0),
+                LocalDateTime.of(2025, 6, 3, 6, 0), null);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(540);
+        assertThat(record.getLateNightMinutes()).isEqualTo(120 + 300);
+        assertThat(record.getHolidayMinutes()).isZero();
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_土曜から日曜への勤務は日曜の分だけ休日時間")
+    void apply_正常系_休日にまたがる勤務() {
+        // Given: 土曜 20:00〜日曜 2:00
+        WorkRecordDto record = workRecord(LocalDateTime.of(2025, 6, 7, 20, 0),
+                LocalDateTime.of(2025, 6, 8, 2, 0), null);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(360);
+        assertThat(record.getLateNightMinutes()).isEqualTo(240);
+        assertThat(record.getHolidayMinutes()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_複数日にまたがる勤務")
+    void apply_正常系_複数日にまたがる勤務() {
+        // Given: 日曜 22:00〜火曜 1:00
+        WorkRecordDto record = workRecord(LocalDateTime.of(2025, 6, 8, 22, 0),
+                LocalDateTime.of(2025, 6, 10, 1, 0), null);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(27 * 60);
+        assertThat(record.getLateNightMinutes()).isEqualTo(120 + 300 + 120 + 60);
+        assertThat(record.getHolidayMinutes()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_境界値_深夜の開始・終了ちょうどの勤務は深夜に含めない")
+    void apply_境界値_深夜の境界() {
+        // Given
+        WorkRecordDto evening = workRecord(LocalDateTime.of(2025, 6, 2, 17, 0),
+                LocalDateTime.of(2025, 6, 2, 22, 0), null);
+        WorkRecordDto morning = workRecord(LocalDateTime.of(2025, 6, 3, 5, 0),
+                LocalDateTime.of(2025, 6, 3, 9, 0), null);
+
+        // When
+        WorkMinuteBuckets.apply(evening);
+        WorkMinuteBuckets.apply(morning);
+
+        // Then
+        assertThat(evening.getLateNightMinutes()).isZero();
+        assertThat(morning.getLateNightMinutes()).isZero();
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_手入力の勤務時間が短い場合は深夜・休日時間の上限とする")
+    void apply_正常系_手入力の勤務時間で上限() {
+        // Given: 日曜 18:00〜24:00（深夜2時間・休日6時間）、休憩控除後の勤務時間は1.5時間
+        WorkRecordDto record = workRecord(LocalDateTime.of(2025, 6, 8, 18, 0),
+                LocalDateTime.of(2025, 6, 9, 0, 0), 1.5);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(90);
+        assertThat(record.getLateNightMinutes()).isEqualTo(90);
+        assertThat(record.getHolidayMinutes()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("時間帯別の勤務時間_正常系_開始・終了がない場合は手入力の勤務時間のみ")
+    void apply_正常系_開始終了なし() {
+        // Given
+        WorkRecordDto record = workRecord(null, null, 2.25);
+
+        // When
+        WorkMinuteBuckets.apply(record);
+
+        // Then
+        assertThat(record.getWorkMinutes()).isEqualTo(135);
+        assertThat(record.getLateNightMinutes()).isZero();
+        assertThat(record.getHolidayMinutes()).isZero();
+    }
+
+    private static WorkRecordDto workRecord(LocalDateTime startTime, LocalDateTime endTime,
+            Double workHours) {
+        return WorkRecordDto.builder()
+                .id("wr-001")
+                .employeeId("emp-001")
+                .workDate(startTime != null ? startTime.toLocalDate() : null)
+                .startTime(startTime)
+                .endTime(endTime)
+                .workHours(workHours)
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.dto.WorkRecordDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link WorkRecordRepository} の単体テスト.
+ */
+class WorkRecordRepositoryTest {
+
+    private static final YearMonth JUNE = YearMonth.of(2025, 6);
+    private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+    @TempDir
+    Path directory;
+
+    private Path snapshotFile;
+    private WorkRecordRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshotFile = directory.resolve("snapshot.jsonl.gz");
+        repository = new WorkRecordRepository(snapshotFile);
+    }
+
+    @Test
+    @DisplayName("期間検索_正常系_開始日時が期間内の勤務記録を開始日時順に取得する")
+    void findByEmployee_正常系_期間() {
+        // Given
+        repository.save(workRecord("wr-003", "emp-001", LocalDateTime.of(2025, 6, 10, 9, 0)));
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 6, 2, 9, 0)));
+        repository.save(workRecord("wr-002", "emp-001", LocalDateTime.of(2025, 6, 5, 13, 0)));
+        repository.save(workRecord("wr-004", "emp-002", LocalDateTime.of(2025, 6, 5, 9, 0)));
+
+        // When: 境界ちょうどの開始日時を含む
+        List<WorkRecordDto> records = repository.findByEmployee("emp-001",
+                LocalDateTime.of(2025, 6, 5, 13, 0), LocalDateTime.of(2025, 6, 10, 9, 0));
+
+        // Then
+        assertThat(ids(records)).containsExactly("wr-002", "wr-003");
+        assertThat(repository.findByEmployee("emp-001", LocalDateTime.of(2025, 6, 3, 0, 0),
+                LocalDateTime.of(2025, 6, 4, 0, 0))).isEmpty();
+        assertThat(repository.findByEmployee("emp-999", LocalDateTime.MIN,
+                LocalDateTime.MAX)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("月検索_正常系_月初・月末の勤務記録を含み、前後の月は含まない")
+    void findByEmployeeAndMonth_正常系_月の境界() {
+        // Given
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 5, 31, 23, 0)));
+        repository.save(workRecord("wr-002", "emp-001", LocalDateTime.of(2025, 6, 1, 0, 0)));
+        repository.save(workRecord("wr-003", "emp-001", LocalDateTime.of(2025, 6, 30, 23, 0)));
+        repository.save(workRecord("wr-004", "emp-001", LocalDateTime.of(2025, 7, 1, 0, 0)));
+
+        // When
+        List<WorkRecordDto> records = repository.findByEmployeeAndMonth("emp-001", JUNE);
+
+        // Then
+        assertThat(ids(records)).containsExactly("wr-002", "wr-003");
+    }
+
+    @Test
+    @DisplayName("月検索_正常系_従業員ID順に、勤務記録のある従業員だけをまとめる")
+    void findByMonthGroupedByEmployee_正常系() {
+        // Given
+        repository.save(workRecord("wr-001", "emp-002", LocalDateTime.of(2025, 6, 3, 9, 0)));
+        repository.save(workRecord("wr-002", "emp-001", LocalDateTime.of(2025, 6, 4, 9, 0)));
+        repository.save(workRecord("wr-003", "emp-001", LocalDateTime.of(2025, 6, 2, 9, 0)));
+        repository.save(workRecord("wr-004", "emp-003", LocalDateTime.of(2025, 7, 1, 9, 0)));
+
+        // When
+        Map<String, List<WorkRecordDto>> grouped = repository.findByMonthGroupedByEmployee(JUNE);
+
+        // Then
+        assertThat(grouped.keySet()).containsExactly("emp-001", "emp-002");
+        assertThat(ids(grouped.get("emp-001"))).containsExactly("wr-003", "wr-002");
+    }
+
+    @Test
+    @DisplayName("期間内の処理_正常系_勤務日が期間内の勤務記録を従業員ID順に処理する")
+    void forEachInPeriod_正常系() {
+        // Given
+        repository.save(workRecord("wr-001", "emp-002", LocalDateTime.of(2025, 6, 1, 9, 0)));
+        repository.save(workRecord("wr-002", "emp-001", LocalDateTime.of(2025, 6, 30, 22, 0)));
+        repository.save(workRecord("wr-003", "emp-001", LocalDateTime.of(2025, 7, 1, 9, 0)));
+
+        // When
+        List<String> ids = new ArrayList<>();
+        repository.forEachInPeriod(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30),
+                workRecord -> ids.add(workRecord.getId()));
+
+        // Then
+        assertThat(ids).containsExactly("wr-002", "wr-001");
+    }
+
+    @Test
+    @DisplayName("更新_正常系_従業員と月を変えると元の従業員・月から外れ、両方の月の版が上がる")
+    void save_正常系_従業員と月の変更() {
+        // Given
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 6, 30, 9, 0)));
+        repository.save(workRecord("wr-002", "emp-003", LocalDateTime.of(2025, 8, 1, 9, 0)));
+        long juneBefore = repository.versionOf(JUNE, JUNE);
+        long julyBefore = repository.versionOf(JULY, JULY);
+        long augustBefore = repository.versionOf(JULY.plusMonths(1), JULY.plusMonths(1));
+
+        // When
+        WorkRecordDto previous = repository.save(workRecord("wr-001", "emp-002",
+                LocalDateTime.of(2025, 7, 1, 9, 0)));
+
+        // Then
+        assertThat(previous.getEmployeeId()).isEqualTo("emp-001");
+        assertThat(repository.size()).isEqualTo(2);
+        assertThat(repository.findByEmployeeAndMonth("emp-001", JUNE)).isEmpty();
+        assertThat(ids(repository.findByEmployeeAndMonth("emp-002", JULY)))
+                .containsExactly("wr-001");
+        assertThat(repository.findLatest("emp-001", 10)).isEmpty();
+        assertThat(repository.versionOf(JUNE, JUNE)).isGreaterThan(juneBefore);
+        assertThat(repository.versionOf(JULY, JULY)).isGreaterThan(julyBefore);
+        assertThat(repository.versionOf(JULY.plusMonths(1), JULY.plusMonths(1)))
+                .isEqualTo(augustBefore);
+        assertThat(repository.versionOf(JUNE, JULY.plusMonths(1)))
+                .isEqualTo(repository.versionOf(JULY, JULY));
+    }
+
+    @Test
+    @DisplayName("版_境界値_勤務記録のない期間・長い期間・逆順の期間")
+    void versionOf_境界値() {
+        // Given
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 6, 2, 9, 0)));
+
+        // When & Then
+        assertThat(repository.versionOf(JULY, JULY)).isZero();
+        assertThat(repository.versionOf(YearMonth.of(1, 1), YearMonth.of(9999, 12)))
+                .isEqualTo(repository.versionOf(JUNE, JUNE))
+                .isPositive();
+        assertThat(repository.versionOf(JULY, JUNE)).isZero();
+    }
+
+    @Test
+    @DisplayName("保存_異常系_開始日時のない勤務記録は保存しない")
+    void save_異常系_開始日時なし() {
+        WorkRecordDto workRecord = workRecord("wr-001", "emp-001",
+                LocalDateTime.of(2025, 6, 2, 9, 0));
+        workRecord.setStartTime(null);
+
+        assertThatThrownBy(() -> repository.save(workRecord))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("スナップショット_正常系_書き出したスナップショットを次の起動時に読み込む")
+    void snapshotIfChanged_正常系_再読み込み() throws IOException {
+        // Given
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 6, 2, 9, 0)));
+        repository.save(workRecord("wr-007", "emp-002", LocalDateTime.of(2025, 6, 8, 21, 0)));
+
+        // When
+        repository.snapshotIfChanged();
+        WorkRecordRepository reloaded = new WorkRecordRepository(snapshotFile);
+
+        // Then: 時間帯別の勤務時間も含めて同じ内容で、IDの採番は続きから
+        assertThat(reloaded.findAll()).isEqualTo(repository.findAll());
+        assertThat(reloaded.findById("wr-007").orElseThrow().getHolidayMinutes())
+                .isEqualTo(180);
+        assertThat(ids(reloaded.findByEmployeeAndMonth("emp-002", JUNE)))
+                .containsExactly("wr-007");
+        assertThat(reloaded.nextId()).isEqualTo("wr-008");
+        assertThat(Files.exists(directory.resolve("snapshot.jsonl.gz.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("スナップショット_正常系_変更がなければ書き出さない")
+    void snapshotIfChanged_正常系_変更なし() throws IOException {
+        // Given
+        repository.save(workRecord("wr-001", "emp-001", LocalDateTime.of(2025, 6, 2, 9, 0)));
+        repository.snapshotIfChanged();
+        Files.delete(snapshotFile);
+
+        // When
+        repository.snapshotIfChanged();
+
+        // Then
+        assertThat(snapshotFile).doesNotExist();
+    }
+
+    private static WorkRecordDto workRecord(String id, String employeeId,
+            LocalDateTime startTime) {
+        return WorkRecordDto.builder()
+                .id(id)
+                .employeeId(employeeId)
+                .workDate(startTime.toLocalDate())
+                .startTime(startTime)
+                .endTime(startTime.plusHours(3))
+                .workTypeId(1)
+                .build();
+    }
+
+    private static List<String> ids(List<WorkRecordDto> records) {
+        return records.stream().map(WorkRecordDto::getId).toList();
+    }
+}
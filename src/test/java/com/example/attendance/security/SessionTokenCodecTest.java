@@ -0,0 +1,143 @@
+package com.example.attendance.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SessionTokenCodec} の単体テスト.
+ */
+class SessionTokenCodecTest {
+
+    private static final long NOW = 1_750_000_000L;
+
+    private final SessionTokenCodec codec = new SessionTokenCodec(key((byte) 1));
+
+    @Test
+    @DisplayName("トークン_正常系_生成したトークンを検証するとユーザーと有効期限が戻る")
+    void decode_正常系_往復() {
+        // Given
+        String token = codec.encode(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"), NOW + 60);
+
+        // When
+        SessionTokenCodec.Token decoded = codec.decode(token, NOW);
+
+        // Then
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.user()).isEqualTo(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"));
+        assertThat(decoded.expiresAtEpochSecond()).isEqualTo(NOW + 60);
+    }
+
+    @Test
+    @DisplayName("トークン_正常系_従業員IDのない管理者")
+    void decode_正常系_管理者() {
+        // Given
+        String token = codec.encode(new CurrentUser(CurrentUser.ROLE_ADMIN, null), NOW + 60);
+
+        // When
+        SessionTokenCodec.Token decoded = codec.decode(token, NOW);
+
+        // Then
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.user().isAdmin()).isTrue();
+        assertThat(decoded.user().getEmployeeId()).isNull();
+    }
+
+    @Test
+    @DisplayName("トークン_境界値_有効期限ちょうど以降は無効")
+    void decode_境界値_有効期限() {
+        // Given
+        String token = codec.encode(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"), NOW);
+
+        // When & Then
+        assertThat(codec.decode(token, NOW - 1)).isNotNull();
+        assertThat(codec.decode(token, NOW)).isNull();
+        assertThat(codec.decode(token, NOW + 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("トークン_異常系_本文を書き換えたトークンは無効")
+    void decode_異常系_本文の改ざん() {
+        // Given: 一般ユーザーのトークンの署名のまま、本文を管理者に書き換える
+        String token = codec.encode(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"), NOW + 60);
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        String forgedBody = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("1|ADMIN||" + (NOW + 60)).getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThat(codec.decode(forgedBody + "." + signature, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("トークン_異常系_署名を書き換えたトークンは無効")
+    void decode_異常系_署名の改ざん() {
+        // Given
+        String token = codec.encode(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"), NOW + 60);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        // When & Then
+        assertThat(codec.decode(tampered, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("トークン_異常系_別の鍵で署名したトークンは無効")
+    void decode_異常系_別の鍵() {
+        // Given
+        SessionTokenCodec other = new SessionTokenCodec(key((byte) 2));
+        String token = other.encode(new CurrentUser(CurrentUser.ROLE_USER, "emp-001"), NOW + 60);
+
+        // When & Then
+        assertThat(codec.decode(token, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("トークン_異常系_形式が不正な文字列は無効")
+    void decode_異常系_形式不正() {
+        assertThat(codec.decode(null, NOW)).isNull();
+        assertThat(codec.decode("", NOW)).isNull();
+        assertThat(codec.decode("no-separator", NOW)).isNull();
+        assertThat(codec.decode(".signature-only", NOW)).isNull();
+        assertThat(codec.decode("body.!!not-base64!!", NOW)).isNull();
+        // 署名は正しいが本文の形式がトークンでない
+        assertThat(codec.decode(codec.sign("not|a|token"), NOW)).isNull();
+        assertThat(codec.decode(codec.sign("1|USER|emp-001|not-a-number"), NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("署名_正常系_任意の文字列を署名・検証できる")
+    void verify_正常系_往復() {
+        // Given
+        String body = "{\"message\":\"勤務記録を保存しました\"}";
+
+        // When
+        String signed = codec.sign(body);
+
+        // Then
+        assertThat(codec.verify(signed)).isEqualTo(body);
+        assertThat(codec.verify(signed.substring(1))).isNull();
+    }
+
+    @Test
+    @DisplayName("鍵_異常系_短い鍵は受け付けない")
+    void constructor_異常系_短い鍵() {
+        byte[] shortKey = new byte[SessionTokenCodec.MIN_KEY_LENGTH - 1];
+
+        assertThatThrownBy(() -> new SessionTokenCodec(shortKey))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] key(byte value) {
+        byte[] key = new byte[SessionTokenCodec.MIN_KEY_LENGTH];
+        Arrays.fill(key, value);
+        return key;
+    }
+}
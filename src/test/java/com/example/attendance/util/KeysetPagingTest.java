@@ -0,0 +1,146 @@
+package com.example.attendance.util;
+
+import com.example.attendance.dto.PageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link KeysetPaging} の単体テスト（カーソルは {@link PageCursor} で往復させる）.
+ */
+class KeysetPagingTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    /** キー 10, 20, ..., 100 の索引. */
+    private NavigableMap<Integer, String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TreeMap<>();
+        for (int key = 10; key <= 100; key += 10) {
+            index.put(key, "row-" + key);
+        }
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_先頭ページは前のページなし")
+    void page_正常系_先頭ページ() {
+        // When
+        PageDto<String> page = page(null, null, row -> true);
+
+        // Then
+        assertThat(page.getItems()).containsExactly("row-10", "row-20", "row-30");
+        assertThat(page.getPreviousCursor()).isNull();
+        assertThat(keyOf(page.getNextCursor())).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_次へのカーソルを辿ると全件を重複・欠落なく取得できる")
+    void page_正常系_次へで全件() {
+        // When
+        List<String> rows = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageDto<String> page = page(cursor, null, row -> true);
+            rows.addAll(page.getItems());
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(rows).containsExactlyElementsOf(index.values());
+        assertThat(pageSizes).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_前へのカーソルで直前のページに戻れる")
+    void page_正常系_前へ() {
+        // Given: 2ページ目（40, 50, 60）
+        PageDto<String> first = page(null, null, row -> true);
+        PageDto<String> second = page(first.getNextCursor(), null, row -> true);
+
+        // When
+        PageDto<String> back = page(null, second.getPreviousCursor(), row -> true);
+
+        // Then
+        assertThat(second.getItems()).containsExactly("row-40", "row-50", "row-60");
+        assertThat(back.getItems()).isEqualTo(first.getItems());
+        assertThat(back.getPreviousCursor()).isNull();
+        assertThat(back.getNextCursor()).isEqualTo(first.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_最終ページは次のページなし")
+    void page_正常系_最終ページ() {
+        // When
+        PageDto<String> last = page(PageCursor.encode("90"), null, row -> true);
+
+        // Then
+        assertThat(last.getItems()).containsExactly("row-100");
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(keyOf(last.getPreviousCursor())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_ページ間で行が追加・削除されても重複・欠落しない")
+    void page_正常系_ページ間の更新() {
+        // Given
+        PageDto<String> first = page(null, null, row -> true);
+        index.put(5, "row-5");
+        index.put(35, "row-35");
+        index.remove(30);
+
+        // When
+        PageDto<String> second = page(first.getNextCursor(), null, row -> true);
+
+        // Then: カーソルの行（30）が削除されていても、その次の行から取得する
+        assertThat(second.getItems()).containsExactly("row-35", "row-40", "row-50");
+    }
+
+    @Test
+    @DisplayName("ページ_正常系_絞り込み条件に一致する行だけをページの件数分取得する")
+    void page_正常系_絞り込み() {
+        // Given
+        Predicate<String> multiplesOf20 = row -> Integer.parseInt(row.substring(4)) % 20 == 0;
+
+        // When
+        PageDto<String> first = page(null, null, multiplesOf20);
+        PageDto<String> second = page(first.getNextCursor(), null, multiplesOf20);
+
+        // Then
+        assertThat(first.getItems()).containsExactly("row-20", "row-40", "row-60");
+        assertThat(second.getItems()).containsExactly("row-80", "row-100");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("ページ_境界値_該当なし")
+    void page_境界値_該当なし() {
+        // When
+        PageDto<String> page = page(null, null, row -> false);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getPreviousCursor()).isNull();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private PageDto<String> page(String after, String before, Predicate<String> filter) {
+        return KeysetPaging.page(index, filter, keyOf(after), keyOf(before), PAGE_SIZE,
+                key -> PageCursor.encode(Integer.toString(key)));
+    }
+
+    private static Integer keyOf(String cursor) {
+        return cursor != null ? Integer.valueOf(PageCursor.decode(cursor, 1)[0]) : null;
+    }
+}
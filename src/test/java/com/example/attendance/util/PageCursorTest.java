@@ -0,0 +1,63 @@
+package com.example.attendance.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link PageCursor} の単体テスト.
+ */
+class PageCursorTest {
+
+    @Test
+    @DisplayName("カーソル_正常系_符号化した値を元に戻せる")
+    void decode_正常系_往復() {
+        // Given
+        String cursor = PageCursor.encode("2025-06-02", "wr-012");
+
+        // When
+        String[] values = PageCursor.decode(cursor, 2);
+
+        // Then
+        assertThat(values).containsExactly("2025-06-02", "wr-012");
+    }
+
+    @Test
+    @DisplayName("カーソル_正常系_空の値・日本語を含む値")
+    void decode_正常系_空の値と日本語() {
+        // Given
+        String cursor = PageCursor.encode("", "山田 花子", "");
+
+        // When
+        String[] values = PageCursor.decode(cursor, 3);
+
+        // Then
+        assertThat(values).containsExactly("", "山田 花子", "");
+    }
+
+    @Test
+    @DisplayName("カーソル_正常系_URLにそのまま使える文字だけで構成される")
+    void encode_正常系_URLセーフ() {
+        String cursor = PageCursor.encode("???", ">>>", "~~~");
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("カーソル_異常系_値の数が異なる")
+    void decode_異常系_値の数() {
+        String cursor = PageCursor.encode("2025-06-02", "wr-012");
+
+        assertThatThrownBy(() -> PageCursor.decode(cursor, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("カーソル_異常系_Base64URLでない文字列")
+    void decode_異常系_形式不正() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}